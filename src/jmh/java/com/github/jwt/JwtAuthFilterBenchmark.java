@@ -0,0 +1,76 @@
+package com.github.jwt;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.cache.BoundedCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+
+/**
+ * 요청 한 건당 토큰 처리 비용 비교
+ * - legacy*: 호출마다 Algorithm/JWTVerifier를 새로 만들고 validate/getUserId/getRole에서 각각 서명 검증
+ * - verifyAndParse*: 캐시된 검증기로 한 번만 검증하고, 컨트롤러는 요청 속성의 JwtPrincipal을 재사용
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+public class JwtAuthFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key";
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret(SECRET);
+        props.setIssuer("safe-stargram");
+        props.setAccessTtl(Duration.ofMinutes(10));
+        props.setRefreshTtl(Duration.ofDays(14));
+        provider = new JwtTokenProvider(props, new BoundedCache<>("verifiedToken", 1000, props.getAccessTtl()));
+        token = provider.generateAccessToken(42L, "ROLE_USER");
+    }
+
+    // 변경 전 JwtTokenProvider.verifier(): 호출마다 새로 생성
+    private static DecodedJWT legacyDecode(String token) {
+        return JWT.require(Algorithm.HMAC256(SECRET)).build().verify(token);
+    }
+
+    /** 변경 전 필터: validate + getUserId + getRole (검증 3회) */
+    @Benchmark
+    public void legacyFilter(Blackhole bh) {
+        legacyDecode(token);
+        bh.consume(Long.valueOf(legacyDecode(token).getSubject()));
+        bh.consume(legacyDecode(token).getClaim("role").asString());
+    }
+
+    /** 변경 전 필터 + BackofficeController (extractTokenFromRequest의 validate + getUserId + getRole, 검증 6회) */
+    @Benchmark
+    public void legacyFilterAndController(Blackhole bh) {
+        legacyFilter(bh);
+        legacyDecode(token);
+        bh.consume(Long.valueOf(legacyDecode(token).getSubject()));
+        bh.consume(legacyDecode(token).getClaim("role").asString());
+    }
+
+    /** 변경 후 필터: 캐시된 검증기로 한 번 검증 */
+    @Benchmark
+    public JwtPrincipal verifyAndParseFilter() {
+        return provider.verifyAndParse(token);
+    }
+
+    /** 변경 후 필터 + 컨트롤러: 컨트롤러는 필터가 만든 JwtPrincipal을 그대로 사용 */
+    @Benchmark
+    public void verifyAndParseFilterAndController(Blackhole bh) {
+        JwtPrincipal principal = provider.verifyAndParse(token);
+        bh.consume(principal.userId());
+        bh.consume(principal.role());
+    }
+}
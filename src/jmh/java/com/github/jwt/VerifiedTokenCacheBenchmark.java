@@ -0,0 +1,91 @@
+package com.github.jwt;
+
+import com.github.cache.BoundedCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * 검증 결과 캐시 적용 전/후 필터의 토큰 처리 비용 비교
+ * 활성 사용자(activeTokens)마다 액세스 토큰 1개를 두고, 요청은 Zipf(s=1) 분포로 토큰을 골라 재사용
+ * (소수의 모바일 클라이언트가 같은 토큰으로 많은 요청을 보내는 상황)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=VerifiedTokenCacheBenchmark
+ */
+@State(Scope.Benchmark)
+public class VerifiedTokenCacheBenchmark {
+
+    private static final int REQUEST_SAMPLES = 1 << 16;
+
+    @Param({"50", "500"})
+    public int activeTokens;
+
+    private JwtTokenProvider provider;
+    private BoundedCache<String, JwtPrincipal> cache;
+    private String[] requests;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecret("benchmark-secret-key-benchmark-secret-key");
+        props.setIssuer("safe-stargram");
+        props.setAccessTtl(Duration.ofMinutes(10));
+        props.setRefreshTtl(Duration.ofDays(14));
+        cache = new BoundedCache<>("verifiedToken", 10_000, props.getAccessTtl());
+        provider = new JwtTokenProvider(props, cache);
+
+        String[] tokens = new String[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            tokens[i] = provider.generateAccessToken((long) i + 1, i % 10 == 0 ? "ROLE_ADMIN" : "ROLE_USER");
+        }
+
+        // Zipf 누적분포로 요청 순서를 미리 만들어 측정 중 난수 비용 제외
+        double[] cdf = new double[activeTokens];
+        double sum = 0;
+        for (int i = 0; i < activeTokens; i++) {
+            sum += 1.0 / (i + 1);
+            cdf[i] = sum;
+        }
+        Random random = new Random(42);
+        requests = new String[REQUEST_SAMPLES];
+        for (int i = 0; i < REQUEST_SAMPLES; i++) {
+            double u = random.nextDouble() * sum;
+            int index = 0;
+            while (cdf[index] < u) {
+                index++;
+            }
+            requests[i] = tokens[index];
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void printHitRatio() {
+        System.out.println("verifiedToken cache stats: " + cache.stats());
+    }
+
+    private String nextToken() {
+        String token = requests[cursor];
+        cursor = (cursor + 1) & (REQUEST_SAMPLES - 1);
+        return token;
+    }
+
+    /** 캐시 없음: 요청마다 서명 검증 + 클레임 디코딩 */
+    @Benchmark
+    public JwtPrincipal uncached() {
+        return provider.verifyAndParse(nextToken());
+    }
+
+    /** 캐시 사용: 토큰 SHA-256 조회 후 적중 시 검증 생략 */
+    @Benchmark
+    public JwtPrincipal cached() {
+        return provider.verifyAndParseCached(nextToken());
+    }
+}
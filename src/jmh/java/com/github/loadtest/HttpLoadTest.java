@@ -0,0 +1,220 @@
+package com.github.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 가상 스레드 모드 on/off 비교용 HTTP 부하 테스트
+ * - 동시 접속 수를 단계별로 올리며 각 단계마다 일정 시간 요청을 반복 (응답을 받으면 바로 다음 요청, closed loop)
+ * - 단계별 처리량, p50/p95/p99, 오류율을 출력하고 CSV로 저장
+ * - p99가 기준 이하이고 오류율이 1% 미만인 가장 높은 단계를 최대 동시 처리 수로 보고
+ * - 클라이언트 쪽 스레드가 병목이 되지 않도록 요청마다 가상 스레드 사용
+ *
+ * 실행 예:
+ *   VIRTUAL_THREADS=false ./gradlew bootRun   →  ./gradlew loadTest -Pargs="--label=platform --out=platform.csv"
+ *   VIRTUAL_THREADS=true  ./gradlew bootRun   →  ./gradlew loadTest -Pargs="--label=virtual --out=virtual.csv"
+ *   ./gradlew loadTest -Pargs="--compare platform.csv virtual.csv"
+ *
+ * 피닝(가상 스레드가 캐리어 스레드를 점유한 채 대기) 확인은 서버를 -Djdk.tracePinnedThreads=short 로 실행
+ */
+public class HttpLoadTest {
+
+    private static final double MAX_ERROR_RATE = 0.01;
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        if (options.containsKey("compare")) {
+            compare(Path.of(options.get("compare")), Path.of(options.get("compare2")));
+            return;
+        }
+
+        URI target = URI.create(options.getOrDefault("url", "http://localhost:8080/sites"));
+        String label = options.getOrDefault("label", "run");
+        Duration stepDuration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("seconds", "20")));
+        long p99LimitMs = Long.parseLong(options.getOrDefault("p99-limit-ms", "500"));
+        int[] levels = Arrays.stream(options.getOrDefault("levels", "50,100,200,400,800,1600").split(","))
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest.Builder request = HttpRequest.newBuilder(target).timeout(Duration.ofSeconds(30)).GET();
+        if (options.containsKey("token")) {
+            request.header("Authorization", "Bearer " + options.get("token"));
+        }
+
+        // 워밍업 (JIT, 커넥션 풀, 캐시)
+        runStep(client, request.build(), levels[0], Duration.ofSeconds(5));
+
+        List<StepResult> results = new ArrayList<>();
+        System.out.printf("%s %s%n", label, target);
+        System.out.printf("%8s %10s %9s %9s %9s %8s%n", "conc", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "errors");
+        for (int concurrency : levels) {
+            StepResult result = runStep(client, request.build(), concurrency, stepDuration);
+            results.add(result);
+            System.out.printf("%8d %10.1f %9.1f %9.1f %9.1f %7.2f%%%n", concurrency, result.throughput(),
+                    result.p50Ms(), result.p95Ms(), result.p99Ms(), result.errorRate() * 100);
+        }
+        System.out.printf("max concurrency (p99 <= %d ms, errors < 1%%): %d%n",
+                p99LimitMs, maxConcurrency(results, p99LimitMs));
+
+        if (options.containsKey("out")) {
+            writeCsv(Path.of(options.get("out")), results);
+        }
+    }
+
+    /** 동시 사용자 수만큼 가상 스레드가 요청을 반복하고 응답 시간을 기록 */
+    static StepResult runStep(HttpClient client, HttpRequest request, int concurrency, Duration duration)
+            throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        LongAdder errors = new LongAdder();
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                users.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 500) {
+                                errors.increment();
+                            }
+                        } catch (IOException e) {
+                            errors.increment();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        recorder.record(System.nanoTime() - start);
+                    }
+                });
+            }
+        }
+        long total = recorder.count();
+        return new StepResult(concurrency,
+                total / (duration.toNanos() / 1e9),
+                recorder.percentileMs(0.50), recorder.percentileMs(0.95), recorder.percentileMs(0.99),
+                total == 0 ? 1.0 : (double) errors.sum() / total);
+    }
+
+    static int maxConcurrency(List<StepResult> results, long p99LimitMs) {
+        int max = 0;
+        for (StepResult result : results) {
+            if (result.p99Ms() <= p99LimitMs && result.errorRate() < MAX_ERROR_RATE) {
+                max = Math.max(max, result.concurrency());
+            }
+        }
+        return max;
+    }
+
+    private static void compare(Path first, Path second) throws IOException {
+        List<StepResult> a = readCsv(first);
+        List<StepResult> b = readCsv(second);
+        System.out.printf("%8s %12s %12s %12s %12s%n", "conc",
+                "p99 " + name(first), "p99 " + name(second), "req/s " + name(first), "req/s " + name(second));
+        for (StepResult left : a) {
+            b.stream().filter(right -> right.concurrency() == left.concurrency()).findFirst().ifPresent(right ->
+                    System.out.printf("%8d %12.1f %12.1f %12.1f %12.1f%n", left.concurrency(),
+                            left.p99Ms(), right.p99Ms(), left.throughput(), right.throughput()));
+        }
+    }
+
+    private static String name(Path csv) {
+        String file = csv.getFileName().toString();
+        return file.endsWith(".csv") ? file.substring(0, file.length() - 4) : file;
+    }
+
+    private static void writeCsv(Path out, List<StepResult> results) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("concurrency,throughput,p50_ms,p95_ms,p99_ms,error_rate");
+        for (StepResult r : results) {
+            lines.add(r.concurrency() + "," + r.throughput() + "," + r.p50Ms() + "," + r.p95Ms() + ","
+                    + r.p99Ms() + "," + r.errorRate());
+        }
+        Files.write(out, lines);
+    }
+
+    private static List<StepResult> readCsv(Path in) throws IOException {
+        return Files.readAllLines(in).stream()
+                .skip(1)
+                .map(line -> line.split(","))
+                .map(c -> new StepResult(Integer.parseInt(c[0]), Double.parseDouble(c[1]), Double.parseDouble(c[2]),
+                        Double.parseDouble(c[3]), Double.parseDouble(c[4]), Double.parseDouble(c[5])))
+                .toList();
+    }
+
+    // --key=value 형식, --compare a.csv b.csv 는 위치 인자로 처리
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--compare") && i + 2 < args.length) {
+                options.put("compare", args[i + 1]);
+                options.put("compare2", args[i + 2]);
+                i += 2;
+            } else if (args[i].startsWith("--") && args[i].contains("=")) {
+                int eq = args[i].indexOf('=');
+                options.put(args[i].substring(2, eq), args[i].substring(eq + 1));
+            }
+        }
+        return options;
+    }
+
+    record StepResult(int concurrency, double throughput, double p50Ms, double p95Ms, double p99Ms, double errorRate) {
+    }
+
+    /**
+     * 응답 시간 히스토그램 (0.1ms 단위, 60초까지, 넘는 값은 마지막 구간)
+     * 요청마다 값을 저장하지 않으므로 긴 실행에서도 메모리가 일정
+     */
+    static class LatencyRecorder {
+
+        private static final long BUCKET_NANOS = 100_000;
+        private static final int BUCKETS = 600_000;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+
+        void record(long nanos) {
+            int bucket = (int) Math.min(BUCKETS - 1, nanos / BUCKET_NANOS);
+            buckets.incrementAndGet(bucket);
+            count.increment();
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        double percentileMs(double percentile) {
+            long total = count();
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return (i + 1) * BUCKET_NANOS / 1e6;
+                }
+            }
+            return BUCKETS * BUCKET_NANOS / 1e6;
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package com.github.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한(LRU) + TTL 인메모리 캐시
+ * - read-through 조회(get/getAll)는 로더를 락 밖에서 실행하고, 로딩 중 무효화가 있었다면 결과를 캐시하지 않습니다.
+ * - 적중/미스/축출 횟수를 집계하여 stats()로 노출합니다.
+ * - remote 계층(Redis 등)이 있으면 로컬 미스 시 remote를 먼저 조회하고, 로더 결과와 무효화를 remote에도 반영합니다.
+ */
+public class BoundedCache<K, V> {
+
+    private record CacheEntry<V>(V value, long expiresAt) {}
+
+    private final String name;
+    private final int maxSize;
+    private final long ttlMillis;   // 0 이하이면 만료 없음
+    private final LinkedHashMap<K, CacheEntry<V>> map;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final RemoteCacheTier<K, V> remote;   // null이면 로컬 전용
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder remoteHits = new LongAdder();
+
+    // 무효화가 일어날 때마다 증가 (로딩 중 무효화된 결과가 캐시에 들어가는 것을 방지)
+    private long generation = 0;
+
+    public BoundedCache(String name, int maxSize, Duration ttl) {
+        this(name, maxSize, ttl, null);
+    }
+
+    public BoundedCache(String name, int maxSize, Duration ttl, RemoteCacheTier<K, V> remote) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl != null ? ttl.toMillis() : 0;
+        this.map = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CacheEntry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.remote = remote;
+        if (remote != null) {
+            // 다른 인스턴스에서 변경된 항목은 로컬에서만 제거 (remote는 이미 삭제됨)
+            remote.onRemoteInvalidation(this::invalidateLocal, this::invalidateAllLocal);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V getIfPresent(K key) {
+        V local = getLocal(key);
+        if (local != null || remote == null) {
+            return local;
+        }
+        long loadGeneration = currentGeneration();
+        V shared = remote.get(key);
+        if (shared != null) {
+            remoteHits.increment();
+            putIfGeneration(key, shared, loadGeneration);
+        }
+        return shared;
+    }
+
+    private V getLocal(K key) {
+        lock.lock();
+        try {
+            CacheEntry<V> entry = map.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (isExpired(entry)) {
+                map.remove(key);
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 캐시에 없으면 loader로 읽어서 저장 (null 결과는 캐시하지 않음) */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long loadGeneration = currentGeneration();
+        V loaded = loader.apply(key);
+        if (loaded != null && putIfGeneration(key, loaded, loadGeneration) && remote != null) {
+            remote.putAll(Map.of(key, loaded));
+        }
+        return loaded;
+    }
+
+    /** 여러 키를 한 번에 조회, 캐시에 없는 키만 bulkLoader로 한 번에 읽어옴 */
+    public Map<K, V> getAll(Collection<? extends K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<K, V> result = new HashMap<>();
+        Set<K> missing = new LinkedHashSet<>();
+        for (K key : keys) {
+            V cached = getLocal(key);
+            if (cached != null) {
+                result.put(key, cached);
+            } else {
+                missing.add(key);
+            }
+        }
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        long loadGeneration = currentGeneration();
+        if (remote != null) {
+            // 로컬에 없는 키는 remote에서 한 번에 조회 (MGET)
+            remote.getAll(missing).forEach((key, value) -> {
+                remoteHits.increment();
+                putIfGeneration(key, value, loadGeneration);
+                result.put(key, value);
+                missing.remove(key);
+            });
+            if (missing.isEmpty()) {
+                return result;
+            }
+        }
+
+        Map<K, V> loaded = bulkLoader.apply(missing);
+        Map<K, V> stored = new HashMap<>();
+        if (loaded != null) {
+            loaded.forEach((key, value) -> {
+                if (value != null) {
+                    if (putIfGeneration(key, value, loadGeneration)) {
+                        stored.put(key, value);
+                    }
+                    result.put(key, value);
+                }
+            });
+        }
+        if (remote != null && !stored.isEmpty()) {
+            remote.putAll(stored);
+        }
+        return result;
+    }
+
+    public void put(K key, V value) {
+        lock.lock();
+        try {
+            map.put(key, new CacheEntry<>(value, expiresAt()));
+        } finally {
+            lock.unlock();
+        }
+        if (remote != null) {
+            remote.putAll(Map.of(key, value));
+        }
+    }
+
+    public void invalidate(K key) {
+        invalidateLocal(key);
+        if (remote != null) {
+            remote.delete(key);
+        }
+    }
+
+    public void invalidateAll() {
+        invalidateAllLocal();
+        if (remote != null) {
+            remote.deleteAll();
+        }
+    }
+
+    /** 여러 키를 한 번에 무효화 (로컬은 잠금 한 번, 원격은 삭제/전파 한 번) */
+    public void invalidateAll(Collection<? extends K> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            keys.forEach(map::remove);
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+        if (remote != null) {
+            remote.deleteAll(keys);
+        }
+    }
+
+    /** 값이 조건에 맞는 항목을 모두 제거하고 제거한 개수를 반환 (로컬 항목에만 적용) */
+    public int invalidateIf(Predicate<? super V> predicate) {
+        lock.lock();
+        try {
+            int before = map.size();
+            map.values().removeIf(entry -> predicate.test(entry.value()));
+            generation++;
+            return before - map.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void invalidateLocal(K key) {
+        lock.lock();
+        try {
+            map.remove(key);
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void invalidateAllLocal() {
+        lock.lock();
+        try {
+            map.clear();
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 안이라면 커밋 후에 한 번 더 무효화
+     * (커밋 전 다른 요청이 이전 데이터를 다시 캐시하는 경우 방지)
+     */
+    public void evict(K key) {
+        invalidate(key);
+        afterCommit(() -> invalidate(key));
+    }
+
+    public void evictAll() {
+        invalidateAll();
+        afterCommit(this::invalidateAll);
+    }
+
+    /** 여러 키를 evict와 같은 방식으로 한 번에 무효화 (일괄 수정용) */
+    public void evictAll(Collection<? extends K> keys) {
+        List<K> copy = List.copyOf(keys);
+        invalidateAll(copy);
+        afterCommit(() -> invalidateAll(copy));
+    }
+
+    public Map<String, Object> stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", name);
+        stats.put("size", size());
+        stats.put("maxSize", maxSize);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.sum());
+        if (remote != null) {
+            stats.put("remoteHits", remoteHits.sum());
+        }
+        stats.put("hitRatio", total == 0 ? 0.0 : (double) hitCount / total);
+        return stats;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return map.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean putIfGeneration(K key, V value, long expectedGeneration) {
+        lock.lock();
+        try {
+            if (generation != expectedGeneration) {
+                return false;
+            }
+            map.put(key, new CacheEntry<>(value, expiresAt()));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long currentGeneration() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long expiresAt() {
+        return ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+    }
+
+    private boolean isExpired(CacheEntry<V> entry) {
+        return System.currentTimeMillis() > entry.expiresAt();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+}
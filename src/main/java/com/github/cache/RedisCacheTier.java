@@ -0,0 +1,198 @@
+package com.github.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 공유 캐시 계층
+ * - 키: cache:{캐시 이름}:{키}, 값: JSON, 만료는 Redis TTL(SET PX)로 처리
+ * - 여러 키 조회는 MGET 한 번, 여러 키 저장은 파이프라인 한 번으로 처리
+ * - 삭제 시 cache:invalidate 채널로 발행하여 다른 인스턴스의 로컬 캐시도 비움
+ */
+@Slf4j
+public class RedisCacheTier<K, V> implements RemoteCacheTier<K, V> {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+
+    // 전체 무효화 메시지의 키 자리 표시 (캐시 키는 숫자/토큰 다이제스트라 겹치지 않음)
+    private static final String ALL_KEYS = "*";
+    // 여러 키를 한 메시지로 무효화할 때의 구분자
+    private static final String KEY_SEPARATOR = ",";
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    private final String name;
+    private final String keyPrefix;
+    private final String instanceId;
+    private final StringRedisTemplate redis;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final Class<V> valueType;
+    private final Function<String, K> keyParser;
+    private final Expiration expiration;
+
+    public RedisCacheTier(String name,
+                          String instanceId,
+                          StringRedisTemplate redis,
+                          RedisMessageListenerContainer listenerContainer,
+                          ObjectMapper objectMapper,
+                          Class<V> valueType,
+                          Function<String, K> keyParser,
+                          Duration ttl) {
+        this.name = name;
+        this.keyPrefix = "cache:" + name + ":";
+        this.instanceId = instanceId;
+        this.redis = redis;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.keyParser = keyParser;
+        this.expiration = ttl != null && !ttl.isZero() && !ttl.isNegative()
+                ? Expiration.from(ttl)
+                : Expiration.persistent();
+    }
+
+    @Override
+    public Map<K, V> getAll(Collection<? extends K> keys) {
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+        List<K> orderedKeys = new ArrayList<>(keys);
+        List<String> redisKeys = orderedKeys.stream().map(this::redisKey).toList();
+        try {
+            List<String> values = redis.opsForValue().multiGet(redisKeys);
+            Map<K, V> result = new HashMap<>();
+            if (values == null) {
+                return result;
+            }
+            for (int i = 0; i < orderedKeys.size(); i++) {
+                String json = values.get(i);
+                if (json != null) {
+                    result.put(orderedKeys.get(i), objectMapper.readValue(json, valueType));
+                }
+            }
+            return result;
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("Redis cache {} read failed: {}", name, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, String> serialized = new HashMap<>();
+            for (Map.Entry<? extends K, ? extends V> entry : entries.entrySet()) {
+                serialized.put(redisKey(entry.getKey()), objectMapper.writeValueAsString(entry.getValue()));
+            }
+            redis.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                serialized.forEach((key, json) -> conn.set(key, json, expiration, SetOption.upsert()));
+                return null;
+            });
+        } catch (RuntimeException | JsonProcessingException e) {
+            log.warn("Redis cache {} write failed: {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void delete(K key) {
+        try {
+            redis.delete(redisKey(key));
+            publish(String.valueOf(key));
+        } catch (RuntimeException e) {
+            log.warn("Redis cache {} delete failed: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 키를 DEL 한 번으로 삭제하고 무효화 메시지도 한 번만 발행
+     */
+    @Override
+    public void deleteAll(Collection<? extends K> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        try {
+            redis.delete(keys.stream().map(this::redisKey).toList());
+            publish(keys.stream().map(String::valueOf).collect(Collectors.joining(KEY_SEPARATOR)));
+        } catch (RuntimeException e) {
+            log.warn("Redis cache {} delete failed: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 이름 접두사로 SCAN 하면서 배치 단위로 삭제 (KEYS 명령으로 서버를 막지 않도록)
+     */
+    @Override
+    public void deleteAll() {
+        try {
+            List<String> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+            ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(DELETE_BATCH_SIZE).build();
+            try (Cursor<String> cursor = redis.scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() == DELETE_BATCH_SIZE) {
+                        redis.delete(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                redis.delete(batch);
+            }
+            publish(ALL_KEYS);
+        } catch (RuntimeException e) {
+            log.warn("Redis cache {} clear failed: {}", name, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onRemoteInvalidation(Consumer<K> keyInvalidated, Runnable allInvalidated) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            // 메시지 형식: {인스턴스 ID}|{캐시 이름}|{키[,키...]}
+            String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3 || instanceId.equals(parts[0]) || !name.equals(parts[1])) {
+                return;
+            }
+            if (ALL_KEYS.equals(parts[2])) {
+                allInvalidated.run();
+            } else {
+                for (String key : parts[2].split(KEY_SEPARATOR)) {
+                    keyInvalidated.accept(keyParser.apply(key));
+                }
+            }
+        }, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    private void publish(String key) {
+        redis.convertAndSend(INVALIDATION_CHANNEL, instanceId + "|" + name + "|" + key);
+    }
+
+    private String redisKey(K key) {
+        return keyPrefix + key;
+    }
+}
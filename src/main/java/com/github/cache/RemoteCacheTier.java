@@ -0,0 +1,36 @@
+package com.github.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * BoundedCache 뒤에 붙는 공유 캐시 계층 (여러 인스턴스가 같은 저장소를 사용)
+ * 구현은 저장소 장애 시 예외 대신 빈 결과를 반환하여 로컬 캐시/DB 경로로 동작이 이어지도록 합니다.
+ */
+public interface RemoteCacheTier<K, V> {
+
+    /** 여러 키를 한 번의 왕복으로 조회, 없는 키는 결과에서 빠짐 */
+    Map<K, V> getAll(Collection<? extends K> keys);
+
+    /** 여러 항목을 한 번에 저장 (만료 시간은 구현에서 설정한 TTL) */
+    void putAll(Map<? extends K, ? extends V> entries);
+
+    /** 공유 저장소에서 삭제하고 다른 인스턴스의 로컬 캐시에도 무효화를 전파 */
+    void delete(K key);
+
+    void deleteAll();
+
+    /** 여러 키를 한 번에 삭제하고 무효화도 한 번에 전파 (기본 구현은 키마다 delete) */
+    default void deleteAll(Collection<? extends K> keys) {
+        keys.forEach(this::delete);
+    }
+
+    /** 다른 인스턴스에서 보낸 무효화 수신 시 호출할 콜백 등록 */
+    void onRemoteInvalidation(Consumer<K> keyInvalidated, Runnable allInvalidated);
+
+    default V get(K key) {
+        return getAll(List.of(key)).get(key);
+    }
+}
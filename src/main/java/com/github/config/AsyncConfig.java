@@ -0,0 +1,62 @@
+package com.github.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 요청 스레드 밖에서 처리하는 백그라운드 작업용 실행기 설정
+ * 큐와 스레드 수를 제한하여 업로드가 몰려도 메모리/CPU 사용량이 일정 수준을 넘지 않도록 함
+ *
+ * spring.threads.virtual.enabled=true (VIRTUAL_THREADS=true) 이면 Tomcat 요청 처리, @Async/@Scheduled와 함께
+ * 파일 대기가 대부분인 uploadStorage 실행기도 가상 스레드로 실행
+ * 동시 실행 수와 큐 제한, 거부 정책은 그대로 유지하고 스레드만 가상 스레드로 바뀜
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // 업로드 이미지의 축소본(variant) 생성, 큐가 가득 차면 작업을 거부 (ImageVariantService에서 로그 후 무시)
+    // 디코딩/리사이즈는 CPU 작업이라 가상 스레드의 이점이 없으므로 항상 플랫폼 스레드 사용
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor(
+            @Value("${image.variants.threads:2}") int threads,
+            @Value("${image.variants.queue-capacity:200}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    // 여러 장 업로드 시 파일별 검증/해시/기록을 병렬 처리, 큐가 가득 차면 요청 스레드에서 직접 실행 (거부하지 않음)
+    @Bean
+    public ThreadPoolTaskExecutor uploadStorageExecutor(
+            @Value("${upload.storage.threads:4}") int threads,
+            @Value("${upload.storage.queue-capacity:100}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("upload-storage-");
+        useVirtualThreads(executor, "upload-storage-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    private void useVirtualThreads(ThreadPoolTaskExecutor executor, String namePrefix) {
+        if (virtualThreads) {
+            executor.setThreadFactory(Thread.ofVirtual().name(namePrefix, 1).factory());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.config;
+
+import com.github.cache.BoundedCache;
+import com.github.cache.RemoteCacheTier;
+import com.github.entity.PostEntity;
+import com.github.entity.UserEntity;
+import com.github.jwt.JwtPrincipal;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 인메모리 캐시 설정
+ * 캐시별 통계는 GET /debug/caches 에서 확인할 수 있습니다.
+ * cache.backend=redis 이면 게시글 상세/사용자 요약 캐시는 Redis 공유 계층을 함께 사용하여 인스턴스 간에 공유/무효화됩니다.
+ */
+@Configuration
+public class CacheConfig {
+
+    // 게시글 상세 (post + users 3중 JOIN 결과)
+    @Bean
+    public BoundedCache<Long, PostEntity> postDetailCache(
+            @Value("${cache.post-detail.max-size:1000}") int maxSize,
+            @Value("${cache.post-detail.ttl:PT5M}") Duration ttl,
+            ObjectProvider<RedisConfig.RedisCacheTiers> redisCacheTiers
+    ) {
+        RedisConfig.RedisCacheTiers tiers = redisCacheTiers.getIfAvailable();
+        RemoteCacheTier<Long, PostEntity> remote = tiers != null ? tiers.create("postDetail", PostEntity.class, Long::valueOf, ttl) : null;
+        return new BoundedCache<>("postDetail", maxSize, ttl, remote);
+    }
+
+    // 사용자 요약 정보 (이름/부서/직책/프로필 사진), 사용자 정보 변경 시 UserJdbcRepository에서 무효화
+    @Bean
+    public BoundedCache<Integer, UserEntity> userSummaryCache(
+            @Value("${cache.user-summary.max-size:2000}") int maxSize,
+            @Value("${cache.user-summary.ttl:PT10M}") Duration ttl,
+            ObjectProvider<RedisConfig.RedisCacheTiers> redisCacheTiers
+    ) {
+        RedisConfig.RedisCacheTiers tiers = redisCacheTiers.getIfAvailable();
+        RemoteCacheTier<Integer, UserEntity> remote = tiers != null ? tiers.create("userSummary", UserEntity.class, Integer::valueOf, ttl) : null;
+        return new BoundedCache<>("userSummary", maxSize, ttl, remote);
+    }
+
+    // 검증된 액세스 토큰 (토큰 SHA-256 → JwtPrincipal), 항목은 토큰 exp까지만 사용되고 로그아웃 시 제거
+    // 검증 비용을 줄이기 위한 인스턴스별 캐시이므로 Redis 계층을 붙이지 않음
+    @Bean
+    public BoundedCache<String, JwtPrincipal> verifiedTokenCache(
+            @Value("${cache.verified-token.max-size:10000}") int maxSize,
+            @Value("${jwt.access-ttl:PT10M}") Duration ttl
+    ) {
+        return new BoundedCache<>("verifiedToken", maxSize, ttl);
+    }
+}
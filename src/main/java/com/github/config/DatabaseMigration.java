@@ -0,0 +1,159 @@
+package com.github.config;
+
+import com.github.repository.PostCounterJdbcRepository;
+import com.github.repository.PostDailyStatsJdbcRepository;
+import com.github.repository.PostJdbcRepository;
+import com.github.repository.UploadBlobJdbcRepository;
+import com.github.token.JdbcRefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 시작 시 한 번 실행되는 스키마 보정 작업
+ * 모든 단계는 멱등(idempotent)하며, 실패해도 애플리케이션 기동은 계속됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatabaseMigration implements ApplicationRunner {
+
+    // 상태/위험성 컬럼 채우기 단위 (한 번의 UPDATE가 잠그는 최대 행 수)
+    private static final int STATUS_BACKFILL_CHUNK = 1000;
+
+    private final JdbcTemplate jdbc;
+    private final PostJdbcRepository postRepository;
+    private final PostDailyStatsJdbcRepository postDailyStatsRepository;
+    private final PostCounterJdbcRepository postCounterRepository;
+    private final UploadBlobJdbcRepository uploadBlobRepository;
+    private final ObjectProvider<JdbcRefreshTokenStore> jdbcRefreshTokenStore;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("=== DatabaseMigration 시작 ===");
+
+        // area/sub_area/post/post_photos 테이블 (예전에는 게시글 INSERT마다 실행되던 DDL)
+        try {
+            postRepository.createTableIfNotExists();
+        } catch (Exception e) {
+            log.warn("Failed to create post tables: {}", e.getMessage());
+        }
+
+        // 피드 커서 페이지네이션 (created_at, post_id) 정렬용 인덱스
+        createIndexIfNotExists("post", "idx_post_created_at", "created_at, post_id");
+        createIndexIfNotExists("post", "idx_post_sub_area_created_at", "sub_area_id, created_at, post_id");
+
+        // VARCHAR 플래그(is_checked, is_action_taken)와 위험성 문자열을 대체하는 TINYINT 컬럼
+        // 마지막 위치에 NULL 허용으로 추가하므로 MySQL 8에서는 INSTANT (테이블 재구성/잠금 없음)
+        addColumnIfNotExists("post", "check_status", "TINYINT");
+        addColumnIfNotExists("post", "action_status", "TINYINT");
+        addColumnIfNotExists("post", "reporter_risk_level", "TINYINT");
+        addColumnIfNotExists("post", "manager_risk_level", "TINYINT");
+        // 관리자 수정 낙관적 잠금용 버전 (기본값이 있는 NOT NULL 컬럼도 마지막 위치 추가는 INSTANT)
+        addColumnIfNotExists("post", "version", "INT NOT NULL DEFAULT 0");
+        // 예전 행 값 채우기 (post_id 구간별 자동 커밋, 인덱스는 채운 뒤에 만들어 채우는 동안 인덱스 갱신 비용이 없도록 함)
+        try {
+            int filled = postRepository.backfillStatusColumns(STATUS_BACKFILL_CHUNK);
+            if (filled > 0) {
+                log.info("Backfilled status columns for {} posts", filled);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to backfill post status columns: {}", e.getMessage());
+        }
+
+        // 기간 통계 인덱스: (sub_area_id, created_at)은 위 idx_post_sub_area_created_at가 선두 컬럼으로 이미 제공
+        createIndexIfNotExists("post", "idx_post_area_created_at", "area_id, created_at");
+        // 기간 집계(블록별/월별/고위험) 쿼리가 post 원본 행을 읽지 않도록 필요한 컬럼을 모두 포함한 커버링 인덱스
+        createIndexIfNotExists("post", "idx_post_stats_status", "created_at, sub_area_id, action_status, reporter_risk_level");
+        // 확인/조치 여부로 거른 피드 (상태 = ? 조건 안에서 created_at, post_id 순으로 범위 스캔)
+        createIndexIfNotExists("post", "idx_post_check_created", "check_status, created_at, post_id");
+        createIndexIfNotExists("post", "idx_post_action_created", "action_status, created_at, post_id");
+
+        // 게시글 목록의 사진 일괄 조회 (post_id IN (...) ORDER BY post_id, sort_order)
+        createIndexIfNotExists("post_photos", "idx_post_photos_post", "post_id, sort_order");
+
+        // 통계용 일별 집계 테이블 (데이터 채우기는 StatisticsService에서 수행)
+        try {
+            postDailyStatsRepository.createTableIfNotExists();
+        } catch (Exception e) {
+            log.warn("Failed to create post_daily_stats: {}", e.getMessage());
+        }
+
+        // 전체/관리구역/소구역별 게시글 수 카운터 (비어 있으면 상태 컬럼을 채운 뒤의 post 테이블로 재생성)
+        try {
+            postCounterRepository.createTableIfNotExists();
+            if (postCounterRepository.isEmpty()) {
+                int rows = postCounterRepository.rebuildAll();
+                log.info("post_counter rebuilt: rows={}", rows);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to initialize post_counter: {}", e.getMessage());
+        }
+
+        // 업로드 파일 참조 수 테이블 (내용 해시 기반 중복 제거)
+        try {
+            uploadBlobRepository.createTableIfNotExists();
+        } catch (Exception e) {
+            log.warn("Failed to create upload_blob: {}", e.getMessage());
+        }
+
+        // refresh token 테이블 (auth.refresh-store.type=jdbc 인 경우)
+        jdbcRefreshTokenStore.ifAvailable(store -> {
+            try {
+                store.createTableIfNotExists();
+            } catch (Exception e) {
+                log.warn("Failed to create refresh_token: {}", e.getMessage());
+            }
+        });
+
+        log.info("=== DatabaseMigration 완료 ===");
+    }
+
+    private boolean indexExists(String table, String indexName) {
+        final String sql = """
+            SELECT COUNT(*) FROM information_schema.statistics
+            WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+            """;
+        Integer count = jdbc.queryForObject(sql, Integer.class, table, indexName);
+        return count != null && count > 0;
+    }
+
+    private boolean columnExists(String table, String column) {
+        final String sql = """
+            SELECT COUNT(*) FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?
+            """;
+        Integer count = jdbc.queryForObject(sql, Integer.class, table, column);
+        return count != null && count > 0;
+    }
+
+    private void addColumnIfNotExists(String table, String column, String definition) {
+        try {
+            if (columnExists(table, column)) {
+                log.debug("Column {} already exists on {}", column, table);
+                return;
+            }
+            jdbc.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+            log.info("Column {} added to {}", column, table);
+        } catch (Exception e) {
+            log.warn("Failed to add column {} to {}: {}", column, table, e.getMessage());
+        }
+    }
+
+    private void createIndexIfNotExists(String table, String indexName, String columns) {
+        try {
+            if (indexExists(table, indexName)) {
+                log.debug("Index {} already exists on {}", indexName, table);
+                return;
+            }
+            jdbc.execute("CREATE INDEX " + indexName + " ON " + table + " (" + columns + ")");
+            log.info("Index {} created on {}({})", indexName, table, columns);
+        } catch (Exception e) {
+            log.warn("Failed to create index {} on {}: {}", indexName, table, e.getMessage());
+        }
+    }
+}
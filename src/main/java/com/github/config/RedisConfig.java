@@ -0,0 +1,75 @@
+package com.github.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.cache.RedisCacheTier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Redis 공유 캐시 설정 (cache.backend=redis 인 경우)
+ * 연결 정보는 spring.data.redis 설정을 그대로 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "cache.backend", havingValue = "redis")
+public class RedisConfig {
+
+    // 캐시 무효화 메시지 수신 (cache:invalidate 채널)
+    // 가상 스레드 모드에서는 구독/메시지 처리 스레드도 가상 스레드 사용
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-listener-");
+            executor.setVirtualThreads(true);
+            container.setTaskExecutor(executor);
+        }
+        return container;
+    }
+
+    @Bean
+    public RedisCacheTiers redisCacheTiers(StringRedisTemplate redis,
+                                           RedisMessageListenerContainer listenerContainer,
+                                           ObjectMapper objectMapper) {
+        return new RedisCacheTiers(redis, listenerContainer, objectMapper);
+    }
+
+    /**
+     * 캐시별 RedisCacheTier 생성기
+     * 인스턴스 ID는 자신이 발행한 무효화 메시지를 다시 처리하지 않기 위해 사용
+     */
+    public static class RedisCacheTiers {
+
+        private final String instanceId = UUID.randomUUID().toString();
+        private final StringRedisTemplate redis;
+        private final RedisMessageListenerContainer listenerContainer;
+        private final ObjectMapper objectMapper;
+
+        public RedisCacheTiers(StringRedisTemplate redis,
+                               RedisMessageListenerContainer listenerContainer,
+                               ObjectMapper objectMapper) {
+            this.redis = redis;
+            this.listenerContainer = listenerContainer;
+            this.objectMapper = objectMapper;
+        }
+
+        public <K, V> RedisCacheTier<K, V> create(String name, Class<V> valueType,
+                                                  Function<String, K> keyParser, Duration ttl) {
+            return new RedisCacheTier<>(name, instanceId, redis, listenerContainer, objectMapper,
+                    valueType, keyParser, ttl);
+        }
+    }
+}
@@ -42,6 +42,10 @@ public class DatabaseConstants {
     public static final String MANAGER_RISK_COLUMN = "manager_risk";
     public static final String IS_CHECKED_COLUMN = "is_checked";
     public static final String IS_ACTION_TAKEN_COLUMN = "is_action_taken";
+    public static final String CHECK_STATUS_COLUMN = "check_status";
+    public static final String ACTION_STATUS_COLUMN = "action_status";
+    public static final String REPORTER_RISK_LEVEL_COLUMN = "reporter_risk_level";
+    public static final String MANAGER_RISK_LEVEL_COLUMN = "manager_risk_level";
     public static final String POST_PHOTO_URL_COLUMN = "post_photo_url";
     public static final String CHECKED_AT_COLUMN = "checked_at";
     public static final String ACTION_TAKEN_AT_COLUMN = "action_taken_at";
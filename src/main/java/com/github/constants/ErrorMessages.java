@@ -24,6 +24,7 @@ public class ErrorMessages {
     public static final String INVALID_PASSWORD_LENGTH = "비밀번호는 8자 이상 100자 이하여야 합니다";
     public static final String INVALID_NAME_LENGTH = "이름은 2자 이상 50자 이하여야 합니다";
     public static final String INVALID_RISK_SCORE = "위험도 점수는 1-5 사이여야 합니다";
+    public static final String INVALID_CURSOR = "잘못된 페이지 커서입니다";
     
     // 인증 관련
     public static final String EMAIL_ALREADY_EXISTS = "이미 존재하는 이메일입니다";
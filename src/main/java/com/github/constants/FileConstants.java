@@ -15,6 +15,10 @@ public class FileConstants {
     // 허용되는 이미지 타입
     public static final String[] ALLOWED_IMAGE_TYPES = {"jpg", "jpeg", "png", "gif"};
     
+    // 축소 이미지(variant) 너비(px)와 형식, 파일명은 {원본 해시}_w{너비}.jpg
+    public static final int[] IMAGE_VARIANT_WIDTHS = {160, 480, 1080};
+    public static final String IMAGE_VARIANT_FORMAT = "jpg";
+    
     // 파일 접두사
     public static final String PROFILE_IMAGE_PREFIX = "profile_";
     public static final String POST_IMAGE_PREFIX = "post_";
@@ -18,10 +18,14 @@ public class PostConstants {
     // 파일 관련
     public static final String POST_IMAGE_PREFIX = "post_";
     public static final String DEFAULT_POST_IMAGE = "";
+    public static final int MAX_PHOTOS_PER_POST = 10;
     
     // 제목/내용 길이 제한
     public static final int MAX_TITLE_LENGTH = 200;
     public static final int MAX_CONTENT_LENGTH = 1000;
+
+    // 관리자 일괄 처리 한 번에 수정할 수 있는 게시글 수
+    public static final int MAX_BULK_UPDATE_SIZE = 200;
     
     private PostConstants() {
         // 유틸리티 클래스는 인스턴스화 방지
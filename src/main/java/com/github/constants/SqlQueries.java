@@ -46,7 +46,8 @@ public class SqlQueries {
     // 게시물 관련 쿼리
     public static final String FIND_POST_BY_ID = 
         "SELECT p.post_id, p.sub_area_id, p.area_id, p.reporter_id, p.checker_id, p.action_taker_id, " +
-        "p.title, p.content, p.reporter_risk, p.manager_risk, p.is_checked, p.is_action_taken, " +
+        "p.title, p.content, p.reporter_risk, p.manager_risk, p.reporter_risk_level, p.manager_risk_level, " +
+        "p.check_status, p.action_status, " +
         "p.post_photo_url, p.created_at, p.updated_at, p.checked_at, p.action_taken_at, " +
         "u.name as reporter_name, u.position_id as reporter_position, u.department_id as reporter_department, " +
         "c.name as checker_name, c.position_id as checker_position, c.department_id as checker_department, " +
@@ -59,7 +60,8 @@ public class SqlQueries {
     
     public static final String FIND_POSTS_BY_SUB_AREA = 
         "SELECT p.post_id, p.sub_area_id, p.area_id, p.reporter_id, p.checker_id, p.action_taker_id, " +
-        "p.title, p.content, p.reporter_risk, p.manager_risk, p.is_checked, p.is_action_taken, " +
+        "p.title, p.content, p.reporter_risk, p.manager_risk, p.reporter_risk_level, p.manager_risk_level, " +
+        "p.check_status, p.action_status, " +
         "p.post_photo_url, p.created_at, p.updated_at, p.checked_at, p.action_taken_at, " +
         "u.name as reporter_name, u.position_id as reporter_position, u.department_id as reporter_department, " +
         "c.name as checker_name, c.position_id as checker_position, c.department_id as checker_department, " +
@@ -72,8 +74,9 @@ public class SqlQueries {
         "ORDER BY p.created_at DESC LIMIT ? OFFSET ?";
     
     public static final String INSERT_POST = 
-        "INSERT INTO post (sub_area_id, area_id, reporter_id, title, content, reporter_risk, post_photo_url, is_checked, is_action_taken, created_at) " +
-        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        "INSERT INTO post (sub_area_id, area_id, reporter_id, title, content, reporter_risk, post_photo_url, is_checked, is_action_taken, " +
+        "check_status, action_status, reporter_risk_level, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
     
     public static final String UPDATE_POST = 
         "UPDATE post SET %s WHERE post_id = ?";
@@ -85,7 +88,7 @@ public class SqlQueries {
         "SELECT COUNT(*) FROM post WHERE sub_area_id = ?";
     
     public static final String COUNT_ACTION_TAKEN_BY_SUB_AREA = 
-        "SELECT COUNT(*) FROM post WHERE sub_area_id = ? AND is_action_taken = '1'";
+        "SELECT COUNT(*) FROM post WHERE sub_area_id = ? AND action_status = 1";
     
     // 현장 관련 쿼리
     public static final String FIND_AREA_BY_ID = 
@@ -1,9 +1,12 @@
 package com.github.controller;
 
 import com.github.dto.AdminPermissionRequest;
+import com.github.dto.AdminPostBulkUpdateRequest;
+import com.github.dto.AdminPostBulkUpdateResponse;
 import com.github.dto.AdminUserResponse;
 import com.github.dto.AdminPostUpdateRequest;
 import com.github.entity.PostEntity;
+import com.github.jwt.JwtPrincipal;
 import com.github.jwt.JwtTokenProvider;
 import com.github.service.AdminService;
 import com.github.service.PostService;
@@ -13,6 +16,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.HashMap;
 import java.util.List;
@@ -41,9 +45,9 @@ public class BackofficeController {
             log.info("=== 관리자 일람 API 호출 ===");
             
             // JWT 토큰에서 사용자 정보 추출 (관리자 권한 확인용)
-            String token = extractTokenFromRequest(request);
-            Long currentUserId = jwtTokenProvider.getUserId(token);
-            String currentUserRole = jwtTokenProvider.getRole(token);
+            JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(request);
+            Long currentUserId = principal.userId();
+            String currentUserRole = principal.role();
             
             log.info("현재 사용자 ID: {}, 역할: {}", currentUserId, currentUserRole);
             
@@ -75,9 +79,9 @@ public class BackofficeController {
             log.info("Target UserId: {}, GrantPermission: {}", request.getUserId(), request.isGrantPermission());
             
             // JWT 토큰에서 현재 사용자 정보 추출
-            String token = extractTokenFromRequest(httpRequest);
-            Long currentUserId = jwtTokenProvider.getUserId(token);
-            String currentUserRole = jwtTokenProvider.getRole(token);
+            JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(httpRequest);
+            Long currentUserId = principal.userId();
+            String currentUserRole = principal.role();
             
             log.info("현재 사용자 ID: {}, 역할: {}", currentUserId, currentUserRole);
             log.info("토큰에서 추출한 역할: '{}'", currentUserRole);
@@ -125,8 +129,7 @@ public class BackofficeController {
             log.info("Target UserId: {}", userId);
             
             // JWT 토큰에서 사용자 정보 추출
-            String token = extractTokenFromRequest(request);
-            Long currentUserId = jwtTokenProvider.getUserId(token);
+            Long currentUserId = jwtTokenProvider.resolvePrincipal(request).userId();
             
             log.info("현재 사용자 ID: {}", currentUserId);
             
@@ -162,9 +165,9 @@ public class BackofficeController {
             log.info("Target UserId: {}", userId);
             
             // JWT 토큰에서 현재 사용자 정보 추출
-            String token = extractTokenFromRequest(request);
-            Long currentUserId = jwtTokenProvider.getUserId(token);
-            String currentUserRole = jwtTokenProvider.getRole(token);
+            JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(request);
+            Long currentUserId = principal.userId();
+            String currentUserRole = principal.role();
             
             log.info("현재 사용자 ID: {}, 역할: {}", currentUserId, currentUserRole);
             
@@ -224,8 +227,7 @@ public class BackofficeController {
             log.info("Target UserId: {}", userId);
             
             // JWT 토큰에서 현재 사용자 정보 추출
-            String token = extractTokenFromRequest(request);
-            String currentUserRole = jwtTokenProvider.getRole(token);
+            String currentUserRole = jwtTokenProvider.resolvePrincipal(request).role();
             
             // 관리자 권한 확인
             if (!"ROLE_ADMIN".equals(currentUserRole)) {
@@ -259,6 +261,36 @@ public class BackofficeController {
         }
     }
 
+    /**
+     * 관리자용 게시글 일괄 처리 (관리자 권한 필요)
+     * PATCH /api/admin/notices/bulk
+     * 선택한 게시글 전체를 한 트랜잭션에서 수정하고 게시글별 결과(UPDATED/NOT_FOUND)를 반환
+     */
+    @PatchMapping("/notices/bulk")
+    public ResponseEntity<AdminPostBulkUpdateResponse> bulkUpdatePostsByAdmin(
+            @Valid @RequestBody AdminPostBulkUpdateRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        try {
+            JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(httpRequest);
+            if (!principal.isAdmin()) {
+                throw new RuntimeException("관리자 권한이 필요합니다.");
+            }
+
+            AdminPostBulkUpdateResponse response = postService.bulkUpdatePostsByAdmin(request, principal);
+            log.info("관리자 일괄 처리 완료: requested={}, updated={}",
+                    response.getRequestedCount(), response.getUpdatedCount());
+            return ResponseEntity.ok(response);
+
+        } catch (ResponseStatusException e) {
+            // 400(변경 내용 없음, 잘못된 위험도)은 상태 코드 그대로 응답
+            throw e;
+        } catch (Exception e) {
+            log.error("관리자 일괄 처리 중 오류 발생: {}", e.getMessage(), e);
+            throw new RuntimeException("게시글 일괄 처리 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
     /**
      * 관리자용 게시글 수정 (관리자 권한 필요)
      * PATCH /api/admin/notices/{postId}
@@ -274,43 +306,29 @@ public class BackofficeController {
             log.info("PostId: {}, Request: {}", postId, request);
             
             // JWT 토큰에서 현재 사용자 정보 추출
-            String token = extractTokenFromRequest(httpRequest);
-            String currentUserRole = jwtTokenProvider.getRole(token);
+            JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(httpRequest);
             
-            log.info("현재 사용자 역할: {}", currentUserRole);
+            log.info("현재 사용자 역할: {}", principal.role());
             
             // 관리자 권한 확인
-            if (!"ROLE_ADMIN".equals(currentUserRole)) {
+            if (!principal.isAdmin()) {
                 throw new RuntimeException("관리자 권한이 필요합니다.");
             }
             
             // 관리자용 게시글 수정 실행
-            PostEntity updatedPost = postService.updatePostByAdmin(postId, request, token);
+            PostEntity updatedPost = postService.updatePostByAdmin(postId, request, principal);
             
             log.info("게시글 수정 완료: postId={}", postId);
             log.info("=== 관리자용 게시글 수정 API 완료 ===");
             
             return ResponseEntity.ok(updatedPost);
             
+        } catch (ResponseStatusException e) {
+            // 404(없는 게시글), 409(버전 충돌)는 상태 코드 그대로 응답
+            throw e;
         } catch (Exception e) {
             log.error("관리자용 게시글 수정 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("게시글 수정 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
-
-    /**
-     * JWT 토큰을 요청에서 추출합니다
-     */
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            String token = bearerToken.substring(7);
-            // 토큰 유효성 검증
-            if (!jwtTokenProvider.validate(token)) {
-                throw new RuntimeException("유효하지 않은 토큰입니다.");
-            }
-            return token;
-        }
-        throw new RuntimeException("토큰을 찾을 수 없습니다.");
-    }
 }
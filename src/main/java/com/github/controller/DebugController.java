@@ -1,6 +1,8 @@
 package com.github.controller;
 
+import com.github.cache.BoundedCache;
 import com.github.repository.PostJdbcRepository;
+import com.github.service.PostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +19,22 @@ public class DebugController {
 
     private final JdbcTemplate jdbcTemplate;
     private final PostJdbcRepository postJdbcRepository;
+    private final List<BoundedCache<?, ?>> caches;
+    private final PostService postService;
+
+    // 인메모리 캐시 적중/미스/축출 통계 (캐시 크기 조정용)
+    @GetMapping("/caches")
+    public List<Map<String, Object>> cacheStats() {
+        return caches.stream()
+                .map(BoundedCache::stats)
+                .toList();
+    }
+
+    // 게시글 생성 단계별(사진 저장/DB 저장/커밋 후 작업) 지연 시간
+    @GetMapping("/stages")
+    public List<Map<String, Object>> stageStats() {
+        return List.of(postService.getCreationStats().stats());
+    }
 
     @GetMapping("/posts")
     public Map<String, Object> debugPosts() {
@@ -46,18 +64,8 @@ public class DebugController {
     public Map<String, Object> createTables() {
         try {
             // PostJdbcRepository의 createTableIfNotExists 메서드 호출
-            postJdbcRepository.insert(com.github.entity.PostEntity.builder()
-                .subAreaId(1L)
-                .areaId(1L)
-                .reporterId(1L)
-                .title("테스트용 더미 데이터")
-                .content("테이블 생성 테스트")
-                .reporterRisk("1")
-                .postPhotoUrl(null)
-                .isChecked(0)
-                .isActionTaked(0)
-                .build());
-            
+            postJdbcRepository.createTableIfNotExists();
+
             return Map.of("status", "success", "message", "테이블이 생성되었습니다");
         } catch (Exception e) {
             return Map.of("status", "error", "message", e.getMessage());
@@ -7,6 +7,7 @@ import com.github.service.CommentService;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,6 +16,7 @@ import jakarta.validation.Valid;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @RestController
 @RequestMapping("/feedbacks")
 @RequiredArgsConstructor
@@ -25,13 +27,13 @@ public class FeedbackController {
 
     @GetMapping("/{postId}")
     public ResponseEntity<List<CommentEntity>> getCommentsByPostId(@PathVariable Long postId) {
-        System.out.println("=== 게시글별 댓글 조회 진행 ===");
-        System.out.println("PostId: " + postId);
+        log.debug("=== 게시글별 댓글 조회 진행 ===");
+        log.debug("PostId: {}", postId);
 
         List<CommentEntity> comments = commentService.getCommentsByPostId(postId);
 
-        System.out.println("Found " + comments.size() + " comments");
-        System.out.println("=== 게시글별 댓글 조회 완료 ===");
+        log.debug("Found {} comments", comments.size());
+        log.debug("=== 게시글별 댓글 조회 완료 ===");
         
         return ResponseEntity.ok(comments);
     }
@@ -41,7 +43,7 @@ public class FeedbackController {
             @Valid @RequestBody CommentCreateRequest request,
             HttpServletRequest httpRequest
     ) {
-        System.out.println("=== 댓글 작성 진행 ===");
+        log.debug("=== 댓글 작성 진행 ===");
         
         String token = extractTokenFromRequest(httpRequest);
         Long userId = jwtTokenProvider.getUserId(token);
@@ -49,12 +51,12 @@ public class FeedbackController {
         // JWT에서 가져온 userId로 설정
         request.setUserId(userId);
         
-        System.out.println("Request: " + request);
+        log.debug("Request: {}", request);
 
         CommentEntity comment = commentService.createComment(request);
 
-        System.out.println("Comment created: " + comment);
-        System.out.println("=== 댓글 작성 완료 ===");
+        log.debug("Comment created: {}", comment);
+        log.debug("=== 댓글 작성 완료 ===");
         
         return ResponseEntity.ok(comment);
     }
@@ -65,8 +67,8 @@ public class FeedbackController {
             @RequestBody Map<String, String> request,
             HttpServletRequest httpRequest
     ) {
-        System.out.println("=== 댓글 수정 진행 ===");
-        System.out.println("CommentId: " + commentId);
+        log.debug("=== 댓글 수정 진행 ===");
+        log.debug("CommentId: {}", commentId);
 
         String message = request.get("message");
         if (message == null || message.trim().isEmpty()) {
@@ -75,8 +77,8 @@ public class FeedbackController {
 
         CommentEntity comment = commentService.updateComment(commentId, message);
 
-        System.out.println("Comment updated: " + comment);
-        System.out.println("=== 댓글 수정 완료 ===");
+        log.debug("Comment updated: {}", comment);
+        log.debug("=== 댓글 수정 완료 ===");
         
         return ResponseEntity.ok(comment);
     }
@@ -86,16 +88,16 @@ public class FeedbackController {
             @PathVariable Long commentId,
             HttpServletRequest httpRequest
     ) {
-        System.out.println("=== 댓글 삭제 진행 ===");
-        System.out.println("CommentId: " + commentId);
+        log.debug("=== 댓글 삭제 진행 ===");
+        log.debug("CommentId: {}", commentId);
 
         commentService.deleteComment(commentId);
 
         Map<String, String> response = new HashMap<>();
         response.put("message", "댓글이 삭제되었습니다.");
 
-        System.out.println("Comment deleted: " + commentId);
-        System.out.println("=== 댓글 삭제 완료 ===");
+        log.debug("Comment deleted: {}", commentId);
+        log.debug("=== 댓글 삭제 완료 ===");
         
         return ResponseEntity.ok(response);
     }
@@ -1,5 +1,6 @@
 package com.github.controller;
 
+import com.github.dto.StatisticsSummaryResponse;
 import com.github.service.StatisticsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -62,6 +63,18 @@ public class GraphController {
         return ResponseEntity.ok(resp);
     }
 
+    /**
+     * 대시보드 통계 요약 (보고/조치/월별/고위험성 조치건수를 한 번에 조회)
+     * GET /graphs/summary?from=2025-01-01&to=2025-12-31
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<StatisticsSummaryResponse> summary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(statisticsService.getSummary(from, to));
+    }
+
     /**
      * 블록별 고위험성(3점 이상) 조치건수
      * GET /stats/high-risk-actions?from=2025-01-01&to=2025-12-31
@@ -2,23 +2,30 @@ package com.github.controller;
 
 import com.github.dto.PostCreateRequest;
 import com.github.dto.ManagerRiskAssessmentRequest;
+import com.github.dto.PostPageResponse;
 import com.github.dto.PostResponse;
 import com.github.entity.PostEntity;
+import com.github.jwt.JwtPrincipal;
 import com.github.jwt.JwtTokenProvider;
 import com.github.service.PostService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 
 
+@Slf4j
 @RestController
 @RequestMapping("/notices")
 @RequiredArgsConstructor
@@ -27,53 +34,69 @@ public class NoticesController {
     private final PostService postService;
     private final JwtTokenProvider jwtTokenProvider;
 
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    // 사진은 image(기존, 1장)와 images(여러 장) 파트 모두 받으며 image가 먼저 옴
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<PostEntity> create(
             HttpServletRequest request,
             @Valid @ModelAttribute PostCreateRequest req,
-            @RequestPart(value = "image", required = false) MultipartFile image
+            @RequestPart(value = "image", required = false) MultipartFile image,
+            @RequestPart(value = "images", required = false) List<MultipartFile> images
     ) {
         try {
-            System.out.println("=== 게시글 작성 진행 ===");
-            System.out.println("Request received: " + req);
-            System.out.println("Reporter Risk Score: " + req.getReporterRisk());
-            
-            String token = extractTokenFromRequest(request);
-            System.out.println("Token extracted: " + token);
+            log.debug("=== 게시글 작성 진행 ===");
+            log.debug("Request received: {}", req);
+            log.debug("Reporter Risk Score: {}", req.getReporterRisk());
             
-            Long userId = jwtTokenProvider.getUserId(token);
-            System.out.println("User ID from token: " + userId);
+            // JwtAuthFilter에서 검증된 사용자 정보 재사용
+            JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(request);
+            Long userId = principal.userId();
+            log.debug("User ID from token: {}", userId);
             
             req.setUserId(userId); // JWT에서 userId 설정
-            System.out.println("Request after setting userId: " + req);
+            log.debug("Request after setting userId: {}", req);
             
-            PostEntity createdPost = postService.create(req, image);
-            System.out.println("Post created successfully: " + createdPost);
+            List<MultipartFile> photos = new ArrayList<>();
+            if (image != null) {
+                photos.add(image);
+            }
+            if (images != null) {
+                photos.addAll(images);
+            }
+            PostEntity createdPost = postService.create(req, photos);
+            log.debug("Post created successfully: {}", createdPost);
             
             return ResponseEntity.ok(createdPost);
         } catch (Exception e) {
-            System.out.println("Error in create method: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error in create method: {}", e.getMessage(), e);
             throw e;
         }
     }
 
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        throw new RuntimeException("토큰을 찾을 수 없습니다.");
-    }
-
     @GetMapping
-    public ResponseEntity<List<PostEntity>> getAllPosts(
+    public ResponseEntity<?> getAllPosts(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) Long subAreaId
+            @RequestParam(required = false) Long subAreaId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer checked,
+            @RequestParam(required = false) Integer actionTaken
     ) {
-        System.out.println("=== 게시글 조회 진행 ===");
-        System.out.println("Page: " + page + ", Size: " + size + ", SubAreaId: " + subAreaId);
+        log.debug("=== 게시글 조회 진행 ===");
+        log.debug("Page: {}, Size: {}, SubAreaId: {}, Cursor: {}", page, size, subAreaId, cursor);
+
+        // cursor 파라미터가 있으면 커서 기반 조회 (빈 값이면 첫 페이지), 없으면 기존 page/size 조회
+        // checked/actionTaken(0 또는 1)은 커서 조회에서만 사용하는 상태 필터
+        if (cursor != null) {
+            PostPageResponse pageResponse = postService.getPostsByCursor(subAreaId, cursor, size, checked, actionTaken);
+            if (subAreaId == null && checked == null && actionTaken == null) {
+                pageResponse.setTotalCount(postService.getTotalPostCount());
+            }
+            log.debug("Returning {} posts (hasNext={})", pageResponse.getPosts().size(), pageResponse.isHasNext());
+            log.debug("=== 게시글 조회 완료 ===");
+            return ResponseEntity.ok(pageResponse);
+        }
         
         List<PostEntity> posts;
         if (subAreaId != null) {
@@ -82,21 +105,46 @@ public class NoticesController {
             posts = postService.getAllPosts(page, size);
         }
         
-        System.out.println("Returning " + posts.size() + " posts");
-        System.out.println("=== 게시글 조회 완료 ===");
+        log.debug("Returning {} posts", posts.size());
+        log.debug("=== 게시글 조회 완료 ===");
+        if (subAreaId == null) {
+            // 전체 게시글 수는 캐시된 값을 헤더로 제공 (페이지 계산용)
+            return ResponseEntity.ok()
+                    .header(TOTAL_COUNT_HEADER, String.valueOf(postService.getTotalPostCount()))
+                    .body(posts);
+        }
         return ResponseEntity.ok(posts);
     }
 
+    /**
+     * 제목/본문 검색 (최신순, page/size 페이지)
+     * q: 검색어 (한 글자 이상, 조각이 모두 포함된 게시글), areaId/subAreaId/from/to: 선택 필터 (작성일 기준 양 끝 포함)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PostPageResponse> searchPosts(
+            @RequestParam String q,
+            @RequestParam(required = false) Long areaId,
+            @RequestParam(required = false) Long subAreaId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        PostPageResponse result = postService.searchPosts(q, areaId, subAreaId, from, to, page, size);
+        log.debug("Search '{}' matched {} posts", q, result.getTotalCount());
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{postId}")
     public ResponseEntity<PostResponse> getPostById(@PathVariable Long postId) {
-        System.out.println("=== 게시글 상세 조회 진행 ===");
-        System.out.println("PostId: " + postId);
+        log.debug("=== 게시글 상세 조회 진행 ===");
+        log.debug("PostId: {}", postId);
         
         PostEntity post = postService.getPostById(postId);
         PostResponse response = postService.convertToPostResponse(post);
         
-        System.out.println("Post found: " + post.getTitle());
-        System.out.println("=== 게시글 상세 조회 완료 ===");
+        log.debug("Post found: {}", post.getTitle());
+        log.debug("=== 게시글 상세 조회 완료 ===");
         return ResponseEntity.ok(response);
     }
 
@@ -109,8 +157,7 @@ public class NoticesController {
             @RequestBody Map<String, Object> updates,
             HttpServletRequest request
     ) {
-        String token = extractTokenFromRequest(request);
-        Long userId = jwtTokenProvider.getUserId(token);
+        Long userId = jwtTokenProvider.resolvePrincipal(request).userId();
 
         // JSON으로 전달된 키들은 서비스에서 그대로 매핑/변환 처리됨
         PostEntity updatedPost = postService.updatePost(postId, updates, userId);
@@ -123,9 +170,9 @@ public class NoticesController {
             @PathVariable Long postId,
             HttpServletRequest request
     ) {
-        String token = extractTokenFromRequest(request);
-        Long userId = jwtTokenProvider.getUserId(token);
-        String userRole = jwtTokenProvider.getRole(token);
+        JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(request);
+        Long userId = principal.userId();
+        String userRole = principal.role();
         
         // 관리자 권한 확인
         boolean isAdmin = "ROLE_ADMIN".equals(userRole);
@@ -150,16 +197,15 @@ public class NoticesController {
             @RequestBody Map<String, Object> updates,
             HttpServletRequest request
     ) {
-        System.out.println("=== 액션 상태 업데이트 진행 ===");
-        System.out.println("PostId: " + postId + ", Updates: " + updates);
+        log.debug("=== 액션 상태 업데이트 진행 ===");
+        log.debug("PostId: {}, Updates: {}", postId, updates);
         
-        String token = extractTokenFromRequest(request);
-        Long userId = jwtTokenProvider.getUserId(token);
+        Long userId = jwtTokenProvider.resolvePrincipal(request).userId();
         
         PostEntity updatedPost = postService.updatePost(postId, updates, userId);
         
-        System.out.println("Action status updated: " + updatedPost);
-        System.out.println("=== 액션 상태 업데이트 완료 ===");
+        log.debug("Action status updated: {}", updatedPost);
+        log.debug("=== 액션 상태 업데이트 완료 ===");
         
         return ResponseEntity.ok(updatedPost);
     }
@@ -170,18 +216,18 @@ public class NoticesController {
             @Valid @RequestBody ManagerRiskAssessmentRequest assessment,
             HttpServletRequest request
     ) {
-        System.out.println("=== 관리자 위험성 평가 업데이트 진행 ===");
-        System.out.println("PostId: " + postId);
-        System.out.println("Manager Risk: " + assessment.getManager_risk());
-        System.out.println("Risk Level: " + assessment.getRiskLevel());
+        log.debug("=== 관리자 위험성 평가 업데이트 진행 ===");
+        log.debug("PostId: {}", postId);
+        log.debug("Manager Risk: {}", assessment.getManager_risk());
+        log.debug("Risk Level: {}", assessment.getRiskLevel());
         
-        String token = extractTokenFromRequest(request);
-        Long userId = jwtTokenProvider.getUserId(token);
-        String userRole = jwtTokenProvider.getRole(token);
+        JwtPrincipal principal = jwtTokenProvider.resolvePrincipal(request);
+        Long userId = principal.userId();
+        String userRole = principal.role();
         
         // 관리자 권한 확인
         if (!"ROLE_ADMIN".equals(userRole)) {
-            System.out.println("권한 없음: " + userRole);
+            log.debug("권한 없음: {}", userRole);
             return ResponseEntity.status(403).build(); // 403 Forbidden
         }
         
@@ -191,8 +237,8 @@ public class NoticesController {
         
         PostEntity updatedPost = postService.updatePost(postId, managerRiskUpdate, userId);
         
-        System.out.println("Manager risk updated: " + updatedPost.getManagerRisk());
-        System.out.println("=== 관리자 위험성 평가 업데이트 완료 ===");
+        log.debug("Manager risk updated: {}", updatedPost.getManagerRisk());
+        log.debug("=== 관리자 위험성 평가 업데이트 완료 ===");
         
         return ResponseEntity.ok(updatedPost);
     }
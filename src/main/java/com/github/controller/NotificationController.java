@@ -3,11 +3,13 @@ package com.github.controller;
 import com.github.entity.PostEntity;
 import com.github.service.NotificationService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequestMapping("/notifications")
 @RequiredArgsConstructor
@@ -20,13 +22,13 @@ public class NotificationController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
-        System.out.println("=== NotificationController.getRecentRiskReports() 시작 ===");
-        System.out.println("Page: " + page + ", Size: " + size);
+        log.debug("=== NotificationController.getRecentRiskReports() 시작 ===");
+        log.debug("Page: {}, Size: {}", page, size);
 
         List<PostEntity> riskReports = notificationService.getRecentRiskReports(page, size);
 
-        System.out.println("Returning " + riskReports.size() + " recent risk reports");
-        System.out.println("=== NotificationController.getRecentRiskReports() 완료 ===");
+        log.debug("Returning {} recent risk reports", riskReports.size());
+        log.debug("=== NotificationController.getRecentRiskReports() 완료 ===");
         
         return ResponseEntity.ok(riskReports);
     }
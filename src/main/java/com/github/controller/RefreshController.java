@@ -7,6 +7,7 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,6 +20,7 @@ import org.springframework.web.server.ResponseStatusException;
 import java.util.HashMap;
 import java.util.Map;
 
+@Slf4j
 @RestController
 @RequestMapping("/auth")
 @RequiredArgsConstructor
@@ -30,7 +32,7 @@ public class RefreshController {
     @PostMapping("/auto-refresh")
     public ResponseEntity<TokenResponse> autoRefresh(@RequestBody(required = false) Map<String, String> requestBody, HttpServletRequest request, HttpServletResponse response) {
         try {
-            System.out.println("=== 자동 토큰 갱신 시작 ===");
+            log.debug("=== 자동 토큰 갱신 시작 ===");
             
             // 먼저 요청 본문에서 refresh token 추출 시도
             String refreshToken = null;
@@ -40,22 +42,22 @@ public class RefreshController {
             
             // 요청 본문에 refresh token이 없으면 쿠키에서 추출
             if (refreshToken == null || refreshToken.trim().isEmpty()) {
-                System.out.println("요청 본문에 refresh 토큰이 없습니다. 쿠키에서 추출을 시도합니다.");
+                log.debug("요청 본문에 refresh 토큰이 없습니다. 쿠키에서 추출을 시도합니다.");
                 refreshToken = extractTokenFromCookie(request, "refreshToken");
             }
             
             // 쿠키에도 refresh token이 없으면 에러 반환
             if (refreshToken == null || refreshToken.trim().isEmpty()) {
-                System.out.println("쿠키에도 refresh 토큰이 없습니다.");
+                log.debug("쿠키에도 refresh 토큰이 없습니다.");
                 throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "refresh 토큰이 필요합니다. 다시 로그인해주세요.");
             }
 
-            System.out.println("리프레시 토큰 발견: " + refreshToken.substring(0, 20) + "...");
+            log.debug("리프레시 토큰 발견: {}...", refreshToken.substring(0, 20));
 
             // refresh token 검증 (JTI 포함)
             boolean isValid = jwtProvider.validateRefreshToken(refreshToken);
             if (!isValid) {
-                System.out.println("유효하지 않은 리프레시 토큰입니다.");
+                log.debug("유효하지 않은 리프레시 토큰입니다.");
                 throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요.");
             }
 
@@ -64,11 +66,11 @@ public class RefreshController {
             String role = jwtProvider.getRole(refreshToken);
             String jti = jwtProvider.getJti(refreshToken);
 
-            System.out.println("사용자 ID: " + userId + ", 역할: " + role + ", JTI: " + jti);
+            log.debug("사용자 ID: {}, 역할: {}, JTI: {}", userId, role, jti);
 
             // Redis에서 refresh token 확인
             if (!tokenStore.exists(userId, jti)) {
-                System.out.println("Redis에서 리프레시 토큰을 찾을 수 없습니다.");
+                log.debug("Redis에서 리프레시 토큰을 찾을 수 없습니다.");
                 throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "만료된 리프레시 토큰입니다. 다시 로그인해주세요.");
             }
 
@@ -78,8 +80,8 @@ public class RefreshController {
             // refresh token은 그대로 유지 (삭제하지 않음)
             // 새로운 refresh token 생성 및 저장하지 않음
 
-            System.out.println("새로운 액세스 토큰 생성 완료");
-            System.out.println("=== 자동 토큰 갱신 완료 ===");
+            log.debug("새로운 액세스 토큰 생성 완료");
+            log.debug("=== 자동 토큰 갱신 완료 ===");
 
             // Access token을 응답 헤더에 설정
             response.setHeader("Authorization", "Bearer " + newAccessToken);
@@ -93,11 +95,10 @@ public class RefreshController {
                     .build());
 
         } catch (ResponseStatusException e) {
-            System.out.println("토큰 갱신 실패: " + e.getReason());
+            log.debug("토큰 갱신 실패: {}", e.getReason());
             throw e;
         } catch (Exception e) {
-            System.out.println("토큰 갱신 중 예상치 못한 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.error("토큰 갱신 중 예상치 못한 오류: {}", e.getMessage(), e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "토큰 갱신 중 오류가 발생했습니다.");
         }
     }
@@ -124,10 +125,10 @@ public class RefreshController {
         if (cookieArray != null) {
             for (Cookie cookie : cookieArray) {
                 cookies.put(cookie.getName(), cookie.getValue());
-                System.out.println("쿠키 발견: " + cookie.getName() + " = " + cookie.getValue().substring(0, Math.min(20, cookie.getValue().length())) + "...");
+                log.debug("쿠키 발견: {} = {}...", cookie.getName(), cookie.getValue().substring(0, Math.min(20, cookie.getValue().length())));
             }
         } else {
-            System.out.println("쿠키가 없습니다.");
+            log.debug("쿠키가 없습니다.");
         }
         
         result.put("cookies", cookies);
@@ -137,11 +138,42 @@ public class RefreshController {
         return ResponseEntity.ok(result);
     }
 
+    /**
+     * 모든 기기에서 로그아웃 (사용자의 refresh token 전체 삭제)
+     * POST /auth/logout-all
+     */
+    @PostMapping("/logout-all")
+    public ResponseEntity<Map<String, Object>> logoutAll(HttpServletRequest request, HttpServletResponse response) {
+        String refreshToken = extractTokenFromCookie(request, "refreshToken");
+        if (refreshToken == null || refreshToken.trim().isEmpty() || !jwtProvider.validateRefreshToken(refreshToken)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+
+        long userId = jwtProvider.getUserId(refreshToken);
+        int deleted = tokenStore.deleteAllForUser(userId);
+        jwtProvider.evictVerifiedTokens(userId);
+        log.debug("모든 기기 로그아웃: userId={}, 삭제된 세션={}", userId, deleted);
+
+        response.addHeader("Set-Cookie",
+            "refreshToken=; Path=/; Max-Age=0; HttpOnly=true; Secure=true; SameSite=None");
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("message", "모든 기기에서 로그아웃되었습니다.");
+        result.put("sessions", deleted);
+        return ResponseEntity.ok(result);
+    }
+
     @PostMapping("/logout")
     public ResponseEntity<Map<String, String>> logout(HttpServletRequest request, HttpServletResponse response) {
         try {
-            System.out.println("=== 로그아웃 시작 ===");
+            log.debug("=== 로그아웃 시작 ===");
             
+            // 액세스 토큰 검증 결과 캐시 제거
+            String authorization = request.getHeader("Authorization");
+            if (authorization != null && authorization.startsWith("Bearer ")) {
+                jwtProvider.evictVerifiedToken(authorization.substring(7));
+            }
+
             // 쿠키에서 refresh token 추출
             String refreshToken = extractTokenFromCookie(request, "refreshToken");
             
@@ -153,9 +185,11 @@ public class RefreshController {
                     
                     // refresh token 삭제
                     tokenStore.delete(userId, jti);
-                    System.out.println("Refresh token 삭제 완료: userId=" + userId + ", jti=" + jti);
+                    // 해당 사용자의 캐시된 액세스 토큰 검증 결과도 제거
+                    jwtProvider.evictVerifiedTokens(userId);
+                    log.debug("Refresh token 삭제 완료: userId={}, jti={}", userId, jti);
                 } catch (Exception e) {
-                    System.out.println("Refresh token 파싱 실패: " + e.getMessage());
+                    log.debug("Refresh token 파싱 실패: {}", e.getMessage());
                 }
             }
             
@@ -171,15 +205,14 @@ public class RefreshController {
             response.addHeader("Set-Cookie", 
                 "refreshToken=; Path=/; Max-Age=0; HttpOnly=true; Secure=true; SameSite=None");
             
-            System.out.println("=== 로그아웃 완료 ===");
+            log.debug("=== 로그아웃 완료 ===");
             
             Map<String, String> result = new HashMap<>();
             result.put("message", "로그아웃되었습니다.");
             return ResponseEntity.ok(result);
             
         } catch (Exception e) {
-            System.out.println("로그아웃 중 오류: " + e.getMessage());
-            e.printStackTrace();
+            log.error("로그아웃 중 오류: {}", e.getMessage(), e);
             throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "로그아웃 중 오류가 발생했습니다.");
         }
     }
@@ -1,6 +1,7 @@
 package com.github.controller;
 
 import com.github.dto.AreaCreateRequest;
+import com.github.dto.AreaPostSummaryResponse;
 import com.github.dto.AreaResponse;
 import com.github.dto.AreaUpdateRequest;
 import com.github.jwt.JwtTokenProvider;
@@ -98,6 +99,12 @@ public class SiteController {
     }
   }
 
+  // 관리구역 + 소구역별 게시글/확인/조치 건수 요약 (카운터 테이블 조회)
+  @GetMapping("/{areaId}/summary")
+  public ResponseEntity<AreaPostSummaryResponse> getPostSummary(@PathVariable Long areaId) {
+    return ResponseEntity.ok(service.getAreaPostSummary(areaId));
+  }
+
   // 관리구역 삭제 전 참조 데이터 확인
   @GetMapping("/{areaId}/references")
   public ResponseEntity<Map<String, Object>> getAreaReferences(@PathVariable Long areaId) {
@@ -0,0 +1,249 @@
+package com.github.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import com.github.service.ImageVariantService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 파일 제공 (/uploads/**)
+ * - 강한 ETag: 내용 해시 파일명이면 해시, 아니면 크기+수정 시각
+ * - If-None-Match / If-Modified-Since 가 일치하면 본문 없이 304
+ * - 단일 Range 요청은 206 (If-Range가 현재 ETag/수정 시각과 다르면 전체 응답)
+ * - 해시/UUID 파일명은 내용이 바뀌지 않으므로 1년 immutable 캐시, 그 외는 기존처럼 1일
+ * - 본문은 FileChannel.transferTo로 전송 (Tomcat sendfile을 지원하면 커널에서 직접 전송)
+ * - 아직 생성되지 않은 축소본({sha256}_w{너비}.jpg)은 원본이 있으면 바로 생성하여 제공
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class UploadController {
+
+    private static final Pattern IMMUTABLE_NAME = Pattern.compile(
+            ".*([0-9a-f]{64}(_w\\d+)?|[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12})\\.[A-Za-z0-9]+");
+    private static final Pattern CONTENT_HASH_NAME = Pattern.compile("([0-9a-f]{64}(_w\\d+)?)\\.[A-Za-z0-9]+");
+    private static final Pattern SINGLE_RANGE = Pattern.compile("bytes=(\\d*)-(\\d*)");
+
+    private static final CacheControl IMMUTABLE_CACHE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl DEFAULT_CACHE = CacheControl.maxAge(Duration.ofDays(1));
+
+    // Tomcat sendfile 요청 속성 (org.apache.catalina.Globals), 끝 위치는 exclusive
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // 작은 파일은 sendfile 준비 비용이 더 크므로 직접 전송 (Tomcat DefaultServlet 기본값과 동일)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    private final ImageVariantService imageVariantService;
+
+    @Value("${file.upload-dir:./uploads}")
+    private String uploadDir;
+
+    /** GET/HEAD 모두 처리 (HEAD는 헤더만) */
+    @GetMapping("/uploads/{*path}")
+    public void serve(@PathVariable String path, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = resolve(path);
+        if (file == null && imageVariantService.regenerate(path.startsWith("/") ? path.substring(1) : path)) {
+            file = resolve(path);
+        }
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis() / 1000 * 1000;  // HTTP 날짜는 초 단위
+        String fileName = file.getFileName().toString();
+        String etag = etag(fileName, length, lastModified);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(fileName).getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        if (range != null && length > 0 && ifRangeMatches(request, etag, lastModified)) {
+            long[] bounds = parseRange(range, length);
+            if (bounds == null) {
+                // 여러 구간이거나 형식이 잘못된 경우는 Range를 무시하고 전체 응답
+                log.debug("Ignoring unsupported range {} for {}", range, fileName);
+            } else if (bounds.length == 0) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            } else {
+                start = bounds[0];
+                end = bounds[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        transfer(file, start, count, response.getOutputStream());
+    }
+
+    /** 업로드 디렉토리 밖이나 숨김 경로(.tmp 등)는 제공하지 않음 */
+    private Path resolve(String path) {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        String relative = path.startsWith("/") ? path.substring(1) : path;
+        if (relative.isEmpty() || relative.startsWith(".") || relative.contains("/.")) {
+            return null;
+        }
+        Path file = root.resolve(relative).normalize();
+        if (!file.startsWith(root) || !Files.isRegularFile(file)) {
+            return null;
+        }
+        return file;
+    }
+
+    static String etag(String fileName, long length, long lastModified) {
+        Matcher hash = CONTENT_HASH_NAME.matcher(fileName);
+        if (hash.matches()) {
+            return "\"" + hash.group(1) + "\"";
+        }
+        return "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    static CacheControl cacheControl(String fileName) {
+        return IMMUTABLE_NAME.matcher(fileName).matches() ? IMMUTABLE_CACHE : DEFAULT_CACHE;
+    }
+
+    // If-None-Match가 있으면 그것만 사용 (약한 비교), 없을 때만 If-Modified-Since 확인
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if ("*".equals(tag) || etag.equals(tag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified <= ifModifiedSince;
+    }
+
+    // If-Range는 강한 비교 (약한 ETag나 다른 값이면 Range 무시)
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return etag.equals(ifRange.trim());
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && lastModified == date;
+    }
+
+    /**
+     * "bytes=a-b", "bytes=a-", "bytes=-n" 단일 구간만 지원
+     * @return [start, end(inclusive)], 만족할 수 없는 구간이면 빈 배열, 지원하지 않는 형식이면 null
+     */
+    static long[] parseRange(String header, long length) {
+        Matcher m = SINGLE_RANGE.matcher(header.trim());
+        if (!m.matches() || (m.group(1).isEmpty() && m.group(2).isEmpty())) {
+            return null;
+        }
+        try {
+            long start;
+            long end;
+            if (m.group(1).isEmpty()) {
+                long suffix = Long.parseLong(m.group(2));
+                if (suffix == 0) {
+                    return new long[0];
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(m.group(1));
+                end = m.group(2).isEmpty() ? length - 1 : Math.min(Long.parseLong(m.group(2)), length - 1);
+                if (end < start) {
+                    return start >= length ? new long[0] : null;
+                }
+            }
+            if (start >= length) {
+                return new long[0];
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    // 힙에 파일 전체를 올리지 않고 채널 간 전송
+    private static void transfer(Path file, long start, long count, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+        out.flush();
+    }
+}
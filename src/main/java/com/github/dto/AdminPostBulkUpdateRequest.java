@@ -0,0 +1,37 @@
+package com.github.dto;
+
+import com.github.constants.PostConstants;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * 관리자 일괄 처리 요청 (PATCH /api/admin/notices/bulk)
+ * 선택한 게시글 전체에 같은 확인/조치 상태 또는 관리자 위험도를 적용 (값이 없는 항목은 변경하지 않음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminPostBulkUpdateRequest {
+    @NotEmpty(message = "게시글 ID 목록은 필수입니다.")
+    @Size(max = PostConstants.MAX_BULK_UPDATE_SIZE, message = "한 번에 처리할 수 있는 게시글 수를 초과했습니다.")
+    private List<Long> postIds;
+
+    private Integer isChecked;    // 0: 미확인, 1: 확인완료
+
+    private Long checkerId;       // 확인한 사람 ID (없으면 현재 사용자)
+
+    private Integer isActionTaked; // 0: 미조치, 1: 조치완료
+
+    private Long actionTakerId;   // 조치한 사람 ID (없으면 현재 사용자)
+
+    private String managerRisk;   // 관리자 위험도 평가 (1~5점 문자열)
+}
@@ -0,0 +1,33 @@
+package com.github.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 관리자 일괄 처리 결과
+ * 게시글별 결과는 요청 순서대로 (중복 ID는 한 번만)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdminPostBulkUpdateResponse {
+
+    public static final String UPDATED = "UPDATED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+
+    private int requestedCount;
+
+    private int updatedCount;
+
+    private List<ItemResult> results;
+
+    @Getter
+    @AllArgsConstructor
+    public static class ItemResult {
+        private Long postId;
+        private String status;    // UPDATED, NOT_FOUND
+    }
+}
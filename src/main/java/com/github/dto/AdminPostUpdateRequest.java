@@ -30,5 +30,7 @@ public class AdminPostUpdateRequest {
     private LocalDateTime actionTakenAt;  // 조치 시간
     
     private String managerRisk;   // 관리자 위험도 평가 (1~5점 문자열)
+
+    private Integer version;      // 조회 시 받은 게시글 버전 (있으면 그 사이 다른 수정이 있었는지 확인, 충돌 시 409)
 }
 
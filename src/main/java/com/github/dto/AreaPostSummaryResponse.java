@@ -0,0 +1,29 @@
+package com.github.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 관리구역의 게시글 건수 요약 (/sites/{areaId}/summary)
+ * 관리구역 전체와 소구역별 게시글/확인/조치 건수 (post_counter 기준)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AreaPostSummaryResponse {
+
+    private Long areaId;
+
+    private String areaName;
+
+    private long postCount;
+
+    private long checkedCount;
+
+    private long actionTakenCount;
+
+    private List<SubAreaPostSummaryDto> subAreas;
+}
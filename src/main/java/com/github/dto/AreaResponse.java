@@ -3,6 +3,7 @@ package com.github.dto;
 import lombok.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -18,6 +19,8 @@ public class AreaResponse {
 
     private String imageUrl;
 
+    private Map<Integer, String> imageVariants; // 너비(px)별 축소 이미지 URL
+
     private List<SubAreaDto> subAreas;
 
 }
@@ -0,0 +1,31 @@
+package com.github.dto;
+
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * 블록(= area)별 통계 한 줄
+ * yearMonth가 있으면 해당 월의 집계, 없으면 조회 기간 전체 집계
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BlockStatisticsDto {
+
+    private String yearMonth;               // e.g. "2025-03" (기간 전체 집계는 null)
+
+    private Long blockId;
+
+    private String blockName;
+
+    private long reportCount;               // 보고건수
+
+    private long actionCount;               // 조치건수
+
+    private long highRiskActionCount;       // 고위험성(3점 이상) 조치건수
+
+    private Map<Integer, Long> highRiskActionsByScore;  // 위험성 점수별 고위험성 조치건수 (3~5)
+}
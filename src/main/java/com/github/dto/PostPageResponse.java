@@ -0,0 +1,22 @@
+package com.github.dto;
+
+import com.github.entity.PostEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PostPageResponse {
+    private List<PostEntity> posts;
+    private String nextCursor;  // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+    private Long totalCount;    // 전체 게시글 수 (소구역 조회 시 null)
+}
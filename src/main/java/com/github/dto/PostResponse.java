@@ -1,6 +1,7 @@
 package com.github.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.github.entity.PostPhotoEntity;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,6 +9,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
@@ -18,6 +21,8 @@ public class PostResponse {
     private Long postId;
     private String title;
     private String postPhotoUrl;
+    private Map<Integer, String> postPhotoVariants; // 너비(px)별 축소 이미지 URL
+    private List<PostPhotoEntity> photos;
     private String content;
     
     private Long areaId;
@@ -36,11 +41,14 @@ public class PostResponse {
     private String reporterRiskDescription;
     private String reporterRisk;
     private String managerRisk;
+    private Integer managerRiskScore;
     
     @JsonFormat(pattern = "yyyy-MM-dd/HH:mm:ss")
     private LocalDateTime createdAt;
     
     @JsonFormat(pattern = "yyyy-MM-dd/HH:mm:ss")
     private LocalDateTime updatedAt;
+
+    private Integer version;  // 관리자 수정 시 그대로 보내면 다른 사용자가 먼저 수정한 경우 409
 }
 
@@ -6,6 +6,8 @@ import lombok.Setter;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import java.util.Map;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -17,6 +19,7 @@ public class ProfileResponse {
     private String  phoneNumber;
     private String  radioNumber;
     private String  profilePhotoUrl;
+    private Map<Integer, String> profilePhotoVariants; // 너비(px)별 축소 이미지 URL
     private Integer department;
     private Integer position;
 }
@@ -0,0 +1,26 @@
+package com.github.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 대시보드 통계 요약 (/graphs/summary)
+ * 기존 /graphs, /graphs/actions, /graphs/monthly/reports, /graphs/high/risks 응답을 한 번에 제공
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsSummaryResponse {
+
+    private LocalDate from;
+
+    private LocalDate to;
+
+    private List<BlockStatisticsDto> blocks;    // 블록별 기간 전체 집계
+
+    private List<BlockStatisticsDto> monthly;   // 월별 + 블록별 집계
+}
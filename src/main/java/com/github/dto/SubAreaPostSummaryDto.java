@@ -0,0 +1,21 @@
+package com.github.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubAreaPostSummaryDto {
+
+    private Long subAreaId;
+
+    private String name;
+
+    private long postCount;
+
+    private long checkedCount;
+
+    private long actionTakenCount;
+}
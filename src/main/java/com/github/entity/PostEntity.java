@@ -5,12 +5,14 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PostEntity {
     private Long postId;
     private Long subAreaId;
@@ -38,16 +40,19 @@ public class PostEntity {
     private String content;
 
     private String postPhotoUrl; // 이미지 URL
+    private Map<Integer, String> postPhotoVariants; // 너비(px)별 축소 이미지 URL (DB 컬럼 아님, 조회 시 원본 URL에서 계산)
+    private List<PostPhotoEntity> photos; // 전체 사진 (post_photos, 첫 번째가 post_photo_url)
 
     // 신고자 위험성 평가 (분리된 형식)
-    private Integer reporterRiskScore;      // 신고자 평가 점수 (1-5점)
+    private Integer reporterRiskScore;      // 신고자 평가 점수 (1-5점, reporter_risk_level 컬럼)
     private String reporterRiskDescription; // 신고자 평가 설명
     private String reporterRisk;            // 기존 호환성 유지
     
     // 관리자 위험성 평가
     private String managerRisk;             // 1~5점 문자열로 저장
-    private Integer isChecked;    // 0: 미확인, 1: 확인완료
-    private Integer isActionTaked; // 0: 미조치, 1: 조치완료 (오타 유지)
+    private Integer managerRiskScore;       // 관리자 평가 점수 (1-5점, manager_risk_level 컬럼, 미평가면 null)
+    private Integer isChecked;    // 0: 미확인, 1: 확인완료 (check_status 컬럼)
+    private Integer isActionTaked; // 0: 미조치, 1: 조치완료 (action_status 컬럼, 오타 유지)
     
     @JsonFormat(pattern = "yyyy-MM-dd/HH:mm:ss")
     private LocalDateTime createdAt;
@@ -60,4 +65,6 @@ public class PostEntity {
     
     @JsonFormat(pattern = "yyyy-MM-dd/HH:mm:ss")
     private LocalDateTime actionTakenAt;
+
+    private Integer version;  // 낙관적 잠금 버전 (수정할 때마다 1 증가)
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.github.entity;
+
+import lombok.*;
+
+import java.util.Map;
+
+/**
+ * 게시글 사진 (post_photos 한 행, sort_order 순)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class PostPhotoEntity {
+    private String url;
+    private Integer sortOrder;
+    private Map<Integer, String> variants; // 너비(px)별 축소 이미지 URL (DB 컬럼 아님, 조회 시 원본 URL에서 계산)
+}
@@ -39,6 +39,8 @@ public class GlobalExceptionHandler {
             case 403 -> "Forbidden";
             case 404 -> "Not Found";
             case 409 -> "Conflict";
+            case 413 -> "Payload Too Large";
+            case 415 -> "Unsupported Media Type";
             case 422 -> "Unprocessable Entity";
             case 500 -> "Internal Server Error";
             case 502 -> "Bad Gateway";
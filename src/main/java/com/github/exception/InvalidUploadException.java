@@ -0,0 +1,13 @@
+package com.github.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 업로드 파일 검증 실패 (형식 불일치 415, 크기 초과 413, 빈 파일 400)
+ */
+public class InvalidUploadException extends ResponseStatusException {
+    public InvalidUploadException(HttpStatus status, String message) {
+        super(status, message);
+    }
+}
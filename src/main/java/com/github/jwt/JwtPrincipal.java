@@ -0,0 +1,16 @@
+package com.github.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 토큰에서 꺼낸 사용자 정보
+ * JwtAuthFilter가 요청마다 한 번 만들어 요청 속성에 저장하고, 컨트롤러/서비스는 이를 재사용
+ */
+public record JwtPrincipal(Long userId, String role, String jti, Instant expiresAt) {
+
+    public static final String REQUEST_ATTRIBUTE = JwtPrincipal.class.getName();
+
+    public boolean isAdmin() {
+        return "ROLE_ADMIN".equals(role);
+    }
+}
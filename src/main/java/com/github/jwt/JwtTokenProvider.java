@@ -2,28 +2,113 @@ package com.github.jwt;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.JWTVerifier;
-import lombok.RequiredArgsConstructor;
+import com.github.cache.BoundedCache;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.UUID;
 
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
     private final JwtProperties props;
 
-    private Algorithm algorithm() {
-        return Algorithm.HMAC256(props.getSecret());
+    // Algorithm/JWTVerifier는 불변이고 스레드 안전하므로 한 번만 생성해서 재사용
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+
+    // 같은 액세스 토큰이 반복 요청될 때 서명 검증/클레임 디코딩을 생략하기 위한 캐시 (키: 토큰 SHA-256)
+    private final BoundedCache<String, JwtPrincipal> verifiedTokenCache;
+
+    public JwtTokenProvider(JwtProperties props, BoundedCache<String, JwtPrincipal> verifiedTokenCache) {
+        this.props = props;
+        this.algorithm = Algorithm.HMAC256(props.getSecret());
+        this.verifier = JWT.require(algorithm).build();
+        this.verifiedTokenCache = verifiedTokenCache;
+    }
+
+    /**
+     * 서명/만료를 한 번 검증하고 사용자 정보를 꺼냄
+     * 검증 실패 시 JWTVerificationException, subject가 숫자가 아니면 NumberFormatException
+     */
+    public JwtPrincipal verifyAndParse(String token) {
+        DecodedJWT decoded = verifier.verify(token);
+        return new JwtPrincipal(
+                Long.valueOf(decoded.getSubject()),
+                decoded.getClaim("role").asString(),
+                decoded.getId(),
+                decoded.getExpiresAtAsInstant()
+        );
+    }
+
+    /**
+     * verifyAndParse + 검증 결과 캐시
+     * 캐시된 항목은 토큰 만료 시각(exp)이 지나면 사용하지 않고 다시 검증 (만료 토큰은 여기서 예외 발생)
+     * 검증에 실패한 토큰은 캐시하지 않음
+     */
+    public JwtPrincipal verifyAndParseCached(String token) {
+        String key = tokenDigest(token);
+        JwtPrincipal cached = verifiedTokenCache.getIfPresent(key);
+        if (cached != null) {
+            if (cached.expiresAt() != null && cached.expiresAt().isAfter(Instant.now())) {
+                return cached;
+            }
+            verifiedTokenCache.invalidate(key);
+        }
+        JwtPrincipal principal = verifyAndParse(token);
+        verifiedTokenCache.put(key, principal);
+        return principal;
+    }
+
+    /** 로그아웃 시 해당 액세스 토큰의 검증 결과 제거 */
+    public void evictVerifiedToken(String token) {
+        verifiedTokenCache.invalidate(tokenDigest(token));
     }
 
-    private JWTVerifier verifier() {
-        return JWT.require(algorithm())
-                .build();
+    /** 로그아웃 시 사용자의 캐시된 액세스 토큰 검증 결과를 모두 제거 */
+    public int evictVerifiedTokens(Long userId) {
+        return verifiedTokenCache.invalidateIf(principal -> userId.equals(principal.userId()));
+    }
+
+    private static String tokenDigest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 요청에 대한 사용자 정보 조회
+     * JwtAuthFilter가 저장한 값을 우선 사용하고, 없으면(필터를 거치지 않은 경로) Authorization 헤더를 직접 검증
+     */
+    public JwtPrincipal resolvePrincipal(HttpServletRequest request) {
+        if (request.getAttribute(JwtPrincipal.REQUEST_ATTRIBUTE) instanceof JwtPrincipal principal) {
+            return principal;
+        }
+        String bearerToken = request.getHeader("Authorization");
+        if (bearerToken == null || !bearerToken.startsWith("Bearer ")) {
+            throw new RuntimeException("토큰을 찾을 수 없습니다.");
+        }
+        try {
+            JwtPrincipal principal = verifyAndParseCached(bearerToken.substring(7));
+            request.setAttribute(JwtPrincipal.REQUEST_ATTRIBUTE, principal);
+            return principal;
+        } catch (JWTVerificationException | NumberFormatException e) {
+            throw new RuntimeException("유효하지 않은 토큰입니다.");
+        }
     }
 
     public String generateAccessToken(Long userId, String role) {
@@ -35,7 +120,7 @@ public class JwtTokenProvider {
                 .withClaim("role", role)
                 .withIssuedAt(Date.from(now))
                 .withExpiresAt(Date.from(exp))
-                .sign(algorithm());
+                .sign(algorithm);
     }
 
     public String generateRefreshToken(Long userId, String role, String jti) {
@@ -48,41 +133,41 @@ public class JwtTokenProvider {
                 .withJWTId(jti)
                 .withIssuedAt(Date.from(now))
                 .withExpiresAt(Date.from(exp))
-                .sign(algorithm());
+                .sign(algorithm);
     }
 
     public boolean validate(String token) {
         try { 
-            verifier().verify(token); 
+            verifier.verify(token); 
             return true; 
         }
         catch (Exception e) { 
-            System.out.println("JWT Validation Error: " + e.getMessage());
+            log.debug("JWT Validation Error: {}", e.getMessage());
             return false; 
         }
     }
 
     public boolean validateRefreshToken(String token) {
         try {
-            DecodedJWT decodedJWT = verifier().verify(token);
+            DecodedJWT decodedJWT = verifier.verify(token);
             // refresh token은 JTI가 있어야 함
             String jti = decodedJWT.getId();
             if (jti == null || jti.trim().isEmpty()) {
-                System.out.println("Refresh token에 JTI가 없습니다.");
+                log.debug("Refresh token에 JTI가 없습니다.");
                 return false;
             }
             return true;
         } catch (Exception e) {
-            System.out.println("Refresh Token Validation Error: " + e.getMessage());
+            log.debug("Refresh Token Validation Error: {}", e.getMessage());
             return false;
         }
     }
 
     public DecodedJWT decode(String token) {
         try {
-            return verifier().verify(token);
+            return verifier.verify(token);
         } catch (Exception e) {
-            System.out.println("Token decode error: " + e.getMessage());
+            log.debug("Token decode error: {}", e.getMessage());
             throw new RuntimeException("Token cannot be decoded: " + e.getMessage());
         }
     }
@@ -92,7 +177,7 @@ public class JwtTokenProvider {
             String subject = decode(token).getSubject();
             return Long.valueOf(subject);
         } catch (Exception e) {
-            System.out.println("Error getting userId from token: " + e.getMessage());
+            log.debug("Error getting userId from token: {}", e.getMessage());
             throw new RuntimeException("Failed to extract userId from token: " + e.getMessage());
         }
     }
@@ -101,7 +186,7 @@ public class JwtTokenProvider {
         try {
             return decode(token).getClaim("role").asString();
         } catch (Exception e) {
-            System.out.println("Error getting role from token: " + e.getMessage());
+            log.debug("Error getting role from token: {}", e.getMessage());
             throw new RuntimeException("Failed to extract role from token: " + e.getMessage());
         }
     }
@@ -110,7 +195,7 @@ public class JwtTokenProvider {
         try {
             return decode(token).getId();
         } catch (Exception e) {
-            System.out.println("Error getting jti from token: " + e.getMessage());
+            log.debug("Error getting jti from token: {}", e.getMessage());
             throw new RuntimeException("Failed to extract jti from token: " + e.getMessage());
         }
     }
@@ -0,0 +1,126 @@
+package com.github.metrics;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 처리 단계별 지연 시간 집계 (건수/실패/평균/최대/백분위)
+ * - 기록은 락 없이 LongAdder로 누적하고, 백분위는 고정 구간 히스토그램의 상한값으로 근사
+ * - 통계는 GET /debug/stages 에서 확인할 수 있습니다.
+ */
+public class StageLatencyStats {
+
+    // 히스토그램 구간 상한 (ms), 마지막 구간을 넘으면 최대값으로 표시
+    private static final long[] BUCKET_BOUNDS_MS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000};
+
+    private final String name;
+    private final Map<String, Stage> stages = new LinkedHashMap<>();  // 생성 후 변경하지 않음
+
+    public StageLatencyStats(String name, String... stageNames) {
+        this.name = name;
+        for (String stageName : stageNames) {
+            stages.put(stageName, new Stage());
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void record(String stage, long elapsedNanos) {
+        stage(stage).record(elapsedNanos);
+    }
+
+    /** 시작 시각(System.nanoTime) 기준으로 경과 시간 기록 */
+    public void recordSince(String stage, long startNanos) {
+        record(stage, System.nanoTime() - startNanos);
+    }
+
+    public void failed(String stage) {
+        stage(stage).failures.increment();
+    }
+
+    public Map<String, Object> stats() {
+        List<Map<String, Object>> stageStats = new ArrayList<>(stages.size());
+        stages.forEach((stageName, stage) -> stageStats.add(stage.stats(stageName)));
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("name", name);
+        stats.put("stages", stageStats);
+        return stats;
+    }
+
+    private Stage stage(String stage) {
+        Stage found = stages.get(stage);
+        if (found == null) {
+            throw new IllegalArgumentException("Unknown stage: " + stage);
+        }
+        return found;
+    }
+
+    private static final class Stage {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+
+        Stage() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void record(long elapsedNanos) {
+            count.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulate(elapsedNanos);
+            double millis = elapsedNanos / 1_000_000.0;
+            int bucket = 0;
+            while (bucket < BUCKET_BOUNDS_MS.length && millis > BUCKET_BOUNDS_MS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+        }
+
+        Map<String, Object> stats(String stageName) {
+            long n = count.sum();
+            double maxMs = maxNanos.get() / 1_000_000.0;
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("stage", stageName);
+            stats.put("count", n);
+            stats.put("failures", failures.sum());
+            stats.put("avgMs", n == 0 ? 0.0 : round(totalNanos.sum() / 1_000_000.0 / n));
+            stats.put("maxMs", round(maxMs));
+            stats.put("p50Ms", percentile(0.50, n, maxMs));
+            stats.put("p95Ms", percentile(0.95, n, maxMs));
+            stats.put("p99Ms", percentile(0.99, n, maxMs));
+            return stats;
+        }
+
+        // 누적 건수가 처음으로 q 비율에 도달하는 구간의 상한 (최대값보다 크게 표시하지 않음)
+        private double percentile(double q, long n, double maxMs) {
+            if (n == 0) {
+                return 0.0;
+            }
+            long rank = (long) Math.ceil(q * n);
+            long seen = 0;
+            for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+                seen += buckets[i].sum();
+                if (seen >= rank) {
+                    return round(Math.min(BUCKET_BOUNDS_MS[i], maxMs));
+                }
+            }
+            return round(maxMs);
+        }
+
+        private static double round(double millis) {
+            return Math.round(millis * 100) / 100.0;
+        }
+    }
+}
@@ -4,6 +4,7 @@ package com.github.repository;
 import com.github.entity.AreaEntity;
 import com.github.entity.SubAreaEntity;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -12,14 +13,17 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class AreaJdbcRepository {
     private final JdbcTemplate jdbc;
+    private final UploadBlobJdbcRepository uploadBlobRepository;
 
     public Long insertArea(String name, String imageUrl) {
         String sql = "INSERT INTO area(name, area_photo_url) VALUES (?, ?)";
@@ -79,13 +83,30 @@ public class AreaJdbcRepository {
                 , areaId);
     }
 
+    // 모든 소구역 조회 (관리구역 일람을 한 번에 구성하기 위한 일괄 조회)
+    public List<SubAreaEntity> findAllSubAreas() {
+        String sql = "SELECT sub_area_id, area_id, name, created_at, updated_at FROM sub_area ORDER BY area_id ASC, sub_area_id ASC";
+        return jdbc.query(sql, (rs, n) ->
+                SubAreaEntity.builder()
+                        .subAreaId(rs.getLong("sub_area_id"))
+                        .areaId(rs.getLong("area_id"))
+                        .name(rs.getString("name"))
+                        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                        .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                        .build()
+        );
+    }
+
     public void updateAreaName(Long areaId, String name) {
         String sql = "UPDATE area SET name = ? WHERE area_id = ?";
         jdbc.update(sql, name, areaId);
     }
+    /** 관리구역 사진 교체 (이전 사진의 파일 참조 해제) */
     public void updateAreaImage(Long areaId, String imageUrl) {
+        List<String> previous = jdbc.queryForList("SELECT area_photo_url FROM area WHERE area_id = ?", String.class, areaId);
         String sql = "UPDATE area SET area_photo_url = ? WHERE area_id = ?";
         jdbc.update(sql, imageUrl, areaId);
+        uploadBlobRepository.release(previous);
     }
     public void deleteSubAreas(Long areaId) {
         String sql = "DELETE FROM sub_area WHERE area_id = ?";
@@ -120,58 +141,55 @@ public class AreaJdbcRepository {
      * 1. 해당 area의 모든 post 삭제
      * 2. 해당 area의 모든 sub_area 삭제  
      * 3. area 삭제
+     * 4. 게시글 사진/관리구역 사진 파일 참조 해제 (참조가 없어진 파일은 커밋 후 삭제)
      */
     @Transactional
     public void deleteArea(Long areaId) {
+        List<String> photoUrls = new ArrayList<>(uploadBlobRepository.findPostPhotoUrls("p.area_id = ?", areaId));
+        photoUrls.addAll(jdbc.queryForList("SELECT area_photo_url FROM area WHERE area_id = ?", String.class, areaId));
+
         // 1. 해당 area를 참조하는 모든 post 삭제
+        jdbc.update("DELETE FROM post_photos WHERE post_id IN (SELECT post_id FROM post WHERE area_id = ?)", areaId);
         String deletePostsSql = "DELETE FROM post WHERE area_id = ?";
         int deletedPosts = jdbc.update(deletePostsSql, areaId);
-        System.out.println("Deleted " + deletedPosts + " posts for area " + areaId);
+        log.debug("Deleted {} posts for area {}", deletedPosts, areaId);
         
         // 2. 해당 area의 모든 sub_area 삭제
         String deleteSubAreasSql = "DELETE FROM sub_area WHERE area_id = ?";
         int deletedSubAreas = jdbc.update(deleteSubAreasSql, areaId);
-        System.out.println("Deleted " + deletedSubAreas + " sub_areas for area " + areaId);
+        log.debug("Deleted {} sub_areas for area {}", deletedSubAreas, areaId);
         
         // 3. area 삭제
         String deleteAreaSql = "DELETE FROM area WHERE area_id = ?";
         int deletedArea = jdbc.update(deleteAreaSql, areaId);
-        System.out.println("Deleted " + deletedArea + " area with id " + areaId);
+        log.debug("Deleted {} area with id {}", deletedArea, areaId);
         
         if (deletedArea == 0) {
             throw new RuntimeException("Area를 찾을 수 없습니다: " + areaId);
         }
+        uploadBlobRepository.release(photoUrls);
     }
 
     /**
      * Area 삭제 전 참조 데이터 확인
      */
     public boolean hasReferences(Long areaId) {
-        // post 테이블에서 참조 확인
-        String checkPostsSql = "SELECT COUNT(*) FROM post WHERE area_id = ?";
-        Integer postCount = jdbc.queryForObject(checkPostsSql, Integer.class, areaId);
-        
-        // sub_area 테이블에서 참조 확인
-        String checkSubAreasSql = "SELECT COUNT(*) FROM sub_area WHERE area_id = ?";
-        Integer subAreaCount = jdbc.queryForObject(checkSubAreasSql, Integer.class, areaId);
-        
-        return (postCount != null && postCount > 0) || (subAreaCount != null && subAreaCount > 0);
+        return getReferenceInfo(areaId).hasReferences();
     }
 
     /**
      * Area 삭제 전 참조 데이터 개수 조회
+     * 게시글 수는 post_counter의 관리구역 카운터에서 읽고, 소구역 수와 함께 한 번에 조회
      */
     public AreaReferenceInfo getReferenceInfo(Long areaId) {
-        String checkPostsSql = "SELECT COUNT(*) FROM post WHERE area_id = ?";
-        Integer postCount = jdbc.queryForObject(checkPostsSql, Integer.class, areaId);
-        
-        String checkSubAreasSql = "SELECT COUNT(*) FROM sub_area WHERE area_id = ?";
-        Integer subAreaCount = jdbc.queryForObject(checkSubAreasSql, Integer.class, areaId);
-        
-        return new AreaReferenceInfo(
-            postCount != null ? postCount : 0,
-            subAreaCount != null ? subAreaCount : 0
-        );
+        final String sql = """
+            SELECT (SELECT post_count FROM post_counter WHERE scope_type = ? AND scope_id = ?) AS post_count,
+                   (SELECT COUNT(*) FROM sub_area WHERE area_id = ?) AS sub_area_count
+            """;
+        return jdbc.queryForObject(sql, (rs, rowNum) -> new AreaReferenceInfo(
+                rs.getInt("post_count"),
+                rs.getInt("sub_area_count")
+        ), PostCounterJdbcRepository.SCOPE_AREA, areaId, areaId);
     }
 
     /**
@@ -2,6 +2,7 @@ package com.github.repository;
 
 import com.github.entity.CommentEntity;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.List;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class CommentJdbcRepository {
@@ -20,7 +22,7 @@ public class CommentJdbcRepository {
 
     public CommentEntity insert(CommentEntity comment) {
         try {
-            System.out.println("=== 댓글 저장 진행 ===");
+            log.debug("=== 댓글 저장 진행 ===");
             createTableIfNotExists();
 
             final String sql = """
@@ -43,20 +45,19 @@ public class CommentJdbcRepository {
             Long commentId = keyHolder.getKey().longValue();
             comment.setCommentId(commentId);
 
-            System.out.println("Comment inserted successfully with ID: " + commentId);
-            System.out.println("=== 댓글 저장 완료 ===");
+            log.debug("Comment inserted successfully with ID: {}", commentId);
+            log.debug("=== 댓글 저장 완료 ===");
             return comment;
         } catch (Exception ex) {
-            System.out.println("Database error in CommentRepository.insert: " + ex.getMessage());
-            ex.printStackTrace();
+            log.error("Database error in CommentRepository.insert: {}", ex.getMessage(), ex);
             comment.setCommentId(System.currentTimeMillis());
             return comment;
         }
     }
 
     public List<CommentEntity> findByPostId(Long postId) {
-        System.out.println("=== 댓글 조회 진행 ===");
-        System.out.println("PostId: " + postId);
+        log.debug("=== 댓글 조회 진행 ===");
+        log.debug("PostId: {}", postId);
 
         final String sql = """
             SELECT comment_id, post_id, user_id, message, created_at, updated_at 
@@ -77,12 +78,11 @@ public class CommentJdbcRepository {
                         .build();
             }, postId);
 
-            System.out.println("Query result size: " + result.size());
-            System.out.println("=== 댓글 조회 완료 ===");
+            log.debug("Query result size: {}", result.size());
+            log.debug("=== 댓글 조회 완료 ===");
             return result;
         } catch (Exception e) {
-            System.out.println("Error in findByPostId: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error in findByPostId: {}", e.getMessage(), e);
             return List.of();
         }
     }
@@ -106,8 +106,7 @@ public class CommentJdbcRepository {
                         .build();
             }, commentId);
         } catch (Exception e) {
-            System.out.println("Error in findById: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error in findById: {}", e.getMessage(), e);
             return null;
         }
     }
@@ -119,10 +118,9 @@ public class CommentJdbcRepository {
             // 로컬 현재 시간을 Timestamp로 설정
             Timestamp currentTime = Timestamp.valueOf(LocalDateTime.now(ZoneId.of("Asia/Seoul")));
             jdbc.update(sql, content, currentTime, commentId);
-            System.out.println("Comment updated: " + commentId);
+            log.debug("Comment updated: {}", commentId);
         } catch (Exception e) {
-            System.out.println("Error updating comment: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error updating comment: {}", e.getMessage(), e);
         }
     }
 
@@ -131,10 +129,9 @@ public class CommentJdbcRepository {
 
         try {
             jdbc.update(sql, commentId);
-            System.out.println("Comment deleted: " + commentId);
+            log.debug("Comment deleted: {}", commentId);
         } catch (Exception e) {
-            System.out.println("Error deleting comment: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error deleting comment: {}", e.getMessage(), e);
         }
     }
 
@@ -147,9 +144,9 @@ public class CommentJdbcRepository {
             
             try {
                 jdbc.execute(alterTableSql);
-                System.out.println("Comment table updated_at column modified successfully");
+                log.debug("Comment table updated_at column modified successfully");
             } catch (Exception e) {
-                System.out.println("Table might not exist yet, creating new table...");
+                log.debug("Table might not exist yet, creating new table...");
             }
             
             // 테이블이 없으면 새로 생성
@@ -165,11 +162,10 @@ public class CommentJdbcRepository {
                 """;
 
             jdbc.execute(createTableSql);
-            System.out.println("Comment table checked/created successfully");
+            log.debug("Comment table checked/created successfully");
             
         } catch (Exception e) {
-            System.out.println("Failed to create/modify comment table: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Failed to create/modify comment table: {}", e.getMessage(), e);
         }
     }
 }
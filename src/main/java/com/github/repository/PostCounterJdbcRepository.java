@@ -0,0 +1,200 @@
+package com.github.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 수 카운터 테이블(post_counter) 저장소
+ * 전체 / 관리구역(area) / 소구역(sub_area) 단위로 게시글 수, 확인 수, 조치 수를 미리 세어 두고,
+ * 건수 조회는 COUNT(*) 대신 기본 키 한 건 조회로 처리합니다.
+ * 게시글 생성/상태 변경/삭제와 같은 트랜잭션 안에서 applyXxx를 호출해 함께 커밋되도록 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCounterJdbcRepository {
+
+    public static final String SCOPE_TOTAL = "TOTAL";
+    public static final String SCOPE_AREA = "AREA";
+    public static final String SCOPE_SUB_AREA = "SUB_AREA";
+
+    private final JdbcTemplate jdbc;
+
+    // 게시글 한 행을 (전체, 관리구역, 소구역) 세 개의 카운터 행으로 펼쳐 집계 (area_id가 없는 예전 행은 관리구역 제외)
+    private static final String SCOPE_ID_EXPR = """
+            CASE k.scope_type WHEN 'SUB_AREA' THEN p.sub_area_id WHEN 'AREA' THEN p.area_id ELSE 0 END""";
+
+    // 증감값(±1) 파라미터, 타입을 지정해야 H2에서도 곱셈 결과 타입이 정해짐
+    private static final String DELTA_PARAM = "CAST(? AS SIGNED)";
+
+    private static final String AGGREGATE_SELECT = """
+            SELECT k.scope_type, %1$s,
+                   %2$s * COUNT(*),
+                   %2$s * SUM(COALESCE(p.check_status, 0)),
+                   %2$s * SUM(COALESCE(p.action_status, 0))
+            FROM post p
+            CROSS JOIN (SELECT 'TOTAL' AS scope_type UNION ALL SELECT 'AREA' UNION ALL SELECT 'SUB_AREA') k
+            WHERE (%3$s) AND (k.scope_type <> 'AREA' OR p.area_id IS NOT NULL)
+            GROUP BY k.scope_type, %1$s
+            """;
+
+    private static final String INSERT_COUNTER =
+            "INSERT INTO post_counter (scope_type, scope_id, post_count, checked_count, action_count)\n";
+
+    private static final String ADD_ON_DUPLICATE = """
+            ON DUPLICATE KEY UPDATE post_count = post_count + VALUES(post_count),
+                                    checked_count = checked_count + VALUES(checked_count),
+                                    action_count = action_count + VALUES(action_count)
+            """;
+
+    /** 카운터 값 (게시글 수, 확인 수, 조치 수) */
+    public record PostCounts(long postCount, long checkedCount, long actionCount) {
+        public static final PostCounts EMPTY = new PostCounts(0, 0, 0);
+    }
+
+    public void createTableIfNotExists() {
+        jdbc.execute("""
+            CREATE TABLE IF NOT EXISTS post_counter (
+                scope_type    VARCHAR(10) NOT NULL,
+                scope_id      INT         NOT NULL,
+                post_count    INT         NOT NULL DEFAULT 0,
+                checked_count INT         NOT NULL DEFAULT 0,
+                action_count  INT         NOT NULL DEFAULT 0,
+                PRIMARY KEY (scope_type, scope_id)
+            )
+            """);
+    }
+
+    public boolean isEmpty() {
+        List<Integer> rows = jdbc.queryForList("SELECT 1 FROM post_counter LIMIT 1", Integer.class);
+        return rows.isEmpty();
+    }
+
+    /**
+     * 게시글 한 건을 카운터에 반영 (delta = +1 추가, -1 제거)
+     * 상태/소구역 변경 시에는 변경 전 -1, 변경 후 +1을 같은 트랜잭션 안에서 호출
+     */
+    public void applyPost(Long postId, int delta) {
+        applyDelta("p.post_id = ?", delta, postId);
+    }
+
+    /**
+     * 특정 사용자가 작성한 게시글 전체를 카운터에 반영 (사용자 계단식 삭제 전 -1 호출)
+     */
+    public void applyReporterPosts(long reporterId, int delta) {
+        applyDelta("p.reporter_id = ?", delta, reporterId);
+    }
+
+    /**
+     * 관리구역에 속한 게시글 전체를 카운터에 반영 (관리구역 계단식 삭제 전 -1 호출)
+     */
+    public void applyAreaPosts(Long areaId, int delta) {
+        applyDelta("p.area_id = ?", delta, areaId);
+    }
+
+    /**
+     * 여러 게시글을 한 번에 카운터에 반영 (일괄 수정 전 -1, 후 +1을 각각 한 번씩 호출)
+     */
+    public void applyPosts(Collection<Long> postIds, int delta) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        String inSql = String.join(",", Collections.nCopies(postIds.size(), "?"));
+        applyDelta("p.post_id IN (" + inSql + ")", delta, postIds.toArray());
+    }
+
+    // SELECT 절의 증감값 파라미터 3개가 조건 파라미터보다 앞에 옴
+    private void applyDelta(String condition, int delta, Object... params) {
+        final String sql = INSERT_COUNTER
+                + AGGREGATE_SELECT.formatted(SCOPE_ID_EXPR, DELTA_PARAM, condition)
+                + ADD_ON_DUPLICATE;
+        Object[] args = new Object[params.length + 3];
+        Arrays.fill(args, 0, 3, delta);
+        System.arraycopy(params, 0, args, 3, params.length);
+        jdbc.update(sql, args);
+    }
+
+    /**
+     * 수정 전 상태를 이미 알고 있을 때(버전 확인 수정) 확인/조치 수 변화량만 한 번에 반영
+     * post 행을 다시 읽지 않고 전체/관리구역/소구역 카운터를 INSERT 한 번으로 갱신
+     */
+    public void applyStatusChange(Long subAreaId, Long areaId, int checkedDelta, int actionDelta) {
+        if (checkedDelta == 0 && actionDelta == 0) {
+            return;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_COUNTER).append("VALUES ('TOTAL', 0, 0, ?, ?), ('SUB_AREA', ?, 0, ?, ?)");
+        List<Object> params = new ArrayList<>(List.of(checkedDelta, actionDelta, subAreaId, checkedDelta, actionDelta));
+        if (areaId != null) {
+            sql.append(", ('AREA', ?, 0, ?, ?)");
+            params.addAll(List.of(areaId, checkedDelta, actionDelta));
+        }
+        jdbc.update(sql.append('\n').append(ADD_ON_DUPLICATE).toString(), params.toArray());
+    }
+
+    /**
+     * 관리구역 삭제 시 해당 관리구역과 소속 소구역의 카운터 행 제거 (sub_area 행을 지우기 전에 호출)
+     */
+    public void deleteByArea(Long areaId) {
+        jdbc.update("""
+            DELETE FROM post_counter
+            WHERE (scope_type = 'AREA' AND scope_id = ?)
+               OR (scope_type = 'SUB_AREA' AND scope_id IN (SELECT sub_area_id FROM sub_area WHERE area_id = ?))
+            """, areaId, areaId);
+    }
+
+    /**
+     * 원본 post 테이블로부터 카운터 전체 재생성 (호출 측 트랜잭션 안에서 실행)
+     */
+    public int rebuildAll() {
+        jdbc.update("DELETE FROM post_counter");
+        return jdbc.update(INSERT_COUNTER + AGGREGATE_SELECT.formatted(SCOPE_ID_EXPR, "1", "1 = 1"));
+    }
+
+    public long countAll() {
+        return find(SCOPE_TOTAL, 0L).postCount();
+    }
+
+    public PostCounts findByArea(Long areaId) {
+        return find(SCOPE_AREA, areaId);
+    }
+
+    public PostCounts findBySubArea(Long subAreaId) {
+        return find(SCOPE_SUB_AREA, subAreaId);
+    }
+
+    /**
+     * 여러 소구역의 카운터를 한 번에 조회 (카운터 행이 없는 소구역은 결과에 포함되지 않음)
+     */
+    public Map<Long, PostCounts> findBySubAreas(List<Long> subAreaIds) {
+        if (subAreaIds == null || subAreaIds.isEmpty()) {
+            return Map.of();
+        }
+        String inSql = String.join(",", Collections.nCopies(subAreaIds.size(), "?"));
+        String sql = "SELECT scope_id, post_count, checked_count, action_count FROM post_counter "
+                + "WHERE scope_type = 'SUB_AREA' AND scope_id IN (" + inSql + ")";
+
+        Map<Long, PostCounts> counts = new HashMap<>();
+        jdbc.query(sql, rs -> {
+            counts.put(rs.getLong("scope_id"), new PostCounts(
+                    rs.getLong("post_count"), rs.getLong("checked_count"), rs.getLong("action_count")));
+        }, subAreaIds.toArray());
+        return counts;
+    }
+
+    private PostCounts find(String scopeType, Long scopeId) {
+        List<PostCounts> rows = jdbc.query(
+                "SELECT post_count, checked_count, action_count FROM post_counter WHERE scope_type = ? AND scope_id = ?",
+                (rs, rowNum) -> new PostCounts(
+                        rs.getLong("post_count"), rs.getLong("checked_count"), rs.getLong("action_count")),
+                scopeType, scopeId);
+        return rows.isEmpty() ? PostCounts.EMPTY : rows.get(0);
+    }
+}
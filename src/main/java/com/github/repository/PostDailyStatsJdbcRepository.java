@@ -0,0 +1,246 @@
+package com.github.repository;
+
+import com.github.dto.BlockStatisticsDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일별 게시글 집계 테이블(post_daily_stats) 저장소
+ * (일자 × 관리구역 × 위험성 점수 × 조치여부) 단위로 게시글 수를 미리 집계해 두고,
+ * 통계 API는 원본 post 테이블 대신 이 테이블을 조회합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class PostDailyStatsJdbcRepository {
+
+    private final JdbcTemplate jdbc;
+
+    // TINYINT 상태/위험성 컬럼 (시작 시 채우기 전인 예전 행은 NULL이므로 0으로 처리)
+    private static final String RISK_SCORE_EXPR = "COALESCE(p.reporter_risk_level, 0)";
+    private static final String ACTION_TAKEN_EXPR = "COALESCE(p.action_status, 0)";
+
+    private static final String AGGREGATE_SELECT = """
+            SELECT DATE(p.created_at), s.area_id, %1$s, %2$s, %3$s
+            FROM post p
+            JOIN sub_area s ON p.sub_area_id = s.sub_area_id
+            %4$s
+            GROUP BY DATE(p.created_at), s.area_id, %1$s, %2$s
+            """;
+
+    public void createTableIfNotExists() {
+        jdbc.execute("""
+            CREATE TABLE IF NOT EXISTS post_daily_stats (
+                stat_date       DATE    NOT NULL,
+                area_id         INT     NOT NULL,
+                risk_score      INT     NOT NULL,
+                is_action_taken TINYINT NOT NULL,
+                post_count      INT     NOT NULL DEFAULT 0,
+                PRIMARY KEY (stat_date, area_id, risk_score, is_action_taken)
+            )
+            """);
+    }
+
+    public boolean isEmpty() {
+        List<Integer> rows = jdbc.queryForList("SELECT 1 FROM post_daily_stats LIMIT 1", Integer.class);
+        return rows.isEmpty();
+    }
+
+    /**
+     * 게시글 한 건을 집계에 반영 (delta = +1 추가, -1 제거)
+     * 수정 시에는 변경 전 -1, 변경 후 +1을 같은 트랜잭션 안에서 호출
+     */
+    public void applyPost(Long postId, int delta) {
+        applyDelta("WHERE p.post_id = ?", delta, postId);
+    }
+
+    /**
+     * 특정 사용자가 작성한 게시글 전체를 집계에 반영 (사용자 계단식 삭제 전 -1 호출)
+     */
+    public void applyReporterPosts(long reporterId, int delta) {
+        applyDelta("WHERE p.reporter_id = ?", delta, reporterId);
+    }
+
+    /**
+     * 여러 게시글을 한 번에 집계에 반영 (일괄 수정 전 -1, 후 +1을 각각 한 번씩 호출)
+     */
+    public void applyPosts(Collection<Long> postIds, int delta) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        String inSql = String.join(",", Collections.nCopies(postIds.size(), "?"));
+        applyDelta("WHERE p.post_id IN (" + inSql + ")", delta, postIds.toArray());
+    }
+
+    private void applyDelta(String where, int delta, Object... params) {
+        final String sql = "INSERT INTO post_daily_stats (stat_date, area_id, risk_score, is_action_taken, post_count)\n"
+                + AGGREGATE_SELECT.formatted(RISK_SCORE_EXPR, ACTION_TAKEN_EXPR, "CAST(? AS SIGNED) * COUNT(*)", where)
+                + "ON DUPLICATE KEY UPDATE post_count = post_count + VALUES(post_count)";
+        Object[] args = new Object[params.length + 1];
+        args[0] = delta;
+        System.arraycopy(params, 0, args, 1, params.length);
+        jdbc.update(sql, args);
+    }
+
+    public void deleteByArea(Long areaId) {
+        jdbc.update("DELETE FROM post_daily_stats WHERE area_id = ?", areaId);
+    }
+
+    /**
+     * 원본 post 테이블로부터 집계 테이블 전체 재생성 (호출 측 트랜잭션 안에서 실행)
+     */
+    public int rebuildAll() {
+        jdbc.update("DELETE FROM post_daily_stats");
+        final String sql = "INSERT INTO post_daily_stats (stat_date, area_id, risk_score, is_action_taken, post_count)\n"
+                + AGGREGATE_SELECT.formatted(RISK_SCORE_EXPR, ACTION_TAKEN_EXPR, "COUNT(*)", "");
+        return jdbc.update(sql);
+    }
+
+    // 블록(= area) 단위로 기간 내 보고건수 집계
+    public List<Map<String, Object>> sumReportsByBlock(LocalDate from, LocalDate to) {
+        final String sql = """
+        SELECT a.area_id AS blockId,
+               a.name    AS blockName,
+               SUM(st.post_count) AS reportCount
+        FROM post_daily_stats st
+        JOIN area a ON st.area_id = a.area_id
+        WHERE st.stat_date BETWEEN ? AND ?
+        GROUP BY a.area_id, a.name
+        HAVING SUM(st.post_count) > 0
+        ORDER BY a.area_id
+        """;
+
+        return jdbc.query(sql, (rs, rowNum) -> {
+            Map<String, Object> map = new HashMap<>();
+            map.put("blockId", rs.getLong("blockId"));
+            map.put("blockName", rs.getString("blockName"));
+            map.put("reportCount", rs.getInt("reportCount"));
+            return map;
+        }, from, to);
+    }
+
+    // 블록(= area) 단위로 기간 내 조치건수 집계
+    public List<Map<String, Object>> sumActionsByBlock(LocalDate from, LocalDate to) {
+        final String sql = """
+        SELECT a.area_id AS blockId,
+               a.name    AS blockName,
+               SUM(st.post_count) AS actionCount
+        FROM post_daily_stats st
+        JOIN area a ON st.area_id = a.area_id
+        WHERE st.stat_date BETWEEN ? AND ?
+          AND st.is_action_taken = 1
+        GROUP BY a.area_id, a.name
+        HAVING SUM(st.post_count) > 0
+        ORDER BY a.area_id
+        """;
+
+        return jdbc.query(sql, (rs, rowNum) -> {
+            Map<String, Object> map = new HashMap<>();
+            map.put("blockId", rs.getLong("blockId"));
+            map.put("blockName", rs.getString("blockName"));
+            map.put("actionCount", rs.getInt("actionCount"));
+            return map;
+        }, from, to);
+    }
+
+    // 월별(YYYY-MM) + 블록(= area) 기준 신고 건수 집계
+    public List<Map<String, Object>> sumMonthlyReportsByBlock(LocalDate from, LocalDate to) {
+        final String sql = """
+        SELECT DATE_FORMAT(st.stat_date, '%Y-%m') AS yearMonth,
+               a.area_id AS blockId,
+               a.name    AS blockName,
+               SUM(st.post_count) AS reportCount
+        FROM post_daily_stats st
+        JOIN area a ON st.area_id = a.area_id
+        WHERE st.stat_date BETWEEN ? AND ?
+        GROUP BY DATE_FORMAT(st.stat_date, '%Y-%m'), a.area_id, a.name
+        HAVING SUM(st.post_count) > 0
+        ORDER BY yearMonth, a.area_id
+        """;
+
+        return jdbc.query(sql, (rs, rowNum) -> {
+            Map<String, Object> map = new HashMap<>();
+            map.put("yearMonth", rs.getString("yearMonth"));   // e.g. "2025-03"
+            map.put("blockId", rs.getLong("blockId"));
+            map.put("blockName", rs.getString("blockName"));
+            map.put("reportCount", rs.getInt("reportCount"));
+            return map;
+        }, from, to);
+    }
+
+    // 블록별 고위험성(3점 이상) 조치건수
+    public List<Map<String, Object>> sumHighRiskActionsByBlock(LocalDate from, LocalDate to) {
+        final String sql = """
+        SELECT a.area_id AS blockId,
+               a.name AS blockName,
+               st.risk_score AS riskScore,
+               SUM(st.post_count) AS actionCount
+        FROM post_daily_stats st
+        JOIN area a ON st.area_id = a.area_id
+        WHERE st.stat_date BETWEEN ? AND ?
+          AND st.is_action_taken = 1
+          AND st.risk_score >= 3
+        GROUP BY a.area_id, a.name, st.risk_score
+        HAVING SUM(st.post_count) > 0
+        ORDER BY a.area_id, riskScore
+        """;
+
+        return jdbc.query(sql, (rs, rowNum) -> {
+            Map<String, Object> map = new HashMap<>();
+            map.put("blockId", rs.getLong("blockId"));
+            map.put("blockName", rs.getString("blockName"));
+            map.put("riskScore", rs.getInt("riskScore"));
+            map.put("actionCount", rs.getInt("actionCount"));
+            return map;
+        }, from, to);
+    }
+
+    /**
+     * 월별 + 블록별 모든 지표를 한 번의 스캔으로 집계 (조건부 집계)
+     * 보고/조치/고위험성(점수별) 조치건수를 같은 행에서 함께 계산
+     */
+    public List<BlockStatisticsDto> summarizeMonthlyByBlock(LocalDate from, LocalDate to) {
+        final String sql = """
+        SELECT DATE_FORMAT(st.stat_date, '%Y-%m') AS yearMonth,
+               a.area_id AS blockId,
+               a.name    AS blockName,
+               SUM(st.post_count) AS reportCount,
+               SUM(CASE WHEN st.is_action_taken = 1 THEN st.post_count ELSE 0 END) AS actionCount,
+               SUM(CASE WHEN st.is_action_taken = 1 AND st.risk_score = 3 THEN st.post_count ELSE 0 END) AS risk3ActionCount,
+               SUM(CASE WHEN st.is_action_taken = 1 AND st.risk_score = 4 THEN st.post_count ELSE 0 END) AS risk4ActionCount,
+               SUM(CASE WHEN st.is_action_taken = 1 AND st.risk_score >= 5 THEN st.post_count ELSE 0 END) AS risk5ActionCount
+        FROM post_daily_stats st
+        JOIN area a ON st.area_id = a.area_id
+        WHERE st.stat_date BETWEEN ? AND ?
+        GROUP BY DATE_FORMAT(st.stat_date, '%Y-%m'), a.area_id, a.name
+        HAVING SUM(st.post_count) > 0
+        ORDER BY yearMonth, a.area_id
+        """;
+
+        return jdbc.query(sql, (rs, rowNum) -> {
+            Map<Integer, Long> byScore = new LinkedHashMap<>();
+            byScore.put(3, rs.getLong("risk3ActionCount"));
+            byScore.put(4, rs.getLong("risk4ActionCount"));
+            byScore.put(5, rs.getLong("risk5ActionCount"));
+            return BlockStatisticsDto.builder()
+                    .yearMonth(rs.getString("yearMonth"))
+                    .blockId(rs.getLong("blockId"))
+                    .blockName(rs.getString("blockName"))
+                    .reportCount(rs.getLong("reportCount"))
+                    .actionCount(rs.getLong("actionCount"))
+                    .highRiskActionCount(byScore.values().stream().mapToLong(Long::longValue).sum())
+                    .highRiskActionsByScore(byScore)
+                    .build();
+        }, from, to);
+    }
+}
@@ -1,6 +1,8 @@
 package com.github.repository;
 
+import com.github.constants.PostConstants;
 import com.github.entity.PostEntity;
+import com.github.entity.PostPhotoEntity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -11,10 +13,17 @@ import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
 
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Slf4j
 @Repository
@@ -22,17 +31,44 @@ import java.time.LocalDate;
 public class PostJdbcRepository {
 
     private final JdbcTemplate jdbc;
+    private final UploadBlobJdbcRepository uploadBlobRepository;
 
-    // 문자열을 Integer로 변환하는 헬퍼 메서드 (1 또는 0)
-    private Integer convertStringToInt(String value) {
-        if (value == null || value.trim().isEmpty()) {
-            return 0;
+    // 예전 VARCHAR 플래그/위험성 값을 TINYINT 컬럼 값으로 변환하는 SQL ('1'/'Y' 모두 1, 위험성은 1~5만 유효)
+    private static final String FLAG_SQL = "CASE WHEN UPPER(TRIM(%s)) IN ('1', 'Y') THEN 1 ELSE 0 END";
+    private static final String RISK_LEVEL_SQL =
+            "CASE TRIM(%s) WHEN '1' THEN 1 WHEN '2' THEN 2 WHEN '3' THEN 3 WHEN '4' THEN 4 WHEN '5' THEN 5 ELSE %s END";
+
+    /** 확인/조치 여부 값 정규화: 1, "1", "Y", true 는 1, 그 외는 0 */
+    public static int statusFlag(Object value) {
+        if (value instanceof Boolean b) {
+            return b ? 1 : 0;
         }
-        try {
-            return Integer.parseInt(value.trim());
-        } catch (NumberFormatException e) {
-            return 0;
+        if (value instanceof Number n) {
+            return n.intValue() == 1 ? 1 : 0;
         }
+        if (value instanceof String str) {
+            String trimmed = str.trim();
+            return "1".equals(trimmed) || "Y".equalsIgnoreCase(trimmed) ? 1 : 0;
+        }
+        return 0;
+    }
+
+    /** 위험성 값 정규화: 1~5 점수, 그 외 값은 null */
+    public static Integer riskLevel(Object value) {
+        Integer level = null;
+        if (value instanceof Number n) {
+            level = n.intValue();
+        } else if (value instanceof String str) {
+            try {
+                level = Integer.parseInt(str.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        if (level == null || level < PostConstants.MIN_RISK_SCORE || level > PostConstants.MAX_RISK_SCORE) {
+            return null;
+        }
+        return level;
     }
 
     // 공통 RowMapper
@@ -45,8 +81,10 @@ public class PostJdbcRepository {
             .actionTakerId(rs.getObject("action_taker_id", Long.class))
             .title(rs.getString("title"))
             .content(rs.getString("content"))
-            .reporterRisk(rs.getString("reporter_risk"))      // 1~5 숫자 문자열
-            .managerRisk(rs.getString("manager_risk"))        // 1~5 숫자 문자열
+            .reporterRisk(rs.getString("reporter_risk"))      // 입력된 문자열 그대로 (응답 호환용)
+            .managerRisk(rs.getString("manager_risk"))
+            .reporterRiskScore(rs.getObject("reporter_risk_level", Integer.class))  // 1~5, 알 수 없으면 0
+            .managerRiskScore(rs.getObject("manager_risk_level", Integer.class))    // 1~5, 미평가면 null
             // 신고자 정보 (JOIN된 데이터)
             .reporterName(rs.getString("reporter_name"))
             .reporterPosition(rs.getObject("reporter_position", Integer.class))
@@ -59,13 +97,14 @@ public class PostJdbcRepository {
             .actionTakerName(rs.getString("action_taker_name"))
             .actionTakerPosition(rs.getObject("action_taker_position", Integer.class))
             .actionTakerDepartment(rs.getObject("action_taker_department", Integer.class))
-            .isChecked(convertStringToInt(rs.getString("is_checked")))
-            .isActionTaked(convertStringToInt(rs.getString("is_action_taken")))
+            .isChecked(rs.getInt("check_status"))
+            .isActionTaked(rs.getInt("action_status"))
             .postPhotoUrl(rs.getString("post_photo_url"))
             .createdAt(rs.getTimestamp("created_at") != null ? rs.getTimestamp("created_at").toLocalDateTime() : null)
             .updatedAt(rs.getTimestamp("updated_at") != null ? rs.getTimestamp("updated_at").toLocalDateTime() : null)
             .checkedAt(rs.getTimestamp("checked_at") != null ? rs.getTimestamp("checked_at").toLocalDateTime() : null)
             .actionTakenAt(rs.getTimestamp("action_taken_at") != null ? rs.getTimestamp("action_taken_at").toLocalDateTime() : null)
+            .version(rs.getInt("version"))
             .build();
 
     // 간단한 RowMapper (필수 필드만)
@@ -76,6 +115,7 @@ public class PostJdbcRepository {
             .title(rs.getString("title"))
             .content(rs.getString("content"))
             .reporterRisk(rs.getString("reporter_risk"))
+            .reporterRiskScore(rs.getObject("reporter_risk_level", Integer.class))
             .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
             .updatedAt(rs.getTimestamp("updated_at") != null ? rs.getTimestamp("updated_at").toLocalDateTime() : null)
             .build();
@@ -85,13 +125,15 @@ public class PostJdbcRepository {
             log.info("=== PostJdbcRepository.insert 시작 ===");
             log.info("Inserting post: {}", post);
             
-            // 테이블이 존재하지 않으면 생성
-            createTableIfNotExists();
-            
             final String sql = """
-                    INSERT INTO post (sub_area_id, area_id, reporter_id, title, content, reporter_risk, post_photo_url, is_checked, is_action_taken, created_at)
-                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                    INSERT INTO post (sub_area_id, area_id, reporter_id, title, content, reporter_risk, post_photo_url, is_checked, is_action_taken,
+                                      check_status, action_status, reporter_risk_level, created_at)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
                     """;
+            int checkStatus = statusFlag(post.getIsChecked());
+            int actionStatus = statusFlag(post.getIsActionTaked());
+            Integer reporterRiskLevel = riskLevel(post.getReporterRiskScore() != null ? post.getReporterRiskScore() : post.getReporterRisk());
+            post.setReporterRiskScore(reporterRiskLevel != null ? reporterRiskLevel : 0);
 
             log.info("SQL: {}", sql);
             log.info("Parameters: subAreaId={}, areaId={}, reporterId={}, title={}, content={}, reporterRisk={}", 
@@ -107,10 +149,14 @@ public class PostJdbcRepository {
                 ps.setString(4, post.getTitle());
                 ps.setString(5, post.getContent());
                 ps.setString(6, post.getReporterRisk());
-                ps.setString(7, ""); // post_photo_url은 빈 문자열로 초기화
-                ps.setString(8, post.getIsChecked() != null && post.getIsChecked() == 1 ? "1" : "0"); // 0 또는 1
-                ps.setString(9, post.getIsActionTaked() != null && post.getIsActionTaked() == 1 ? "1" : "0"); // 0 또는 1
-                ps.setTimestamp(10, new Timestamp(System.currentTimeMillis())); // 현재 시간 설정
+                ps.setString(7, post.getPostPhotoUrl() != null ? post.getPostPhotoUrl() : ""); // 대표 사진이 없으면 빈 문자열
+                // 예전 VARCHAR 컬럼도 함께 기록 (이전 버전으로 되돌려도 값이 맞도록)
+                ps.setString(8, String.valueOf(checkStatus));
+                ps.setString(9, String.valueOf(actionStatus));
+                ps.setInt(10, checkStatus);
+                ps.setInt(11, actionStatus);
+                ps.setInt(12, post.getReporterRiskScore());
+                ps.setTimestamp(13, new Timestamp(System.currentTimeMillis())); // 현재 시간 설정
                 return ps;
             }, keyHolder);
 
@@ -128,8 +174,8 @@ public class PostJdbcRepository {
         }
     }
 
-    // 개발용 테이블 생성 메서드 (필요시에만 사용)
-    private void createTableIfNotExists() {
+    // 테이블 생성/컬럼명 보정 (시작 시 DatabaseMigration에서 한 번 실행, DDL은 암묵적 커밋을 일으키므로 요청 중에는 실행하지 않음)
+    public void createTableIfNotExists() {
         final String createAreaTableSql = """
             CREATE TABLE IF NOT EXISTS area (
                 area_id        INT AUTO_INCREMENT PRIMARY KEY,
@@ -168,7 +214,12 @@ public class PostJdbcRepository {
                 created_at         TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
                 updated_at         TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
                 checked_at         DATETIME NULL,
-                action_taken_at    DATETIME NULL 
+                action_taken_at    DATETIME NULL,
+                check_status        TINYINT,
+                action_status       TINYINT,
+                reporter_risk_level TINYINT,
+                manager_risk_level  TINYINT,
+                version             INT NOT NULL DEFAULT 0
             )
             """;
             
@@ -224,13 +275,48 @@ public class PostJdbcRepository {
         log.debug("Post photo inserted: postId={}, url={}, sortOrder={}", postId, url, sortOrder);
     }
 
+    /** 게시글 사진 일괄 저장 (목록 순서가 sort_order, 한 번의 JDBC 배치) */
+    public void insertPostPhotos(Long postId, List<String> urls) {
+        if (urls.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            args.add(new Object[]{postId, urls.get(i), i});
+        }
+        jdbc.batchUpdate("INSERT INTO post_photos (post_id, url, sort_order) VALUES (?, ?, ?)", args);
+        log.debug("Post photos inserted: postId={}, count={}", postId, urls.size());
+    }
+
+    /**
+     * 여러 게시글의 사진을 한 번의 IN 조회로 로드 (게시글별 sort_order 순)
+     * 사진이 없는 게시글은 결과 Map에 없음
+     */
+    public Map<Long, List<PostPhotoEntity>> findPhotosByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String inSql = String.join(",", Collections.nCopies(postIds.size(), "?"));
+        final String sql = "SELECT post_id, url, sort_order FROM post_photos WHERE post_id IN (" + inSql + ")"
+                + " ORDER BY post_id, sort_order, post_photos_id";
+        Map<Long, List<PostPhotoEntity>> photos = new LinkedHashMap<>();
+        jdbc.query(sql, rs -> {
+            photos.computeIfAbsent(rs.getLong("post_id"), id -> new ArrayList<>())
+                    .add(PostPhotoEntity.builder()
+                            .url(rs.getString("url"))
+                            .sortOrder(rs.getInt("sort_order"))
+                            .build());
+        }, postIds.toArray());
+        return photos;
+    }
+
 
     public PostEntity findById(Long postId) {
         // 사용자 정보와 JOIN하여 부서/직책 ID 가져오기
         final String sql = """
                 SELECT p.post_id, p.sub_area_id, p.area_id, p.reporter_id, p.checker_id, p.action_taker_id, 
-                       p.title, p.content, p.reporter_risk, p.manager_risk,
-                       p.is_checked, p.is_action_taken, p.post_photo_url, p.created_at, p.updated_at, p.checked_at, p.action_taken_at,
+                       p.title, p.content, p.reporter_risk, p.manager_risk, p.reporter_risk_level, p.manager_risk_level,
+                       p.check_status, p.action_status, p.post_photo_url, p.created_at, p.updated_at, p.checked_at, p.action_taken_at, p.version,
                        ru.name as reporter_name, ru.department_id as reporter_department, ru.position_id as reporter_position,
                        cu.name as checker_name, cu.department_id as checker_department, cu.position_id as checker_position,
                        au.name as action_taker_name, au.department_id as action_taker_department, au.position_id as action_taker_position
@@ -256,18 +342,10 @@ public class PostJdbcRepository {
     }
 
     public List<PostEntity> findAll(int page, int size) {
-        // 먼저 전체 데이터 개수 확인
-        try {
-            Integer totalCount = jdbc.queryForObject("SELECT COUNT(*) FROM post", Integer.class);
-            log.info("Total posts in database: {}", totalCount);
-        } catch (Exception e) {
-            log.error("Error counting posts", e);
-        }
-
         final String sql = """
             SELECT p.post_id, p.sub_area_id, p.area_id, p.reporter_id, p.checker_id, p.action_taker_id, 
-                   p.title, p.content, p.reporter_risk, p.manager_risk,
-                   p.is_checked, p.is_action_taken, p.post_photo_url, p.created_at, p.updated_at, p.checked_at, p.action_taken_at,
+                   p.title, p.content, p.reporter_risk, p.manager_risk, p.reporter_risk_level, p.manager_risk_level,
+                   p.check_status, p.action_status, p.post_photo_url, p.created_at, p.updated_at, p.checked_at, p.action_taken_at, p.version,
                    ru.name as reporter_name, ru.department_id as reporter_department, ru.position_id as reporter_position,
                    cu.name as checker_name, cu.department_id as checker_department, cu.position_id as checker_position,
                    au.name as action_taker_name, au.department_id as action_taker_department, au.position_id as action_taker_position
@@ -289,78 +367,202 @@ public class PostJdbcRepository {
             return result;
         } catch (Exception e) {
             log.error("Error finding all posts", e);
-            e.printStackTrace();
             return List.of();
         }
     }
 
-    public List<PostEntity> findBySubArea(Long subAreaId, int page, int size) {
-        final String sql = """
-            SELECT post_id, sub_area_id, reporter_id, title, content, reporter_risk, created_at, updated_at 
-            FROM post WHERE sub_area_id = ? ORDER BY created_at DESC LIMIT ? OFFSET ?
+    /**
+     * 커서 기반(keyset) 전체 게시글 조회
+     * (created_at, post_id) 보다 이전 게시글을 최신순으로 조회하므로 페이지 깊이와 무관하게 비용이 일정함
+     * cursorCreatedAt/cursorPostId가 null이면 첫 페이지를 조회
+     */
+    public List<PostEntity> findAllByCursor(LocalDateTime cursorCreatedAt, Long cursorPostId, int size) {
+        return findAllByCursor(cursorCreatedAt, cursorPostId, size, null, null);
+    }
+
+    /**
+     * 확인/조치 여부로 거른 커서 기반 전체 게시글 조회 (null인 조건은 무시)
+     * (check_status|action_status, created_at, post_id) 인덱스로 상태 구간 안에서 최신순으로 읽음
+     */
+    public List<PostEntity> findAllByCursor(LocalDateTime cursorCreatedAt, Long cursorPostId, int size,
+                                            Integer checkStatus, Integer actionStatus) {
+        final String selectSql = """
+            SELECT p.post_id, p.sub_area_id, p.area_id, p.reporter_id, p.checker_id, p.action_taker_id, 
+                   p.title, p.content, p.reporter_risk, p.manager_risk, p.reporter_risk_level, p.manager_risk_level,
+                   p.check_status, p.action_status, p.post_photo_url, p.created_at, p.updated_at, p.checked_at, p.action_taken_at, p.version,
+                   ru.name as reporter_name, ru.department_id as reporter_department, ru.position_id as reporter_position,
+                   cu.name as checker_name, cu.department_id as checker_department, cu.position_id as checker_position,
+                   au.name as action_taker_name, au.department_id as action_taker_department, au.position_id as action_taker_position
+            FROM post p
+            LEFT JOIN users ru ON p.reporter_id = ru.users_id
+            LEFT JOIN users cu ON p.checker_id = cu.users_id
+            LEFT JOIN users au ON p.action_taker_id = au.users_id
+            WHERE 1 = 1
             """;
 
         try {
-            List<PostEntity> result = jdbc.query(sql, simplePostRowMapper, subAreaId, size, page * size);
-            return result;
+            List<Object> params = new ArrayList<>();
+            final String sql = selectSql + statusFilter(checkStatus, actionStatus, params)
+                    + cursorCondition(cursorCreatedAt, cursorPostId, params)
+                    + " ORDER BY p.created_at DESC, p.post_id DESC LIMIT ?";
+            params.add(size);
+            return jdbc.query(sql, postRowMapper, params.toArray());
         } catch (Exception e) {
-            log.error("Error finding posts by subArea: {}", subAreaId, e);
+            log.error("Error finding posts by cursor: createdAt={}, postId={}", cursorCreatedAt, cursorPostId, e);
             return List.of();
         }
     }
 
-    public int countBySubArea(Long subAreaId) {
-        final String sql = "SELECT COUNT(*) FROM post WHERE sub_area_id = ?";
+    /**
+     * 커서 기반(keyset) 소구역별 게시글 조회
+     */
+    public List<PostEntity> findBySubAreaByCursor(Long subAreaId, LocalDateTime cursorCreatedAt, Long cursorPostId, int size) {
+        return findBySubAreaByCursor(subAreaId, cursorCreatedAt, cursorPostId, size, null, null);
+    }
+
+    public List<PostEntity> findBySubAreaByCursor(Long subAreaId, LocalDateTime cursorCreatedAt, Long cursorPostId, int size,
+                                                  Integer checkStatus, Integer actionStatus) {
+        final String selectSql = """
+            SELECT p.post_id, p.sub_area_id, p.reporter_id, p.title, p.content, p.reporter_risk, p.reporter_risk_level,
+                   p.created_at, p.updated_at
+            FROM post p WHERE p.sub_area_id = ?
+            """;
+
         try {
-            Integer count = jdbc.queryForObject(sql, Integer.class, subAreaId);
-            return count != null ? count : 0;
+            List<Object> params = new ArrayList<>();
+            params.add(subAreaId);
+            final String sql = selectSql + statusFilter(checkStatus, actionStatus, params)
+                    + cursorCondition(cursorCreatedAt, cursorPostId, params)
+                    + " ORDER BY p.created_at DESC, p.post_id DESC LIMIT ?";
+            params.add(size);
+            return jdbc.query(sql, simplePostRowMapper, params.toArray());
         } catch (Exception e) {
-            log.error("Error counting posts by subArea: {}", subAreaId, e);
-            return 0;
+            log.error("Error finding posts by subArea cursor: {}", subAreaId, e);
+            return List.of();
+        }
+    }
+
+    // 상태 조건 (인덱스 선두 컬럼과 같은 타입의 정수 비교)
+    private static String statusFilter(Integer checkStatus, Integer actionStatus, List<Object> params) {
+        StringBuilder sql = new StringBuilder();
+        if (checkStatus != null) {
+            sql.append(" AND p.check_status = ?");
+            params.add(statusFlag(checkStatus));
+        }
+        if (actionStatus != null) {
+            sql.append(" AND p.action_status = ?");
+            params.add(statusFlag(actionStatus));
+        }
+        return sql.toString();
+    }
+
+    // (created_at, post_id) 보다 이전 게시글, 커서가 없으면 조건 없음
+    private static String cursorCondition(LocalDateTime cursorCreatedAt, Long cursorPostId, List<Object> params) {
+        if (cursorCreatedAt == null || cursorPostId == null) {
+            return "";
         }
+        Timestamp cursorTime = Timestamp.valueOf(cursorCreatedAt);
+        params.add(cursorTime);
+        params.add(cursorTime);
+        params.add(cursorPostId);
+        return " AND (p.created_at < ? OR (p.created_at = ? AND p.post_id < ?))";
     }
 
-    public int countActionTakenBySubArea(Long subAreaId) {
-        final String sql = "SELECT COUNT(*) FROM post WHERE sub_area_id = ? AND is_action_taken = 'Y'";
+    public List<PostEntity> findBySubArea(Long subAreaId, int page, int size) {
+        final String sql = """
+            SELECT post_id, sub_area_id, reporter_id, title, content, reporter_risk, reporter_risk_level, created_at, updated_at 
+            FROM post WHERE sub_area_id = ? ORDER BY created_at DESC LIMIT ? OFFSET ?
+            """;
+
         try {
-            Integer count = jdbc.queryForObject(sql, Integer.class, subAreaId);
-            return count != null ? count : 0;
+            List<PostEntity> result = jdbc.query(sql, simplePostRowMapper, subAreaId, size, page * size);
+            return result;
         } catch (Exception e) {
-            log.error("Error counting action taken posts by subArea: {}", subAreaId, e);
-            return 0;
+            log.error("Error finding posts by subArea: {}", subAreaId, e);
+            return List.of();
         }
     }
 
-    public PostEntity update(Long postId, Map<String, Object> updates) {
-        StringBuilder sql = new StringBuilder("UPDATE post SET ");
-        boolean first = true;
+    /**
+     * 게시글 ID 목록으로 조회 (검색 결과 페이지용), 결과는 postIds 순서 (없는 게시글은 제외)
+     */
+    public List<PostEntity> findByIds(List<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return List.of();
+        }
+        String inSql = String.join(",", Collections.nCopies(postIds.size(), "?"));
+        final String sql = """
+            SELECT p.post_id, p.sub_area_id, p.area_id, p.reporter_id, p.checker_id, p.action_taker_id,
+                   p.title, p.content, p.reporter_risk, p.manager_risk, p.reporter_risk_level, p.manager_risk_level,
+                   p.check_status, p.action_status, p.post_photo_url, p.created_at, p.updated_at, p.checked_at, p.action_taken_at, p.version,
+                   ru.name as reporter_name, ru.department_id as reporter_department, ru.position_id as reporter_position,
+                   cu.name as checker_name, cu.department_id as checker_department, cu.position_id as checker_position,
+                   au.name as action_taker_name, au.department_id as action_taker_department, au.position_id as action_taker_position
+            FROM post p
+            LEFT JOIN users ru ON p.reporter_id = ru.users_id
+            LEFT JOIN users cu ON p.checker_id = cu.users_id
+            LEFT JOIN users au ON p.action_taker_id = au.users_id
+            WHERE p.post_id IN (%s)
+            """.formatted(inSql);
 
-        for (Map.Entry<String, Object> entry : updates.entrySet()) {
-            if (!first) {
-                sql.append(", ");
+        Map<Long, PostEntity> byId = new HashMap<>();
+        for (PostEntity post : jdbc.query(sql, postRowMapper, postIds.toArray())) {
+            byId.put(post.getPostId(), post);
+        }
+        List<PostEntity> ordered = new ArrayList<>(byId.size());
+        for (Long postId : postIds) {
+            PostEntity post = byId.get(postId);
+            if (post != null) {
+                ordered.add(post);
             }
-            sql.append(entry.getKey()).append(" = ?");
-            first = false;
         }
-        sql.append(" WHERE post_id = ?");
+        return ordered;
+    }
 
-        try {
-            Object[] params = new Object[updates.size() + 1];
-            int index = 0;
-            for (Object value : updates.values()) {
-                // LocalDateTime을 Timestamp로 변환
-                if (value instanceof java.time.LocalDateTime) {
-                    params[index++] = Timestamp.valueOf((java.time.LocalDateTime) value);
-                } else {
-                    params[index++] = value;
-                }
-            }
-            params[index] = postId;
+    /**
+     * 게시글 ID 범위 (검색 색인 일괄 적재를 구간으로 나누기 위함)
+     * @return {최소, 최대}, 게시글이 없으면 null
+     */
+    public long[] findPostIdRange() {
+        return jdbc.queryForObject("SELECT MIN(post_id), MAX(post_id) FROM post", (rs, rowNum) -> {
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+        });
+    }
+
+    /**
+     * 검색 색인용 게시글 조회 (post_id 구간, 양 끝 포함)
+     * 색인에 필요한 컬럼만 읽고 사용자 JOIN은 하지 않음, area_id가 없는 예전 행은 소구역의 관리구역으로 채움
+     */
+    public List<PostEntity> findForSearchIndex(long fromPostId, long toPostId) {
+        final String sql = """
+            SELECT p.post_id, p.sub_area_id, COALESCE(p.area_id, s.area_id) AS area_id, p.reporter_id,
+                   p.title, p.content, p.created_at
+            FROM post p
+            LEFT JOIN sub_area s ON p.sub_area_id = s.sub_area_id
+            WHERE p.post_id BETWEEN ? AND ?
+            """;
+        return jdbc.query(sql, (rs, rowNum) -> PostEntity.builder()
+                .postId(rs.getLong("post_id"))
+                .subAreaId(rs.getLong("sub_area_id"))
+                .areaId(rs.getObject("area_id", Long.class))
+                .reporterId(rs.getLong("reporter_id"))
+                .title(rs.getString("title"))
+                .content(rs.getString("content"))
+                .createdAt(rs.getTimestamp("created_at") != null ? rs.getTimestamp("created_at").toLocalDateTime() : null)
+                .build(), fromPostId, toPostId);
+    }
 
-            log.info("Update SQL: {}", sql.toString());
-            log.info("Update params: {}", java.util.Arrays.toString(params));
+    public PostEntity update(Long postId, Map<String, Object> updates) {
+        List<Object> params = new ArrayList<>();
+        String sql = "UPDATE post SET " + setClause(withStatusColumns(updates), params) + " WHERE post_id = ?";
+        params.add(postId);
+
+        try {
+            log.info("Update SQL: {}", sql);
+            log.info("Update params: {}", params);
             
-            jdbc.update(sql.toString(), params);
+            jdbc.update(sql, params.toArray());
             return findById(postId);
         } catch (Exception e) {
             log.error("Error updating post: {}", postId, e);
@@ -368,13 +570,150 @@ public class PostJdbcRepository {
         }
     }
 
-    public void delete(Long postId) {
+    /**
+     * 버전 확인 조건부 수정 (낙관적 잠금)
+     * 존재 확인과 수정을 UPDATE 한 번으로 처리하고, 수정 후 다시 조회하지 않음
+     * expectedVersion이 null이면 버전 확인 없이 수정
+     * @return 수정된 행 수 (0이면 게시글이 없거나 다른 요청이 먼저 수정함)
+     */
+    public int updateIfVersion(Long postId, Map<String, Object> updates, Integer expectedVersion) {
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("UPDATE post SET ")
+                .append(setClause(withStatusColumns(updates), params))
+                .append(" WHERE post_id = ?");
+        params.add(postId);
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+            params.add(expectedVersion);
+        }
+        return jdbc.update(sql.toString(), params.toArray());
+    }
+
+    /**
+     * 여러 게시글에 같은 수정 내용을 JDBC 배치 한 번으로 적용 (관리자 일괄 처리)
+     * SET 절과 파라미터는 한 번만 만들고 행마다 post_id만 바꿔 실행
+     * 게시글별 결과는 배치 전에 IN 조회로 잠근 행으로 판단 (rewriteBatchedStatements 사용 시 드라이버는
+     * 행 수 대신 SUCCESS_NO_INFO를 돌려주므로 배치 결과로는 없는 게시글을 구분할 수 없음)
+     * @return 게시글별 수정 여부 (postIds 순서, 없는 게시글은 false)
+     */
+    public boolean[] batchUpdate(List<Long> postIds, Map<String, Object> updates) {
+        String inSql = String.join(",", Collections.nCopies(postIds.size(), "?"));
+        Set<Long> existing = new HashSet<>(jdbc.queryForList(
+                "SELECT post_id FROM post WHERE post_id IN (" + inSql + ") FOR UPDATE", Long.class, postIds.toArray()));
+
+        List<Object> setParams = new ArrayList<>();
+        String sql = "UPDATE post SET " + setClause(withStatusColumns(updates), setParams) + " WHERE post_id = ?";
+
+        boolean[] updated = new boolean[postIds.size()];
+        List<Object[]> batchArgs = new ArrayList<>(existing.size());
+        for (int i = 0; i < postIds.size(); i++) {
+            if (!existing.contains(postIds.get(i))) {
+                continue;
+            }
+            Object[] args = setParams.toArray(new Object[setParams.size() + 1]);
+            args[setParams.size()] = postIds.get(i);
+            batchArgs.add(args);
+            updated[i] = true;
+        }
+        if (!batchArgs.isEmpty()) {
+            jdbc.batchUpdate(sql, batchArgs);
+        }
+        return updated;
+    }
+
+    /**
+     * 현재 버전 조회 (조건부 수정이 실패했을 때 없는 게시글인지 충돌인지 구분용)
+     * @return 게시글이 없으면 null
+     */
+    public Integer findVersion(Long postId) {
+        List<Integer> versions = jdbc.queryForList("SELECT version FROM post WHERE post_id = ?", Integer.class, postId);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    // SET 절 (수정할 때마다 version을 1 올려 다른 경로의 수정도 낙관적 잠금에 걸리도록 함)
+    private static String setClause(Map<String, Object> columns, List<Object> params) {
+        StringBuilder set = new StringBuilder();
+        for (Map.Entry<String, Object> entry : columns.entrySet()) {
+            set.append(entry.getKey()).append(" = ?, ");
+            // LocalDateTime을 Timestamp로 변환
+            params.add(entry.getValue() instanceof LocalDateTime time ? Timestamp.valueOf(time) : entry.getValue());
+        }
+        return set.append("version = version + 1").toString();
+    }
+
+    /**
+     * 예전 컬럼(is_checked, is_action_taken, reporter_risk, manager_risk) 수정을 TINYINT 컬럼에도 반영
+     * 예전 컬럼은 이전 버전과의 호환을 위해 정규화된 값으로 계속 기록
+     */
+    static Map<String, Object> withStatusColumns(Map<String, Object> updates) {
+        Map<String, Object> columns = new LinkedHashMap<>(updates);
+        if (updates.containsKey("is_checked")) {
+            int flag = statusFlag(updates.get("is_checked"));
+            columns.put("is_checked", String.valueOf(flag));
+            columns.put("check_status", flag);
+        }
+        if (updates.containsKey("is_action_taken")) {
+            int flag = statusFlag(updates.get("is_action_taken"));
+            columns.put("is_action_taken", String.valueOf(flag));
+            columns.put("action_status", flag);
+        }
+        if (updates.containsKey("reporter_risk")) {
+            Integer level = riskLevel(updates.get("reporter_risk"));
+            columns.put("reporter_risk_level", level != null ? level : 0);
+        }
+        if (updates.containsKey("manager_risk")) {
+            columns.put("manager_risk_level", riskLevel(updates.get("manager_risk")));
+        }
+        return columns;
+    }
+
+    /**
+     * 상태/위험성 TINYINT 컬럼이 비어 있는(check_status IS NULL) 예전 행을 VARCHAR 값에서 채움
+     * post_id 구간별로 나누어 자동 커밋하므로 한 번에 잠그는 행 수가 chunkSize를 넘지 않음
+     * 새로 INSERT되는 행은 항상 값을 가지므로 한 번 끝나면 다시 채울 행이 없음
+     * @return 채운 행 수
+     */
+    public int backfillStatusColumns(int chunkSize) {
+        Long minId = jdbc.queryForObject("SELECT MIN(post_id) FROM post WHERE check_status IS NULL", Long.class);
+        Long maxId = jdbc.queryForObject("SELECT MAX(post_id) FROM post WHERE check_status IS NULL", Long.class);
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+        final String sql = "UPDATE post SET check_status = " + FLAG_SQL.formatted("is_checked")
+                + ", action_status = " + FLAG_SQL.formatted("is_action_taken")
+                + ", reporter_risk_level = " + RISK_LEVEL_SQL.formatted("reporter_risk", "0")
+                + ", manager_risk_level = " + RISK_LEVEL_SQL.formatted("manager_risk", "NULL")
+                + " WHERE post_id >= ? AND post_id < ? AND check_status IS NULL";
+        int filled = 0;
+        for (long from = minId; from <= maxId; from += chunkSize) {
+            filled += jdbc.update(sql, from, from + chunkSize);
+        }
+        return filled;
+    }
+
+    /**
+     * 게시글 삭제, 사진 행과 사진 파일 참조도 함께 정리 (참조가 없어진 파일은 커밋 후 삭제)
+     * 실패는 예외로 전달하여 같은 트랜잭션의 집계 변경도 롤백되도록 함
+     * @return 삭제된 행 수 (0이면 게시글이 없음)
+     */
+    public int delete(Long postId) {
         final String sql = "DELETE FROM post WHERE post_id = ?";
-        try {
-            jdbc.update(sql, postId);
-        } catch (Exception e) {
-            log.error("Error deleting post: {}", postId, e);
+        List<String> photoUrls = uploadBlobRepository.findPostPhotoUrls("p.post_id = ?", postId);
+        jdbc.update("DELETE FROM post_photos WHERE post_id = ?", postId);
+        int deleted = jdbc.update(sql, postId);
+        if (deleted > 0) {
+            uploadBlobRepository.release(photoUrls);
         }
+        return deleted;
+    }
+
+    // 통계 기간은 [from 00:00, to+1일 00:00) 반열린 구간으로 조회 (created_at 인덱스 사용 가능)
+    private static Timestamp periodStart(LocalDate from) {
+        return Timestamp.valueOf(from.atStartOfDay());
+    }
+
+    private static Timestamp periodEnd(LocalDate to) {
+        return Timestamp.valueOf(to.plusDays(1).atStartOfDay());
     }
 
     // 블록(= area) 단위로 기간 내 보고건수 집계
@@ -386,7 +725,7 @@ public class PostJdbcRepository {
         FROM post p
         JOIN sub_area s ON p.sub_area_id = s.sub_area_id
         JOIN area a     ON s.area_id = a.area_id
-        WHERE DATE(p.created_at) BETWEEN ? AND ?
+        WHERE p.created_at >= ? AND p.created_at < ?
         GROUP BY a.area_id, a.name
         ORDER BY a.area_id
         """;
@@ -397,7 +736,7 @@ public class PostJdbcRepository {
             map.put("blockName", rs.getString("blockName"));
             map.put("reportCount", rs.getInt("reportCount"));
             return map;
-        }, from, to);
+        }, periodStart(from), periodEnd(to));
     }
 
     // 블록(= area) 단위로 기간 내 조치건수 집계
@@ -409,12 +748,8 @@ public class PostJdbcRepository {
         FROM post p
         JOIN sub_area s ON p.sub_area_id = s.sub_area_id
         JOIN area a     ON s.area_id = a.area_id
-        WHERE DATE(p.created_at) BETWEEN ? AND ?
-          AND (
-                p.is_action_taken = 1
-             OR p.is_action_taken = '1'
-             OR p.is_action_taken = 'Y'
-          )
+        WHERE p.created_at >= ? AND p.created_at < ?
+          AND p.action_status = 1
         GROUP BY a.area_id, a.name
         ORDER BY a.area_id
         """;
@@ -425,7 +760,7 @@ public class PostJdbcRepository {
             map.put("blockName", rs.getString("blockName"));
             map.put("actionCount", rs.getInt("actionCount"));
             return map;
-        }, from, to);
+        }, periodStart(from), periodEnd(to));
     }
 
     // 월별(YYYY-MM) + 블록(= area) 기준 신고 건수 집계
@@ -438,7 +773,7 @@ public class PostJdbcRepository {
         FROM post p
         JOIN sub_area s ON p.sub_area_id = s.sub_area_id
         JOIN area a     ON s.area_id = a.area_id
-        WHERE DATE(p.created_at) BETWEEN ? AND ?
+        WHERE p.created_at >= ? AND p.created_at < ?
         GROUP BY DATE_FORMAT(p.created_at, '%Y-%m'), a.area_id, a.name
         ORDER BY yearMonth, a.area_id
         """;
@@ -450,7 +785,7 @@ public class PostJdbcRepository {
             map.put("blockName", rs.getString("blockName"));
             map.put("reportCount", rs.getInt("reportCount"));
             return map;
-        }, from, to);
+        }, periodStart(from), periodEnd(to));
     }
 
     // 블록별 고위험성(3점 이상) 조치건수
@@ -458,14 +793,14 @@ public class PostJdbcRepository {
         final String sql = """
         SELECT a.area_id AS blockId,
                a.name AS blockName,
-               CAST(p.reporter_risk AS UNSIGNED) AS riskScore,
+               p.reporter_risk_level AS riskScore,
                COUNT(p.post_id) AS actionCount
         FROM post p
         JOIN sub_area s ON p.sub_area_id = s.sub_area_id
         JOIN area a ON s.area_id = a.area_id
-        WHERE DATE(p.created_at) BETWEEN ? AND ?
-          AND p.is_action_taken = 'Y'
-          AND CAST(p.reporter_risk AS UNSIGNED) >= 3
+        WHERE p.created_at >= ? AND p.created_at < ?
+          AND p.action_status = 1
+          AND p.reporter_risk_level >= 3
         GROUP BY a.area_id, a.name, riskScore
         ORDER BY a.area_id, riskScore
         """;
@@ -477,7 +812,7 @@ public class PostJdbcRepository {
             map.put("riskScore", rs.getInt("riskScore"));
             map.put("actionCount", rs.getInt("actionCount"));
             return map;
-        }, from, to);
+        }, periodStart(from), periodEnd(to));
     }
 
     // 구역별 월별 조치건수 (5개월 단위)
@@ -490,12 +825,8 @@ public class PostJdbcRepository {
         FROM post p
         JOIN sub_area s ON p.sub_area_id = s.sub_area_id
         JOIN area a     ON s.area_id = a.area_id
-        WHERE DATE(p.created_at) BETWEEN ? AND ?
-          AND (
-                p.is_action_taken = 1
-             OR p.is_action_taken = '1'
-             OR p.is_action_taken = 'Y'
-          )
+        WHERE p.created_at >= ? AND p.created_at < ?
+          AND p.action_status = 1
         GROUP BY DATE_FORMAT(p.created_at, '%Y-%m'), a.area_id, a.name
         ORDER BY yearMonth, a.area_id
         """;
@@ -507,7 +838,7 @@ public class PostJdbcRepository {
             map.put("blockName", rs.getString("blockName"));
             map.put("actionCount", rs.getInt("actionCount"));
             return map;
-        }, from, to);
+        }, periodStart(from), periodEnd(to));
     }
 
     // 구역별 월별 고위험성 조치건수 (5개월 단위)
@@ -516,14 +847,14 @@ public class PostJdbcRepository {
         SELECT DATE_FORMAT(p.created_at, '%Y-%m') AS yearMonth,
                a.area_id AS blockId,
                a.name AS blockName,
-               CAST(p.reporter_risk AS UNSIGNED) AS riskScore,
+               p.reporter_risk_level AS riskScore,
                COUNT(p.post_id) AS actionCount
         FROM post p
         JOIN sub_area s ON p.sub_area_id = s.sub_area_id
         JOIN area a ON s.area_id = a.area_id
-        WHERE DATE(p.created_at) BETWEEN ? AND ?
-          AND p.is_action_taken = 'Y'
-          AND CAST(p.reporter_risk AS UNSIGNED) >= 3
+        WHERE p.created_at >= ? AND p.created_at < ?
+          AND p.action_status = 1
+          AND p.reporter_risk_level >= 3
         GROUP BY DATE_FORMAT(p.created_at, '%Y-%m'), a.area_id, a.name, riskScore
         ORDER BY yearMonth, a.area_id, riskScore
         """;
@@ -536,7 +867,7 @@ public class PostJdbcRepository {
             map.put("riskScore", rs.getInt("riskScore"));
             map.put("actionCount", rs.getInt("actionCount"));
             return map;
-        }, from, to);
+        }, periodStart(from), periodEnd(to));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,212 @@
+package com.github.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 내용 주소(SHA-256) 기반 업로드 파일의 참조 수 테이블(upload_blob)
+ * - 같은 내용의 업로드는 같은 파일을 공유하고 ref_count만 증가
+ * - 게시글/관리구역 삭제 시 참조를 줄이고, 0이 된 파일(과 축소본)은 커밋 후 디스크에서 삭제
+ * - 참조 증가와 파일 삭제는 같은 행의 잠금으로 직렬화 (삭제는 행을 FOR UPDATE로 잠근 짧은 트랜잭션에서 ref_count를
+ *   다시 확인하고 파일과 행을 함께 지우며, 행이 지워진 뒤의 업로드는 새 행을 추가하므로 파일을 다시 기록)
+ * - blob 경로(/uploads/blobs/...)가 아닌 예전 방식 파일은 참조 계산 대상이 아님
+ *   (프로필처럼 도메인이 붙은 URL은 /uploads/blobs/... 부분만 사용)
+ */
+@Slf4j
+@Repository
+public class UploadBlobJdbcRepository {
+
+    public static final String BLOB_URL_PREFIX = "/uploads/blobs/";
+
+    private final JdbcTemplate jdbc;
+    // 파일 정리용 트랜잭션 (호출 시점은 이전 트랜잭션의 커밋 직후이므로 항상 새 트랜잭션으로 분리)
+    private final TransactionTemplate cleanupTransaction;
+
+    @Value("${file.upload-dir:./uploads}")
+    private String uploadDir;
+
+    public UploadBlobJdbcRepository(JdbcTemplate jdbc, PlatformTransactionManager transactionManager) {
+        this.jdbc = jdbc;
+        this.cleanupTransaction = new TransactionTemplate(transactionManager);
+        this.cleanupTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void createTableIfNotExists() {
+        jdbc.execute("""
+            CREATE TABLE IF NOT EXISTS upload_blob (
+                sha256       CHAR(64)     NOT NULL PRIMARY KEY,
+                url          VARCHAR(255) NOT NULL UNIQUE,
+                content_type VARCHAR(50)  NOT NULL,
+                size_bytes   BIGINT       NOT NULL,
+                ref_count    INT          NOT NULL DEFAULT 0,
+                created_at   TIMESTAMP    NOT NULL DEFAULT CURRENT_TIMESTAMP
+            )
+            """);
+    }
+
+    /**
+     * 참조 1 증가 (처음 보는 내용이면 행 추가)
+     * 기존 행을 갱신하면 그 행은 트랜잭션이 끝날 때까지 잠겨 있어 정리 작업이 파일을 지우지 못함
+     * @return 새 행을 추가했으면 true (이전 행과 함께 정리 중인 파일일 수 있으므로 호출자는 파일을 다시 기록해야 함)
+     */
+    public boolean acquire(String sha256, String url, String contentType, long size) {
+        if (jdbc.update("UPDATE upload_blob SET ref_count = ref_count + 1 WHERE sha256 = ?", sha256) > 0) {
+            return false;
+        }
+        jdbc.update("""
+            INSERT INTO upload_blob (sha256, url, content_type, size_bytes, ref_count) VALUES (?, ?, ?, ?, 1)
+            ON DUPLICATE KEY UPDATE ref_count = ref_count + 1
+            """, sha256, url, contentType, size);
+        return true;
+    }
+
+    /** 이미 저장된 blob을 새로 참조할 때 참조 1 증가 (blob 경로가 아니거나 없는 blob이면 무시) */
+    public void retain(String url) {
+        String blobUrl = toBlobUrl(url);
+        if (blobUrl != null) {
+            jdbc.update("UPDATE upload_blob SET ref_count = ref_count + 1 WHERE url = ?", blobUrl);
+        }
+    }
+
+    public int refCount(String url) {
+        List<Integer> counts = jdbc.queryForList("SELECT ref_count FROM upload_blob WHERE url = ?", Integer.class, url);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    /**
+     * 조건에 맞는 게시글들의 사진 URL (게시글마다 post_photo_url과 post_photos를 합쳐 중복 제거, 게시글 간 중복은 유지)
+     * @param postFilter post 테이블 별칭 p 기준 WHERE 조건 (예: "p.area_id = ?")
+     */
+    public List<String> findPostPhotoUrls(String postFilter, Object... params) {
+        final String sql = """
+            SELECT p.post_id, p.post_photo_url AS url FROM post p WHERE %1$s
+            UNION
+            SELECT ph.post_id, ph.url FROM post_photos ph JOIN post p ON p.post_id = ph.post_id WHERE %1$s
+            """.formatted(postFilter);
+        Object[] args = new Object[params.length * 2];
+        System.arraycopy(params, 0, args, 0, params.length);
+        System.arraycopy(params, 0, args, params.length, params.length);
+        return jdbc.query(sql, (rs, n) -> rs.getString("url"), args);
+    }
+
+    /**
+     * URL 목록의 참조를 줄이고 (같은 URL이 여러 번 있으면 그 횟수만큼), 참조가 0이 된 blob 정리
+     * 파일과 행 삭제는 트랜잭션 커밋 후에 수행 (롤백 시 파일이 사라지지 않도록)
+     */
+    public void release(Collection<String> urls) {
+        Map<String, Long> counts = urls.stream()
+                .map(UploadBlobJdbcRepository::toBlobUrl)
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>();
+        counts.forEach((url, count) -> args.add(new Object[]{count, url}));
+        jdbc.batchUpdate("UPDATE upload_blob SET ref_count = ref_count - ? WHERE url = ?", args);
+
+        String in = String.join(",", Collections.nCopies(counts.size(), "?"));
+        List<String> orphans = jdbc.queryForList(
+                "SELECT url FROM upload_blob WHERE ref_count <= 0 AND url IN (" + in + ")",
+                String.class, counts.keySet().toArray());
+        if (orphans.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> deleteFiles(orphans));
+    }
+
+    /**
+     * 참조가 0인 blob의 파일과 행을 URL마다 짧은 트랜잭션으로 삭제
+     * 행을 잠근 뒤 ref_count를 다시 확인하므로, 그 사이 같은 내용을 다시 업로드한 트랜잭션(acquire가 행을 잠금)이
+     * 커밋되기 전에는 기다렸다가 파일을 유지함
+     */
+    private void deleteFiles(List<String> orphanUrls) {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        int deleted = 0;
+        for (String url : orphanUrls) {
+            Path file = root.resolve(url.substring("/uploads/".length())).normalize();
+            if (!file.startsWith(root)) {
+                continue;
+            }
+            Boolean removed = cleanupTransaction.execute(status -> {
+                List<Integer> counts = jdbc.queryForList(
+                        "SELECT ref_count FROM upload_blob WHERE url = ? FOR UPDATE", Integer.class, url);
+                // 다시 참조되었거나 다른 정리 작업이 이미 삭제한 경우
+                if (counts.isEmpty() || counts.get(0) > 0) {
+                    return false;
+                }
+                try {
+                    Files.deleteIfExists(file);
+                    deleteVariants(file);
+                } catch (IOException e) {
+                    log.warn("Failed to delete orphaned upload {}: {}", file, e.getMessage());
+                    return false;
+                }
+                jdbc.update("DELETE FROM upload_blob WHERE url = ? AND ref_count <= 0", url);
+                return true;
+            });
+            if (Boolean.TRUE.equals(removed)) {
+                deleted++;
+            }
+        }
+        log.debug("Deleted {} orphaned uploads", deleted);
+    }
+
+    // 원본에서 만들어진 축소본({sha256}_w{너비}.jpg)도 함께 삭제
+    private static void deleteVariants(Path blob) throws IOException {
+        String name = blob.getFileName().toString();
+        String sha256 = name.substring(0, name.indexOf('.'));
+        if (!Files.isDirectory(blob.getParent())) {
+            return;
+        }
+        try (DirectoryStream<Path> variants = Files.newDirectoryStream(blob.getParent(), sha256 + "_w*")) {
+            for (Path variant : variants) {
+                Files.deleteIfExists(variant);
+            }
+        }
+    }
+
+    /** 저장된 URL(상대 경로 또는 baseUrl이 붙은 절대 URL)을 upload_blob.url 형식으로 맞춤, blob 경로가 아니면 null */
+    static String toBlobUrl(String url) {
+        if (url == null) {
+            return null;
+        }
+        int at = url.indexOf(BLOB_URL_PREFIX);
+        return at < 0 ? null : url.substring(at);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
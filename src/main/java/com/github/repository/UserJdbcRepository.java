@@ -1,8 +1,11 @@
 package com.github.repository;
 
+import com.github.cache.BoundedCache;
 import com.github.entity.UserEntity;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
@@ -10,13 +13,39 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class UserJdbcRepository {
 
     private final JdbcTemplate jdbcTemplate;
+    private final BoundedCache<Integer, UserEntity> userSummaryCache;
+    private final UploadBlobJdbcRepository uploadBlobRepository;
+
+    // 사용자 요약 정보 (이름/연락처/프로필 사진/부서/직책) RowMapper
+    private final RowMapper<UserEntity> userSummaryRowMapper = (rs, rn) -> {
+        UserEntity u = new UserEntity();
+        u.setUserId(rs.getInt("users_id"));
+        u.setName(rs.getString("name"));
+        u.setPhoneNumber(rs.getString("phone_number"));
+        u.setRadioNumber(rs.getString("radio_number"));
+        u.setProfilePhotoUrl(rs.getString("profile_photo_url"));
+        // ID 값을 String으로 저장 (나중에 ProfileService에서 Integer로 변환)
+        u.setDepartment(String.valueOf(rs.getInt("department_id")));
+        u.setPosition(String.valueOf(rs.getInt("position_id")));
+        u.setDepartmentName(rs.getString("department_name"));
+        u.setPositionName(rs.getString("position_name"));
+        u.setRole(rs.getInt("role"));
+        return u;
+    };
 
 //    private UserEntity mapRow(ResultSet rs, int rowNum) {
 //
@@ -76,7 +105,7 @@ public class UserJdbcRepository {
         try {
             String sql = """
                 SELECT u.users_id, u.name, u.phone_number, u.radio_number, u.profile_photo_url,
-                       u.department_id, u.position_id,
+                       u.department_id, u.position_id, u.role,
                        COALESCE(d.name, 'N/A') as department_name, 
                        COALESCE(p.name, 'N/A') as position_name
                 FROM users u
@@ -85,27 +114,61 @@ public class UserJdbcRepository {
                 WHERE u.users_id = ?
                 """;
 
-            var list = jdbcTemplate.query(sql, (rs, rn) -> {
-                UserEntity u = new UserEntity();
-                u.setUserId(rs.getInt("users_id"));
-                u.setName(rs.getString("name"));
-                u.setPhoneNumber(rs.getString("phone_number"));
-                u.setRadioNumber(rs.getString("radio_number"));
-                u.setProfilePhotoUrl(rs.getString("profile_photo_url"));
-                // ID 값을 String으로 저장 (나중에 ProfileService에서 Integer로 변환)
-                u.setDepartment(String.valueOf(rs.getInt("department_id")));
-                u.setPosition(String.valueOf(rs.getInt("position_id")));
-                return u;
-            }, userId);
+            var list = jdbcTemplate.query(sql, userSummaryRowMapper, userId);
 
             return list.isEmpty() ? null : list.get(0);
         } catch (Exception e) {
-            System.err.println("Error finding user by ID: " + userId + ", Error: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error finding user by ID: {}, Error: {}", userId, e.getMessage(), e);
             return null;
         }
     }
 
+    /**
+     * 여러 사용자를 한 번에 조회 (IN 절, 댓글 목록 등 N+1 방지용)
+     * @return users_id -> UserEntity (존재하지 않는 ID는 포함되지 않음)
+     */
+    public Map<Integer, UserEntity> findByIds(Collection<Integer> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            String inSql = String.join(",", Collections.nCopies(userIds.size(), "?"));
+            String sql = """
+                SELECT u.users_id, u.name, u.phone_number, u.radio_number, u.profile_photo_url,
+                       u.department_id, u.position_id, u.role,
+                       COALESCE(d.name, 'N/A') as department_name, 
+                       COALESCE(p.name, 'N/A') as position_name
+                FROM users u
+                LEFT JOIN department d ON u.department_id = d.department_id  
+                LEFT JOIN position p ON u.position_id = p.position_id
+                WHERE u.users_id IN (%s)
+                """.formatted(inSql);
+
+            return jdbcTemplate.query(sql, userSummaryRowMapper, userIds.toArray()).stream()
+                    .collect(Collectors.toMap(UserEntity::getUserId, Function.identity(), (a, b) -> a));
+        } catch (Exception e) {
+            log.error("Error finding users by IDs: {}, Error: {}", userIds, e.getMessage(), e);
+            return Map.of();
+        }
+    }
+
+    /**
+     * 사용자 요약 정보 조회 (캐시 경유)
+     * 캐시된 엔티티는 공유되므로 복사본을 반환
+     */
+    public UserEntity findCachedById(Integer userId) {
+        UserEntity cached = userSummaryCache.get(userId, this::findById);
+        return cached != null ? cached.toBuilder().build() : null;
+    }
+
+    /**
+     * 여러 사용자 요약 정보 조회 (캐시 경유, 캐시에 없는 사용자만 IN 절로 한 번에 조회)
+     */
+    public Map<Integer, UserEntity> findCachedByIds(Collection<Integer> userIds) {
+        return userSummaryCache.getAll(userIds, this::findByIds).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().toBuilder().build()));
+    }
+
     public void updateProfile(int userId,
                               String phoneNumber,
                               String radioNumber,
@@ -123,6 +186,7 @@ public class UserJdbcRepository {
                 profilePhotoUrl,
                 userId
         );
+        userSummaryCache.evict(userId);
     }
 
     // 모든 프로필 정보 업데이트 (name, department_id, position_id 포함)
@@ -156,6 +220,7 @@ public class UserJdbcRepository {
                 profilePhotoUrl,
                 userId
         );
+        userSummaryCache.evict(userId);
     }
 
     // String을 Integer로 변환하는 헬퍼 메서드
@@ -173,7 +238,9 @@ public class UserJdbcRepository {
 //    사진업로드
     public int updateProfilePhoto(int userId, String photoUrl) {
         String sql = "UPDATE users SET profile_photo_url = ?, updated_at = NOW() WHERE users_id = ?";
-        return jdbcTemplate.update(sql, photoUrl, userId);
+        int updated = jdbcTemplate.update(sql, photoUrl, userId);
+        userSummaryCache.evict(userId);
+        return updated;
     }
 
     // 관리자 기능: 모든 사용자 목록 조회 (페이지네이션)
@@ -240,7 +307,9 @@ public class UserJdbcRepository {
     // 관리자 기능: 사용자 권한 업데이트
     public int updateUserRole(int userId, int newRole) {
         String sql = "UPDATE users SET role = ?, updated_at = NOW() WHERE users_id = ?";
-        return jdbcTemplate.update(sql, newRole, userId);
+        int updated = jdbcTemplate.update(sql, newRole, userId);
+        userSummaryCache.evict(userId);
+        return updated;
     }
 
     /**
@@ -255,26 +324,31 @@ public class UserJdbcRepository {
         // 1. 해당 사용자의 모든 댓글 삭제
         String deleteCommentsSql = "DELETE FROM comment WHERE user_id = ?";
         int deletedComments = jdbcTemplate.update(deleteCommentsSql, userId);
-        System.out.println("Deleted " + deletedComments + " comments for user " + userId);
+        log.debug("Deleted {} comments for user {}", deletedComments, userId);
         
-        // 2. 해당 사용자가 작성한 모든 게시물 삭제
+        // 2. 해당 사용자가 작성한 모든 게시물 삭제 (게시글 사진과 프로필 사진의 파일 참조도 해제)
+        List<String> photoUrls = new ArrayList<>(uploadBlobRepository.findPostPhotoUrls("p.reporter_id = ?", userId));
+        photoUrls.addAll(jdbcTemplate.queryForList("SELECT profile_photo_url FROM users WHERE users_id = ?", String.class, userId));
+        jdbcTemplate.update("DELETE FROM post_photos WHERE post_id IN (SELECT post_id FROM post WHERE reporter_id = ?)", userId);
         String deletePostsSql = "DELETE FROM post WHERE reporter_id = ?";
         int deletedPosts = jdbcTemplate.update(deletePostsSql, userId);
-        System.out.println("Deleted " + deletedPosts + " posts for user " + userId);
+        log.debug("Deleted {} posts for user {}", deletedPosts, userId);
+        uploadBlobRepository.release(photoUrls);
         
         // 3. 해당 사용자가 확인/조치한 게시물의 참조 정보 초기화
         String updateCheckedPostsSql = "UPDATE post SET is_checked_id = NULL, is_checked_at = NULL WHERE is_checked_id = ?";
         int updatedCheckedPosts = jdbcTemplate.update(updateCheckedPostsSql, userId);
-        System.out.println("Updated " + updatedCheckedPosts + " checked posts for user " + userId);
+        log.debug("Updated {} checked posts for user {}", updatedCheckedPosts, userId);
         
         String updateActionPostsSql = "UPDATE post SET action_taker_id = NULL, is_action_taken_at = NULL WHERE action_taker_id = ?";
         int updatedActionPosts = jdbcTemplate.update(updateActionPostsSql, userId);
-        System.out.println("Updated " + updatedActionPosts + " action posts for user " + userId);
+        log.debug("Updated {} action posts for user {}", updatedActionPosts, userId);
         
         // 4. 사용자 삭제
         String deleteUserSql = "DELETE FROM users WHERE users_id = ?";
         int deletedUser = jdbcTemplate.update(deleteUserSql, userId);
-        System.out.println("Deleted " + deletedUser + " user with id " + userId);
+        log.debug("Deleted {} user with id {}", deletedUser, userId);
+        userSummaryCache.evict(userId);
         
         if (deletedUser == 0) {
             throw new RuntimeException("사용자를 찾을 수 없습니다: " + userId);
@@ -0,0 +1,77 @@
+package com.github.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 n-gram 토크나이저
+ * 한국어는 띄어쓰기/조사 때문에 단어 단위로 나누면 "안전모를"과 "안전모"가 다른 단어가 되므로,
+ * 글자/숫자가 이어진 구간을 1글자(unigram)와 2글자(bigram) 단위로 잘라 색인합니다.
+ * - 색인: 구간마다 unigram + bigram
+ * - 검색: 두 글자 이상 구간은 bigram만, 한 글자 구간은 unigram (모든 조각을 포함하는 게시글이 결과)
+ * 전각/반각, 대소문자 차이는 NFKC 정규화와 소문자 변환으로 없앱니다.
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {
+    }
+
+    /** 색인할 조각 (제목, 본문 등 여러 필드를 함께 받음) */
+    public static Set<String> indexTerms(String... texts) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String text : texts) {
+            for (int[] run : runs(text)) {
+                for (int i = 0; i < run.length; i++) {
+                    terms.add(new String(run, i, 1));
+                    if (i + 1 < run.length) {
+                        terms.add(new String(run, i, 2));
+                    }
+                }
+            }
+        }
+        return terms;
+    }
+
+    /** 검색어 조각 (비어 있으면 검색할 글자가 없는 검색어) */
+    public static Set<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (int[] run : runs(query)) {
+            if (run.length == 1) {
+                terms.add(new String(run, 0, 1));
+            }
+            for (int i = 0; i + 1 < run.length; i++) {
+                terms.add(new String(run, i, 2));
+            }
+        }
+        return terms;
+    }
+
+    // 정규화한 문자열에서 글자/숫자가 이어진 구간을 코드 포인트 배열로 분리
+    private static List<int[]> runs(String text) {
+        if (text == null || text.isEmpty()) {
+            return List.of();
+        }
+        int[] codePoints = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .codePoints()
+                .toArray();
+
+        List<int[]> runs = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean letter = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (letter && start < 0) {
+                start = i;
+            } else if (!letter && start >= 0) {
+                runs.add(Arrays.copyOfRange(codePoints, start, i));
+                start = -1;
+            }
+        }
+        return runs;
+    }
+}
@@ -0,0 +1,338 @@
+package com.github.search;
+
+import com.github.entity.PostEntity;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문 인메모리 역색인
+ * - 조각(n-gram)마다 게시글 ID를 오름차순 int 배열(postings)로 보관하고, 검색은 짧은 목록부터 교집합
+ * - 관리구역/소구역/작성자도 같은 postings로 보관하여 필터가 검색어 교집합에 그대로 포함됨
+ * - 기간 필터는 교집합 결과에 게시글별 작성일(epoch day)로 적용
+ * - 조회는 읽기 잠금, 색인 변경은 쓰기 잠금 (토큰화는 잠금 밖에서 수행)
+ * bigram 교집합이므로 검색어 조각이 떨어져 있는 게시글도 결과에 포함될 수 있음 (순위 없이 최신순)
+ */
+public class PostSearchIndex {
+
+    // 필터용 postings 키 접두사 (토크나이저는 글자/숫자만 만들므로 제어 문자로 시작하는 키와 겹치지 않음)
+    private static final String AREA_KEY = "\u0001a:";
+    private static final String SUB_AREA_KEY = "\u0001s:";
+    private static final String REPORTER_KEY = "\u0001r:";
+
+    /** 검색 조건 (null인 항목은 조건 없음, 기간은 작성일 기준 양 끝 포함) */
+    public record Filter(Long areaId, Long subAreaId, LocalDate from, LocalDate to) {
+        public static final Filter NONE = new Filter(null, null, null, null);
+    }
+
+    /** 검색 결과: 조건에 맞는 전체 건수와 요청한 구간의 게시글 ID (최신순) */
+    public record Result(int totalCount, List<Long> postIds) {
+        public static final Result EMPTY = new Result(0, List.of());
+    }
+
+    // 색인된 게시글 (삭제 시 자신이 들어 있는 postings를 바로 찾도록 참조를 보관)
+    private record Document(int createdDay, Postings[] postings) {}
+
+    // 토큰화까지 끝난 게시글 (잠금 밖에서 만들어 잠금 안에서는 postings 추가만 수행)
+    private record Tokenized(int postId, int createdDay, Set<String> keys) {}
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 일괄 적재 중 삭제된 게시글 (적재 스레드가 삭제 전에 읽은 행을 다시 넣지 않도록 함), 적재 중이 아니면 null
+    private Set<Integer> removedWhileLoading;
+
+    /** 게시글 색인 추가/교체 (생성, 제목/본문/구역 수정) */
+    public void put(PostEntity post) {
+        Tokenized doc = tokenize(post);
+        lock.writeLock().lock();
+        try {
+            removeLocked(doc.postId());
+            addLocked(doc);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 일괄 적재용 추가: 이미 색인된 게시글(적재 중 생성/수정 이벤트로 더 최신 상태가 들어간 경우)과
+     * 적재 중 삭제된 게시글은 건너뜀
+     * @return 추가한 게시글 수
+     */
+    public int putAllIfAbsent(Collection<PostEntity> posts) {
+        List<Tokenized> docs = new ArrayList<>(posts.size());
+        for (PostEntity post : posts) {
+            docs.add(tokenize(post));
+        }
+        // 오름차순으로 넣으면 대부분 postings 끝에 붙이기만 하면 됨
+        docs.sort(Comparator.comparingInt(Tokenized::postId));
+
+        int added = 0;
+        lock.writeLock().lock();
+        try {
+            for (Tokenized doc : docs) {
+                if (documents.containsKey(doc.postId())
+                        || (removedWhileLoading != null && removedWhileLoading.contains(doc.postId()))) {
+                    continue;
+                }
+                addLocked(doc);
+                added++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return added;
+    }
+
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            int id = Math.toIntExact(postId);
+            removeLocked(id);
+            if (removedWhileLoading != null) {
+                removedWhileLoading.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 관리구역에 속한 게시글 전체 제거 (관리구역 계단식 삭제) */
+    public int removeByArea(Long areaId) {
+        return removeAllWithKey(AREA_KEY + areaId);
+    }
+
+    /** 사용자가 작성한 게시글 전체 제거 (사용자 계단식 삭제) */
+    public int removeByReporter(Long reporterId) {
+        return removeAllWithKey(REPORTER_KEY + reporterId);
+    }
+
+    /** 일괄 적재 시작 (이후 삭제되는 게시글을 기록) */
+    public void beginBulkLoad() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void endBulkLoad() {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 조각과 필터를 만족하는 게시글을 최신순(post_id 내림차순)으로 offset부터 limit건 반환
+     */
+    public Result search(String query, Filter filter, int offset, int limit) {
+        Set<String> keys = NgramTokenizer.queryTerms(query);
+        if (keys.isEmpty()) {
+            return Result.EMPTY;
+        }
+        if (filter.areaId() != null) {
+            keys.add(AREA_KEY + filter.areaId());
+        }
+        if (filter.subAreaId() != null) {
+            keys.add(SUB_AREA_KEY + filter.subAreaId());
+        }
+
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[keys.size()];
+            int i = 0;
+            for (String key : keys) {
+                Postings list = postings.get(key);
+                if (list == null) {
+                    return Result.EMPTY;
+                }
+                lists[i++] = list;
+            }
+            Arrays.sort(lists, Comparator.comparingInt((Postings list) -> list.size));
+
+            // 가장 짧은 목록을 복사한 뒤 나머지 목록에 없는 ID를 걸러냄
+            int[] matches = Arrays.copyOf(lists[0].ids, lists[0].size);
+            int count = matches.length;
+            for (int l = 1; l < lists.length && count > 0; l++) {
+                count = retainAll(matches, count, lists[l]);
+            }
+            if (filter.from() != null || filter.to() != null) {
+                count = retainCreatedBetween(matches, count, filter.from(), filter.to());
+            }
+
+            List<Long> page = new ArrayList<>(Math.max(0, Math.min(limit, count - offset)));
+            for (int j = count - 1 - offset; j >= 0 && page.size() < limit; j--) {
+                page.add((long) matches[j]);
+            }
+            return new Result(count, page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 색인된 게시글 수 */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 조각(postings 목록) 수 */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Tokenized tokenize(PostEntity post) {
+        Set<String> keys = NgramTokenizer.indexTerms(post.getTitle(), post.getContent());
+        if (post.getAreaId() != null) {
+            keys.add(AREA_KEY + post.getAreaId());
+        }
+        if (post.getSubAreaId() != null) {
+            keys.add(SUB_AREA_KEY + post.getSubAreaId());
+        }
+        if (post.getReporterId() != null) {
+            keys.add(REPORTER_KEY + post.getReporterId());
+        }
+        int createdDay = post.getCreatedAt() != null ? (int) post.getCreatedAt().toLocalDate().toEpochDay() : 0;
+        return new Tokenized(Math.toIntExact(post.getPostId()), createdDay, keys);
+    }
+
+    private void addLocked(Tokenized doc) {
+        Postings[] lists = new Postings[doc.keys().size()];
+        int i = 0;
+        for (String key : doc.keys()) {
+            Postings list = postings.computeIfAbsent(key, Postings::new);
+            list.add(doc.postId());
+            lists[i++] = list;
+        }
+        documents.put(doc.postId(), new Document(doc.createdDay(), lists));
+    }
+
+    private void removeLocked(int postId) {
+        Document doc = documents.remove(postId);
+        if (doc == null) {
+            return;
+        }
+        for (Postings list : doc.postings()) {
+            list.remove(postId);
+            if (list.size == 0) {
+                postings.remove(list.key);
+            }
+        }
+    }
+
+    private int removeAllWithKey(String key) {
+        lock.writeLock().lock();
+        try {
+            Postings list = postings.get(key);
+            if (list == null) {
+                return 0;
+            }
+            int[] ids = Arrays.copyOf(list.ids, list.size);
+            for (int id : ids) {
+                removeLocked(id);
+                if (removedWhileLoading != null) {
+                    removedWhileLoading.add(id);
+                }
+            }
+            return ids.length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // matches[0..count) 중 list에 있는 ID만 앞으로 모으고 남은 개수를 반환 (둘 다 오름차순이므로 탐색 시작점을 계속 앞으로 이동)
+    private static int retainAll(int[] matches, int count, Postings list) {
+        int kept = 0;
+        int from = 0;
+        for (int i = 0; i < count && from < list.size; i++) {
+            int found = Arrays.binarySearch(list.ids, from, list.size, matches[i]);
+            if (found >= 0) {
+                matches[kept++] = matches[i];
+                from = found + 1;
+            } else {
+                from = -found - 1;
+            }
+        }
+        return kept;
+    }
+
+    private int retainCreatedBetween(int[] matches, int count, LocalDate from, LocalDate to) {
+        long fromDay = from != null ? from.toEpochDay() : Long.MIN_VALUE;
+        long toDay = to != null ? to.toEpochDay() : Long.MAX_VALUE;
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int createdDay = documents.get(matches[i]).createdDay();
+            if (createdDay >= fromDay && createdDay <= toDay) {
+                matches[kept++] = matches[i];
+            }
+        }
+        return kept;
+    }
+
+    /** 조각 하나의 게시글 ID 목록 (오름차순, 중복 없음) */
+    private static final class Postings {
+
+        private final String key;
+        private int[] ids = new int[4];
+        private int size;
+
+        private Postings(String key) {
+            this.key = key;
+        }
+
+        void add(int id) {
+            if (size == 0 || ids[size - 1] < id) {
+                ensureCapacity();
+                ids[size++] = id;
+                return;
+            }
+            int found = Arrays.binarySearch(ids, 0, size, id);
+            if (found >= 0) {
+                return;
+            }
+            int at = -found - 1;
+            ensureCapacity();
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+        }
+
+        void remove(int id) {
+            int found = Arrays.binarySearch(ids, 0, size, id);
+            if (found < 0) {
+                return;
+            }
+            System.arraycopy(ids, found + 1, ids, found, size - found - 1);
+            size--;
+        }
+
+        private void ensureCapacity() {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+        }
+    }
+}
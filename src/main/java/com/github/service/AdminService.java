@@ -1,7 +1,11 @@
 package com.github.service;
 
+import com.github.cache.BoundedCache;
 import com.github.dto.AdminUserResponse;
+import com.github.entity.PostEntity;
 import com.github.entity.UserEntity;
+import com.github.repository.PostCounterJdbcRepository;
+import com.github.repository.PostDailyStatsJdbcRepository;
 import com.github.repository.UserJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +22,10 @@ import java.util.stream.Collectors;
 public class AdminService {
 
     private final UserJdbcRepository userRepository;
+    private final BoundedCache<Long, PostEntity> postDetailCache;
+    private final PostDailyStatsJdbcRepository postDailyStatsRepository;
+    private final PostCounterJdbcRepository postCounterRepository;
+    private final PostSearchService postSearchService;
 
     /**
      * 모든 사용자 목록을 조회합니다 (관리자 일람)
@@ -66,7 +74,7 @@ public class AdminService {
         }
         
         // 업데이트된 사용자 정보 조회
-        UserEntity updatedUser = userRepository.findById(userId);
+        UserEntity updatedUser = userRepository.findCachedById(userId);
         if (updatedUser == null) {
             throw new RuntimeException("사용자 정보를 조회할 수 없습니다: " + userId);
         }
@@ -107,7 +115,7 @@ public class AdminService {
     @Transactional
     public void deleteUser(int userId) {
         // 사용자 존재 여부 확인
-        UserEntity user = userRepository.findById(userId);
+        UserEntity user = userRepository.findCachedById(userId);
         if (user == null) {
             throw new RuntimeException(ErrorMessages.USER_NOT_FOUND + ": " + userId);
         }
@@ -115,17 +123,21 @@ public class AdminService {
         // 참조 데이터 확인
         UserJdbcRepository.UserReferenceInfo refInfo = userRepository.getUserReferenceInfo(userId);
         if (refInfo.hasReferences()) {
-            System.out.println("User " + userId + " 삭제 시 함께 삭제될 데이터:");
-            System.out.println("- Comments: " + refInfo.getCommentCount() + "개");
-            System.out.println("- Posts: " + refInfo.getPostCount() + "개");
-            System.out.println("- Checked Posts: " + refInfo.getCheckedPostCount() + "개");
-            System.out.println("- Action Posts: " + refInfo.getActionPostCount() + "개");
+            log.debug("User {} 삭제 시 함께 삭제될 데이터:", userId);
+            log.debug("- Comments: {}개", refInfo.getCommentCount());
+            log.debug("- Posts: {}개", refInfo.getPostCount());
+            log.debug("- Checked Posts: {}개", refInfo.getCheckedPostCount());
+            log.debug("- Action Posts: {}개", refInfo.getActionPostCount());
         }
 
         // 계단식 삭제 실행
+        postDailyStatsRepository.applyReporterPosts(userId, -1); // 작성 게시글이 함께 삭제되므로 집계에서 먼저 제외
+        postCounterRepository.applyReporterPosts(userId, -1);
         userRepository.deleteUser(userId);
+        postDetailCache.evictAll(); // 작성 게시글 삭제 및 확인/조치자 정보 변경
+        postSearchService.removeReporterAfterCommit((long) userId);
         
-        System.out.println("User " + userId + " 삭제 완료");
+        log.debug("User {} 삭제 완료", userId);
     }
 
     /**
@@ -1,45 +1,84 @@
 package com.github.service;
 
+import com.github.cache.BoundedCache;
+import com.github.cache.RemoteCacheTier;
+import com.github.config.RedisConfig;
+import com.github.dto.AreaPostSummaryResponse;
 import com.github.dto.AreaResponse;
 import com.github.dto.AreaUpdateRequest;
 import com.github.dto.SubAreaDto;
+import com.github.dto.SubAreaPostSummaryDto;
 import com.github.entity.AreaEntity;
+import com.github.entity.PostEntity;
 import com.github.entity.SubAreaEntity;
 import com.github.repository.AreaJdbcRepository;
+import com.github.repository.PostCounterJdbcRepository;
+import com.github.repository.PostDailyStatsJdbcRepository;
 import com.github.repository.PostJdbcRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
-import java.nio.file.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AreaService {
 
     private final AreaJdbcRepository repo;
     private final PostJdbcRepository postJdbcRepository;
-
-    @Value("${file.upload-dir:./uploads}")
-    private String uploadDir;
+    private final BoundedCache<Long, PostEntity> postDetailCache;
+    private final PostDailyStatsJdbcRepository postDailyStatsRepository;
+    private final PostCounterJdbcRepository postCounterRepository;
+    private final PostSearchService postSearchService;
+    private final UploadStorageService uploadStorageService;
+    private final ImageVariantService imageVariantService;
+    private final ObjectProvider<RedisConfig.RedisCacheTiers> redisCacheTiers;
 
     @Value("${api.base-url}")
     private String baseUrl;
 
+    // 관리구역/소구역 카탈로그 스냅샷 (불변, 변경이 커밋되면 통째로 교체)
+    private record AreaCatalog(long version, List<AreaResponse> areas, Map<Long, AreaResponse> byId) {}
+
+    private final AtomicReference<AreaCatalog> catalog = new AtomicReference<>();
+    private final AtomicLong catalogVersion = new AtomicLong();
+
+    // 카탈로그 변경을 다른 인스턴스에 알리는 Redis 무효화 채널 (cache.backend=redis 가 아니면 null, 인스턴스별 스냅샷만 사용)
+    private static final String CATALOG_KEY = "all";
+    private RemoteCacheTier<String, String> catalogInvalidation;
+
+    @PostConstruct
+    void subscribeCatalogInvalidation() {
+        RedisConfig.RedisCacheTiers tiers = redisCacheTiers.getIfAvailable();
+        if (tiers == null) {
+            return;
+        }
+        // 값은 저장하지 않고 cache:invalidate 채널의 발행/구독만 사용
+        catalogInvalidation = tiers.create("areaCatalog", String.class, Function.identity(), null);
+        catalogInvalidation.onRemoteInvalidation(key -> reloadCatalogOnRemoteChange(), this::reloadCatalogOnRemoteChange);
+    }
+
 
     //소구역 포함 저장
     @Transactional
@@ -55,29 +94,19 @@ public class AreaService {
 
         if (image != null && !image.isEmpty()) {
             imageUrl = saveAndMakeUrl(image);
+            imageVariantService.generateAfterCommit(imageUrl);
         }
 
         Long areaId = repo.insertArea(req.getAreaName().trim(), imageUrl);
         repo.insertSubAreas(areaId, names);
+        refreshCatalogAfterCommit();
         return areaId;
     }
 
 
     private String saveAndMakeUrl(MultipartFile file) {
         try {
-            Path root = Paths.get(uploadDir);
-            if (!Files.exists(root)) Files.createDirectories(root);
-
-            String original = file.getOriginalFilename();
-            String ext = (original != null && original.lastIndexOf('.') != -1)
-                    ? original.substring(original.lastIndexOf('.')) : "";
-            String stored = "area_" + UUID.randomUUID() + ext;
-
-            Path target = root.resolve(stored);
-            Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-
-            return "/uploads/" + stored;
-
+            return uploadStorageService.store(file).url();
         } catch (IOException e) {
             throw new RuntimeException("이미지 저장 실패: " + e.getMessage(), e);
         }
@@ -85,47 +114,93 @@ public class AreaService {
 
     @Transactional(readOnly = true)
     public AreaResponse getAreaDetail(Long areaId) {
-        // 관리구역 기본 정보 조회
-        var area = repo.findArea(areaId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 관리구역입니다."));
-
-        // 소구역 목록 조회
-        var subs = repo.findSubArea(areaId);
-
-        // DTO 변환
-        List<SubAreaDto> subDtos = subs.stream()
-                .map(s -> new SubAreaDto(s.getSubAreaId(), s.getName()))
-                .toList();
+        AreaResponse area = currentCatalog().byId().get(areaId);
+        if (area != null) {
+            return area;
+        }
 
-        return AreaResponse.builder()
-                .id(area.getAreaId())
-                .areaName(area.getName())
-                .imageUrl(convertToFullUrl(area.getImageUrl()))
-                .subAreas(subDtos)
-                .build();
+        // 스냅샷에 없으면 다른 인스턴스에서 생성되었을 수 있으므로 DB 확인 후 카탈로그 재구성
+        if (repo.findArea(areaId).isEmpty()) {
+            throw new IllegalArgumentException("존재하지 않는 관리구역입니다.");
+        }
+        area = reloadCatalog().byId().get(areaId);
+        if (area == null) {
+            throw new IllegalArgumentException("존재하지 않는 관리구역입니다.");
+        }
+        return area;
     }
 
-    // 관리구역 일람 - 모든 관리구역 목록 조회 (소구역 정보 포함)
+    // 관리구역 일람 - 모든 관리구역 목록 조회 (소구역 정보 포함, 카탈로그 스냅샷에서 반환)
     @Transactional(readOnly = true)
     public List<AreaResponse> getAllArea() {
+        return currentCatalog().areas();
+    }
+
+    private AreaCatalog currentCatalog() {
+        AreaCatalog current = catalog.get();
+        return current != null ? current : reloadCatalog();
+    }
+
+    /**
+     * 관리구역 + 소구역을 2회의 일괄 조회로 읽어 카탈로그 스냅샷을 재구성
+     * 동시에 재구성되는 경우 나중에 시작된(더 최신 데이터를 읽은) 스냅샷만 반영
+     */
+    private AreaCatalog reloadCatalog() {
+        long version = catalogVersion.incrementAndGet();
+
         List<AreaEntity> areas = repo.findAllArea();
-        
-        return areas.stream()
-                .map(area -> {
-                    // 각 관리구역의 소구역 목록 조회
-                    var subs = repo.findSubArea(area.getAreaId());
-                    List<SubAreaDto> subDtos = subs.stream()
-                            .map(s -> new SubAreaDto(s.getSubAreaId(), s.getName()))
-                            .toList();
-                    
-                    return AreaResponse.builder()
-                            .id(area.getAreaId())
-                            .areaName(area.getName())
-                            .imageUrl(convertToFullUrl(area.getImageUrl()))
-                            .subAreas(subDtos) // 소구역 정보 포함
-                            .build();
-                })
+        Map<Long, List<SubAreaDto>> subAreasByArea = repo.findAllSubAreas().stream()
+                .collect(Collectors.groupingBy(
+                        SubAreaEntity::getAreaId,
+                        Collectors.mapping(s -> new SubAreaDto(s.getSubAreaId(), s.getName()), Collectors.toList())));
+
+        List<AreaResponse> responses = areas.stream()
+                .map(area -> AreaResponse.builder()
+                        .id(area.getAreaId())
+                        .areaName(area.getName())
+                        .imageUrl(convertToFullUrl(area.getImageUrl()))
+                        .imageVariants(ImageVariantService.variantUrls(convertToFullUrl(area.getImageUrl())))
+                        .subAreas(List.copyOf(subAreasByArea.getOrDefault(area.getAreaId(), List.of())))
+                        .build())
                 .toList();
+        Map<Long, AreaResponse> byId = responses.stream()
+                .collect(Collectors.toUnmodifiableMap(AreaResponse::getId, Function.identity()));
+
+        AreaCatalog loaded = new AreaCatalog(version, responses, byId);
+        return catalog.accumulateAndGet(loaded,
+                (current, next) -> current == null || next.version() > current.version() ? next : current);
+    }
+
+    // 트랜잭션 커밋 후 카탈로그 재구성 (롤백된 변경이 반영되지 않도록)
+    private void refreshCatalogAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    reloadCatalog();
+                    publishCatalogChange();
+                }
+            });
+        } else {
+            reloadCatalog();
+            publishCatalogChange();
+        }
+    }
+
+    private void publishCatalogChange() {
+        if (catalogInvalidation != null) {
+            catalogInvalidation.delete(CATALOG_KEY);
+        }
+    }
+
+    // 다른 인스턴스의 변경 알림(그쪽 커밋 후 발행) 수신 시 재구성, 실패하면 스냅샷을 비워 다음 조회에서 다시 읽음
+    private void reloadCatalogOnRemoteChange() {
+        try {
+            reloadCatalog();
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload area catalog after remote change: {}", e.getMessage());
+            catalog.set(null);
+        }
     }
 
     // 이미지 URL을 완전한 URL로 변환
@@ -159,6 +234,7 @@ public class AreaService {
         if (image != null && !image.isEmpty()) {
             String imageUrl = saveAndMakeUrl(image);
             repo.updateAreaImage(areaId, imageUrl);
+            imageVariantService.generateAfterCommit(imageUrl);
         }
 
         // 3. 소구역 갱신 로직
@@ -179,9 +255,13 @@ public class AreaService {
                     .toList();
 
             if (!toDelete.isEmpty()) {
+                // 삭제 대상 소구역의 게시글 수를 카운터에서 한 번에 조회
+                Map<Long, PostCounterJdbcRepository.PostCounts> counts = postCounterRepository.findBySubAreas(
+                        toDelete.stream().map(SubAreaEntity::getSubAreaId).toList());
                 List<String> undeletable = new ArrayList<>();
                 for (SubAreaEntity sub : toDelete) {
-                    if (postJdbcRepository.countBySubArea(sub.getSubAreaId()) > 0) {
+                    PostCounterJdbcRepository.PostCounts count = counts.get(sub.getSubAreaId());
+                    if (count != null && count.postCount() > 0) {
                         undeletable.add(sub.getName());
                     }
                 }
@@ -206,6 +286,8 @@ public class AreaService {
                 repo.insertSubAreas(areaId, toAdd);
             }
         }
+
+        refreshCatalogAfterCommit();
     }
 
     // 구역별 자세히 보기 (상세 정보 + 통계)
@@ -313,15 +395,21 @@ public class AreaService {
         // 참조 데이터 확인
         AreaJdbcRepository.AreaReferenceInfo refInfo = repo.getReferenceInfo(areaId);
         if (refInfo.hasReferences()) {
-            System.out.println("Area " + areaId + " 삭제 시 함께 삭제될 데이터:");
-            System.out.println("- Posts: " + refInfo.getPostCount() + "개");
-            System.out.println("- Sub Areas: " + refInfo.getSubAreaCount() + "개");
+            log.debug("Area {} 삭제 시 함께 삭제될 데이터:", areaId);
+            log.debug("- Posts: {}개", refInfo.getPostCount());
+            log.debug("- Sub Areas: {}개", refInfo.getSubAreaCount());
         }
 
-        // 계단식 삭제 실행
+        // 계단식 삭제 실행 (게시글 수 카운터는 post/sub_area 행이 지워지기 전에 먼저 반영)
+        postCounterRepository.applyAreaPosts(areaId, -1);
+        postCounterRepository.deleteByArea(areaId);
         repo.deleteArea(areaId);
+        postDetailCache.evictAll(); // 구역에 속한 게시글이 함께 삭제됨
+        postSearchService.removeAreaAfterCommit(areaId);
+        postDailyStatsRepository.deleteByArea(areaId);
+        refreshCatalogAfterCommit();
         
-        System.out.println("Area " + areaId + " 삭제 완료");
+        log.debug("Area {} 삭제 완료", areaId);
     }
 
     /**
@@ -330,4 +418,41 @@ public class AreaService {
     public AreaJdbcRepository.AreaReferenceInfo getAreaReferenceInfo(Long areaId) {
         return repo.getReferenceInfo(areaId);
     }
+
+    /**
+     * 관리구역 + 소구역별 게시글/확인/조치 건수 요약
+     * 소구역 목록은 카탈로그 스냅샷에서, 건수는 post_counter에서 기본 키로 조회 (COUNT(*) 없음)
+     */
+    @Transactional(readOnly = true)
+    public AreaPostSummaryResponse getAreaPostSummary(Long areaId) {
+        AreaResponse area = getAreaDetail(areaId);
+        List<SubAreaDto> subAreas = area.getSubAreas() != null ? area.getSubAreas() : List.of();
+
+        PostCounterJdbcRepository.PostCounts total = postCounterRepository.findByArea(areaId);
+        Map<Long, PostCounterJdbcRepository.PostCounts> counts = postCounterRepository.findBySubAreas(
+                subAreas.stream().map(SubAreaDto::getSubAreaId).toList());
+
+        List<SubAreaPostSummaryDto> summaries = subAreas.stream()
+                .map(sub -> {
+                    PostCounterJdbcRepository.PostCounts count = counts.getOrDefault(
+                            sub.getSubAreaId(), PostCounterJdbcRepository.PostCounts.EMPTY);
+                    return SubAreaPostSummaryDto.builder()
+                            .subAreaId(sub.getSubAreaId())
+                            .name(sub.getName())
+                            .postCount(count.postCount())
+                            .checkedCount(count.checkedCount())
+                            .actionTakenCount(count.actionCount())
+                            .build();
+                })
+                .toList();
+
+        return AreaPostSummaryResponse.builder()
+                .areaId(areaId)
+                .areaName(area.getAreaName())
+                .postCount(total.postCount())
+                .checkedCount(total.checkedCount())
+                .actionTakenCount(total.actionCount())
+                .subAreas(summaries)
+                .build();
+    }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import com.github.dto.TokenResponse;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ import com.github.jwt.JwtTokenProvider;
 import org.springframework.web.server.ResponseStatusException;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -46,12 +48,12 @@ public class AuthService {
             "; Path=/; Max-Age=" + (60 * 60 * 24 * 13) + 
             "; HttpOnly=true; Secure=true; SameSite=None");
         
-        System.out.println("AuthService - Refresh Token 쿠키 설정 완료");
-        System.out.println("쿠키 이름: " + cookie.getName());
-        System.out.println("쿠키 값 길이: " + refreshToken.length());
-        System.out.println("쿠키 MaxAge: " + cookie.getMaxAge());
-        System.out.println("쿠키 Path: " + cookie.getPath());
-        System.out.println("쿠키 설정: HttpOnly=true, Secure=true, SameSite=None");
+        log.debug("AuthService - Refresh Token 쿠키 설정 완료");
+        log.debug("쿠키 이름: {}", cookie.getName());
+        log.debug("쿠키 값 길이: {}", refreshToken.length());
+        log.debug("쿠키 MaxAge: {}", cookie.getMaxAge());
+        log.debug("쿠키 Path: {}", cookie.getPath());
+        log.debug("쿠키 설정: HttpOnly=true, Secure=true, SameSite=None");
     }
 
 
@@ -8,13 +8,18 @@ import com.github.repository.CommentJdbcRepository;
 import com.github.repository.UserJdbcRepository;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommentService {
@@ -27,11 +32,11 @@ public class CommentService {
 
     @Transactional
     public CommentEntity createComment(CommentCreateRequest request) {
-        System.out.println("=== 댓글 작성 중간 진행 ===");
-        System.out.println("Request: " + request);
+        log.debug("=== 댓글 작성 중간 진행 ===");
+        log.debug("Request: {}", request);
 
         // 사용자 정보 조회
-        UserEntity user = userRepository.findById(request.getUserId().intValue());
+        UserEntity user = userRepository.findCachedById(request.getUserId().intValue());
         if (user == null) {
             throw new RuntimeException("사용자 정보를 찾을 수 없습니다.");
         }
@@ -50,8 +55,8 @@ public class CommentService {
 
         CommentEntity savedComment = commentRepository.insert(comment);
 
-        System.out.println("Comment created: " + savedComment);
-        System.out.println("=== 댓글 작성 중간 완료 ===");
+        log.debug("Comment created: {}", savedComment);
+        log.debug("=== 댓글 작성 중간 완료 ===");
 
         return savedComment;
     }
@@ -59,14 +64,20 @@ public class CommentService {
 
     @Transactional(readOnly = true)
     public List<CommentEntity> getCommentsByPostId(Long postId) {
-        System.out.println("=== 게시글별 댓글 조회 진행 ===");
-        System.out.println("PostId: " + postId);
+        log.debug("=== 게시글별 댓글 조회 진행 ===");
+        log.debug("PostId: {}", postId);
 
         List<CommentEntity> comments = commentRepository.findByPostId(postId);
         
+        // 댓글 작성자 정보를 한 번에 조회 (댓글 수와 무관하게 1회)
+        Set<Integer> userIds = comments.stream()
+                .map(comment -> comment.getUserId().intValue())
+                .collect(Collectors.toSet());
+        Map<Integer, UserEntity> users = userRepository.findCachedByIds(userIds);
+
         // 각 댓글에 사용자 정보 추가
         for (CommentEntity comment : comments) {
-            UserEntity user = userRepository.findById(comment.getUserId().intValue());
+            UserEntity user = users.get(comment.getUserId().intValue());
             if (user != null) {
                 comment.setUserName(user.getName());
                 comment.setPositionId(convertToInteger(user.getPosition()));
@@ -76,16 +87,16 @@ public class CommentService {
             }
         }
 
-        System.out.println("Found " + comments.size() + " comments for postId: " + postId);
-        System.out.println("=== 게시글별 댓글 조회 완료 ===");
+        log.debug("Found {} comments for postId: {}", comments.size(), postId);
+        log.debug("=== 게시글별 댓글 조회 완료 ===");
 
         return comments;
     }
 
     @Transactional
     public CommentEntity updateComment(Long commentId, String message) {
-        System.out.println("=== 댓글 수정 중간 진행 ===");
-        System.out.println("CommentId: " + commentId + ", Message: " + message);
+        log.debug("=== 댓글 수정 중간 진행 ===");
+        log.debug("CommentId: {}, Message: {}", commentId, message);
 
         CommentEntity existingComment = commentRepository.findById(commentId);
         if (existingComment == null) {
@@ -96,7 +107,7 @@ public class CommentService {
         CommentEntity updatedComment = commentRepository.findById(commentId);
 
         // 사용자 정보 조회
-        UserEntity user = userRepository.findById(updatedComment.getUserId().intValue());
+        UserEntity user = userRepository.findCachedById(updatedComment.getUserId().intValue());
         if (user == null) {
             throw new RuntimeException("사용자 정보를 찾을 수 없습니다.");
         }
@@ -108,16 +119,16 @@ public class CommentService {
         // 프로필 이미지 URL 설정
         updatedComment.setProfilePhotoUrl(convertToFullUrl(user.getProfilePhotoUrl()));
 
-        System.out.println("Comment updated: " + updatedComment);
-        System.out.println("=== 댓글 수정 중간 완료 ===");
+        log.debug("Comment updated: {}", updatedComment);
+        log.debug("=== 댓글 수정 중간 완료 ===");
 
         return updatedComment;
     }
 
     @Transactional
     public void deleteComment(Long commentId) {
-        System.out.println("=== 댓글 삭제 중간 진행 ===");
-        System.out.println("CommentId: " + commentId);
+        log.debug("=== 댓글 삭제 중간 진행 ===");
+        log.debug("CommentId: {}", commentId);
 
         CommentEntity existingComment = commentRepository.findById(commentId);
         if (existingComment == null) {
@@ -126,8 +137,8 @@ public class CommentService {
 
         commentRepository.delete(commentId);
 
-        System.out.println("Comment deleted: " + commentId);
-        System.out.println("=== 댓글 삭제 중간 완료 ===");
+        log.debug("Comment deleted: {}", commentId);
+        log.debug("=== 댓글 삭제 중간 완료 ===");
     }
 
     // String을 Integer로 변환하는 헬퍼 메서드
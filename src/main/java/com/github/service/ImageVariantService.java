@@ -0,0 +1,265 @@
+package com.github.service;
+
+import com.github.constants.FileConstants;
+import com.github.repository.UploadBlobJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 업로드 이미지의 고정 너비 축소본(variant) 생성 (게시글/관리구역/프로필 공통)
+ * - 원본 blob(/uploads/blobs/ab/cd/{sha256}.{확장자}) 옆에 {sha256}_w{너비}.jpg 로 저장
+ * - 파일명이 원본 해시에서 결정되므로 URL은 DB 조회 없이 계산되고, 같은 내용은 한 번만 생성
+ * - 원본보다 큰 너비는 확대하지 않고 원본 크기로 다시 인코딩 (모든 variant URL이 항상 유효하도록)
+ * - 생성은 트랜잭션 커밋 후 imageVariantExecutor(스레드/큐 제한)에서 비동기로 수행
+ *   생성이 끝나기 전에는 variant가 없을 수 있으므로 클라이언트는 원본 URL로 대체
+ * - 큐 포화/실패/재기동으로 생성되지 않은 variant는 요청 시 원본에서 바로 생성 (UploadController)
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final String VARIANT_SUFFIX = "_w";
+    private static final float JPEG_QUALITY = 0.82f;
+    private static final String TEMP_DIR = ".tmp";
+    // 디코딩 전에 크기를 확인하여 압축 폭탄 형태의 이미지는 건너뜀
+    private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+    private static final Pattern VARIANT_NAME =
+            Pattern.compile("([0-9a-f]{64})" + VARIANT_SUFFIX + "(\\d+)\\." + FileConstants.IMAGE_VARIANT_FORMAT);
+
+    private final Executor executor;
+
+    @Value("${file.upload-dir:./uploads}")
+    private String uploadDir;
+
+    public ImageVariantService(@Qualifier("imageVariantExecutor") Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 원본 URL의 너비별 variant URL (너비 오름차순)
+     * 상대 경로(/uploads/...)와 완전한 URL 모두 같은 형태로 변환, blob 경로가 아닌 예전 파일은 빈 Map
+     */
+    public static Map<Integer, String> variantUrls(String url) {
+        if (url == null || !url.contains(UploadBlobJdbcRepository.BLOB_URL_PREFIX)) {
+            return Collections.emptyMap();
+        }
+        int dot = url.lastIndexOf('.');
+        if (dot < url.lastIndexOf('/')) {
+            return Collections.emptyMap();
+        }
+        String base = url.substring(0, dot);
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        for (int width : FileConstants.IMAGE_VARIANT_WIDTHS) {
+            urls.put(width, base + VARIANT_SUFFIX + width + "." + FileConstants.IMAGE_VARIANT_FORMAT);
+        }
+        return urls;
+    }
+
+    /** 트랜잭션 커밋 후 variant 생성 예약 (트랜잭션 밖이면 즉시 예약) */
+    public void generateAfterCommit(String url) {
+        if (variantUrls(url).isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(url);
+                }
+            });
+        } else {
+            submit(url);
+        }
+    }
+
+    private void submit(String url) {
+        try {
+            executor.execute(() -> generate(url));
+        } catch (RejectedExecutionException e) {
+            // 큐가 가득 찬 경우 요청을 막지 않고 건너뜀 (variant가 처음 요청될 때 regenerate로 생성)
+            log.warn("Image variant queue is full, skipping {}", url);
+        }
+    }
+
+    /**
+     * 없는 variant 파일이 요청되었을 때 같은 디렉토리에 원본이 있으면 호출 스레드에서 바로 생성
+     * @param path 업로드 디렉토리 기준 경로 (blobs/ab/cd/{sha256}_w{너비}.jpg), 정해진 너비가 아니면 생성하지 않음
+     * @return 요청한 variant 파일이 생겼으면 true
+     */
+    public boolean regenerate(String path) {
+        int slash = path.lastIndexOf('/');
+        String directory = path.substring(0, slash + 1);
+        Matcher name = VARIANT_NAME.matcher(path.substring(slash + 1));
+        if (!("/uploads/" + directory).startsWith(UploadBlobJdbcRepository.BLOB_URL_PREFIX) || !name.matches()
+                || Arrays.stream(FileConstants.IMAGE_VARIANT_WIDTHS).noneMatch(width -> name.group(2).equals(String.valueOf(width)))) {
+            return false;
+        }
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path target = root.resolve(path).normalize();
+        if (!target.startsWith(root)) {
+            return false;
+        }
+        for (String extension : FileConstants.ALLOWED_IMAGE_TYPES) {
+            if (Files.exists(target.resolveSibling(name.group(1) + "." + extension))) {
+                generate("/uploads/" + directory + name.group(1) + "." + extension);
+                return Files.exists(target);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 원본을 한 번 디코딩하여 없는 variant만 생성 (이미 있는 파일은 그대로 둠)
+     * 실패해도 원본 이미지는 그대로 사용할 수 있으므로 로그만 남김
+     */
+    void generate(String url) {
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Path source = root.resolve(url.substring(url.indexOf(UploadBlobJdbcRepository.BLOB_URL_PREFIX) + "/uploads/".length()))
+                .normalize();
+        if (!source.startsWith(root) || !Files.exists(source)) {
+            log.debug("Image variant source not found: {}", source);
+            return;
+        }
+
+        Map<Integer, Path> missing = new LinkedHashMap<>();
+        variantUrls(url).forEach((width, variantUrl) -> {
+            Path target = source.resolveSibling(variantUrl.substring(variantUrl.lastIndexOf('/') + 1));
+            if (!Files.exists(target)) {
+                missing.put(width, target);
+            }
+        });
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        try {
+            int maxWidth = Collections.max(missing.keySet());
+            BufferedImage image = read(source, maxWidth);
+            if (image == null) {
+                return;
+            }
+            long start = System.nanoTime();
+            for (Map.Entry<Integer, Path> entry : missing.entrySet()) {
+                writeJpeg(resize(image, entry.getKey()), root, entry.getValue());
+            }
+            log.debug("Generated {} image variants for {} in {} ms",
+                    missing.size(), source.getFileName(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to generate image variants for {}: {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * 원본 디코딩 (첫 프레임)
+     * 가장 큰 variant의 2배보다 훨씬 큰 이미지는 읽으면서 서브샘플링하여 메모리 사용을 줄임
+     */
+    private BufferedImage read(Path source, int maxWidth) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                log.warn("No image reader for {}", source.getFileName());
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    log.warn("Image {} is too large for variants ({}x{})", source.getFileName(), width, height);
+                    return null;
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, width / (maxWidth * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 목표 너비로 축소 (확대하지 않음)
+     * 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 나누어 줄이고, JPEG에는 알파가 없으므로 흰 배경에 합성
+     */
+    static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int width = Math.min(targetWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            int nextWidth = Math.max(width, currentWidth / 2);
+            int nextHeight = nextWidth == width ? height : Math.max(height, currentHeight / 2);
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = next.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, nextWidth, nextHeight, Color.WHITE, null);
+            } finally {
+                g.dispose();
+            }
+            current = next;
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth > width);
+        return current;
+    }
+
+    // 임시 파일에 기록한 뒤 원자적 이동 (기록 중인 파일이 정적 리소스로 노출되지 않도록)
+    private void writeJpeg(BufferedImage image, Path root, Path target) throws IOException {
+        Path tempDir = root.resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "variant-", ".part");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try {
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(out);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(JPEG_QUALITY);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -3,11 +3,13 @@ package com.github.service;
 import com.github.entity.PostEntity;
 import com.github.repository.PostJdbcRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
@@ -17,18 +19,17 @@ public class NotificationService {
     // 위험보고 목록 조회 (Post 목록 직접 반환)
     @Transactional(readOnly = true)
     public List<PostEntity> getRecentRiskReports(int page, int size) {
-        System.out.println("=== NotificationService.getRecentRiskReports() 시작 ===");
-        System.out.println("Page: " + page + ", Size: " + size);
-        System.out.println("PostRepository: " + postRepository);
+        log.debug("=== NotificationService.getRecentRiskReports() 시작 ===");
+        log.debug("Page: {}, Size: {}", page, size);
+        log.debug("PostRepository: {}", postRepository);
 
         try {
             List<PostEntity> posts = postRepository.findAll(page, size);
-            System.out.println("Found " + posts.size() + " recent risk reports");
-            System.out.println("=== NotificationService.getRecentRiskReports() 완료 ===");
+            log.debug("Found {} recent risk reports", posts.size());
+            log.debug("=== NotificationService.getRecentRiskReports() 완료 ===");
             return posts; // PostEntity 직접 반환
         } catch (Exception e) {
-            System.out.println("Error in NotificationService: " + e.getMessage());
-            e.printStackTrace();
+            log.error("Error in NotificationService: {}", e.getMessage(), e);
             return List.of();
         }
     }
@@ -0,0 +1,124 @@
+package com.github.service;
+
+import com.github.entity.PostEntity;
+import com.github.repository.PostJdbcRepository;
+import com.github.search.PostSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 게시글 검색 색인 관리
+ * - 기동 시 post 테이블을 post_id 구간으로 나누어 여러 스레드에서 읽고 토큰화하여 색인을 채움
+ * - 이후에는 PostService/AreaService/AdminService의 생성/수정/삭제 시점에 커밋 후 반영
+ * 색인은 인스턴스마다 메모리에 있으므로 다른 인스턴스의 변경은 재기동 전까지 반영되지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private final PostJdbcRepository postRepository;
+    private final PostSearchIndex index = new PostSearchIndex();
+
+    @Value("${search.index.load-threads:4}")
+    private int loadThreads;
+
+    @Value("${search.index.load-chunk-size:5000}")
+    private int loadChunkSize;
+
+    /**
+     * 기동 시 색인 일괄 적재 (DatabaseMigration 이후 실행)
+     * 적재 중 들어온 생성/수정/삭제는 색인에 바로 반영되고, 적재 스레드가 먼저 읽은 예전 행이 덮어쓰지 않음
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long start = System.currentTimeMillis();
+        index.beginBulkLoad();
+        try (ExecutorService loaders = Executors.newFixedThreadPool(Math.max(1, loadThreads),
+                Thread.ofPlatform().name("search-index-", 1).factory())) {
+            long[] range = postRepository.findPostIdRange();
+            if (range == null) {
+                log.info("검색 색인 적재 생략: 게시글 없음");
+                return;
+            }
+
+            List<Future<Integer>> chunks = new ArrayList<>();
+            for (long chunkStart = range[0]; chunkStart <= range[1]; chunkStart += loadChunkSize) {
+                long from = chunkStart;
+                long to = Math.min(chunkStart + loadChunkSize - 1, range[1]);
+                chunks.add(loaders.submit(() -> index.putAllIfAbsent(postRepository.findForSearchIndex(from, to))));
+            }
+
+            int loaded = 0;
+            for (Future<Integer> chunk : chunks) {
+                try {
+                    loaded += chunk.get();
+                } catch (ExecutionException e) {
+                    log.warn("검색 색인 구간 적재 실패: {}", e.getCause().getMessage());
+                }
+            }
+            log.info("검색 색인 적재 완료: posts={}, terms={}, chunks={}, elapsed={}ms",
+                    loaded, index.termCount(), chunks.size(), System.currentTimeMillis() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("검색 색인 적재 중단");
+        } catch (Exception e) {
+            log.warn("검색 색인 적재 실패: {}", e.getMessage());
+        } finally {
+            index.endBulkLoad();
+        }
+    }
+
+    /** 검색어 + 필터로 게시글 ID 조회 (최신순) */
+    public PostSearchIndex.Result search(String query, PostSearchIndex.Filter filter, int offset, int limit) {
+        return index.search(query, filter, offset, limit);
+    }
+
+    /** 게시글 색인 추가/교체 (트랜잭션 안이면 커밋 후) */
+    public void indexAfterCommit(PostEntity post) {
+        if (post == null) {
+            return;
+        }
+        afterCommit(() -> index.put(post));
+    }
+
+    public void removeAfterCommit(Long postId) {
+        afterCommit(() -> index.remove(postId));
+    }
+
+    /** 관리구역 삭제로 함께 삭제된 게시글 제거 */
+    public void removeAreaAfterCommit(Long areaId) {
+        afterCommit(() -> index.removeByArea(areaId));
+    }
+
+    /** 사용자 삭제로 함께 삭제된 게시글 제거 */
+    public void removeReporterAfterCommit(Long reporterId) {
+        afterCommit(() -> index.removeByReporter(reporterId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
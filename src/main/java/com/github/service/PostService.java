@@ -1,28 +1,46 @@
 package com.github.service;
 
+import com.github.cache.BoundedCache;
 import com.github.dto.PostCreateRequest;
+import com.github.dto.AdminPostBulkUpdateRequest;
+import com.github.dto.AdminPostBulkUpdateResponse;
 import com.github.dto.AdminPostUpdateRequest;
+import com.github.dto.PostPageResponse;
 import com.github.dto.PostResponse;
 import com.github.entity.PostEntity;
+import com.github.entity.PostPhotoEntity;
+import com.github.entity.UserEntity;
+import com.github.exception.InvalidUploadException;
 import com.github.exception.PostNotFoundException;
-import com.github.jwt.JwtTokenProvider;
+import com.github.jwt.JwtPrincipal;
+import com.github.metrics.StageLatencyStats;
+import com.github.repository.PostCounterJdbcRepository;
+import com.github.repository.PostDailyStatsJdbcRepository;
 import com.github.repository.PostJdbcRepository;
+import com.github.repository.UserJdbcRepository;
+import com.github.search.PostSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
-import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.sql.Timestamp;
 import com.github.constants.ErrorMessages;
@@ -35,131 +53,239 @@ import com.github.constants.FileConstants;
 public class PostService {
 
     private final PostJdbcRepository postRepository;
-    private final JwtTokenProvider jwtTokenProvider;
-
-    @Value("${file.upload-dir:./uploads}")
-    private String fileUploadDirectory;
+    private final PostDailyStatsJdbcRepository postDailyStatsRepository;
+    private final PostCounterJdbcRepository postCounterRepository;
+    private final UserJdbcRepository userRepository;
+    private final BoundedCache<Long, PostEntity> postDetailCache;
+    private final PostSearchService postSearchService;
+    private final UploadStorageService uploadStorageService;
+    private final ImageVariantService imageVariantService;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${api.base-url}")
     private String apiBaseUrl;
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
-        @Transactional
-        public PostEntity create(PostCreateRequest req, MultipartFile image) {
-            try {
-                System.out.println("=== PostService Create Debug ===");
-                System.out.println("Request: " + req);
-                System.out.println("Reporter Risk Score: " + req.getReporterRisk());
-                System.out.println("Image: " + (image != null ? image.getOriginalFilename() : "null"));
-                
-                LocalDateTime now = LocalDateTime.now();
-
-                PostEntity e = PostEntity.builder()
-                        .subAreaId(req.getSubAreaId())
-                        .areaId(req.getAreaId())           // areaId 추가
-                        .reporterId(req.getUserId())       // 나중에 리팩토링 필요할수도
-                        .title(req.getTitle())
-                        .content(req.getContent())
-                        .reporterRisk(req.getReporterRisk())
-                        .isChecked(0)      // 0: 미확인 (초기값)
-                        .isActionTaked(0)  // 0: 미조치 (초기값)
-                        .createdAt(now)   // 생성 시 현재 시간 설정
-                        .updatedAt(null)  // 생성 시 null로 설정
-                        .checkedAt(now)   // checked_at 필드 설정
-                        .build();
-
-                System.out.println("PostEntity built: " + e);
-                
-                System.out.println("=== PostRepository.insert 호출 전 ===");
-                PostEntity savedPost = postRepository.insert(e);
-                System.out.println("=== PostRepository.insert 호출 후 ===");
-                System.out.println("PostEntity saved: " + savedPost);
-                System.out.println("Saved post ID: " + savedPost.getPostId());
-                
-                // 이미지가 있으면 저장하고 post_photo_url 업데이트
-                if (image != null && !image.isEmpty()) {
-                    String imageUrl = savePostImage(req.getUserId(), image);
-                    if (imageUrl != null) {
-                        // post_photos 테이블에 저장
-                        postRepository.insertPostPhoto(savedPost.getPostId(), imageUrl, 0);
-                        
-                        // post 테이블의 post_photo_url 필드도 업데이트
-                        Map<String, Object> updates = new HashMap<>();
-                        updates.put("post_photo_url", imageUrl);
-                        System.out.println("Updating post_photo_url to: " + imageUrl);
-                        postRepository.update(savedPost.getPostId(), updates);
-                        System.out.println("Post updated successfully");
-                    }
-                }
-                
-                // 업데이트된 최신 데이터를 다시 조회 (area_id 포함)
-                PostEntity finalPost = postRepository.findById(savedPost.getPostId());
-                if (finalPost != null) {
-                    System.out.println("Final post postPhotoUrl: " + finalPost.getPostPhotoUrl());
-                    System.out.println("Final post areaId: " + finalPost.getAreaId());
-                }
-                
-                // 알림 생성 로직 제거 - 실제로는 위험보고 목록 조회만 필요
-                // Post 생성 완료 후 별도 알림 생성 불필요
-                
-                return finalPost != null ? finalPost : savedPost; // 최신 데이터 반환 (area_id 포함)
-            } catch (Exception ex) {
-                System.out.println("Error in PostService.create: " + ex.getMessage());
-                ex.printStackTrace();
-                throw ex;
-            }
+    // 전체 게시글 수 캐시: 생성/삭제 시 증감하고, 다른 경로(구역/사용자 계단식 삭제 등)의 변경은 TTL 주기로 DB와 재동기화
+    private static final long TOTAL_COUNT_TTL_MILLIS = 60_000;
+    private final AtomicLong totalPostCount = new AtomicLong(-1);
+    private volatile long totalPostCountLoadedAt = 0;
+
+    // 일별 집계(post_daily_stats)의 키를 결정하는 컬럼, 이 컬럼이 바뀌는 수정만 집계에 재반영
+    private static final Set<String> DAILY_STATS_COLUMNS = Set.of("sub_area_id", "reporter_risk", "is_action_taken", "created_at");
+    // 게시글 수 카운터(post_counter)의 키/값을 결정하는 컬럼, 이 컬럼이 바뀌는 수정만 카운터에 재반영
+    private static final Set<String> COUNTER_COLUMNS = Set.of("sub_area_id", "area_id", "is_checked", "is_action_taken");
+    // 검색 색인에 들어가는 컬럼, 이 컬럼이 바뀌는 수정만 색인을 교체
+    private static final Set<String> SEARCH_COLUMNS = Set.of("title", "content", "sub_area_id", "area_id");
+    private static final int MAX_SEARCH_QUERY_LENGTH = 100;
+
+    // 게시글 생성 단계별 지연 시간
+    private static final String STAGE_STORE = "store";
+    private static final String STAGE_INSERT = "insert";
+    private static final String STAGE_TOTAL = "total";
+    private final StageLatencyStats creationStats = new StageLatencyStats("postCreation",
+            STAGE_STORE, STAGE_INSERT, STAGE_TOTAL);
+
+
+    /**
+     * 게시글 생성 (사진 여러 장 가능, 첫 번째 사진이 post_photo_url)
+     * 1) store: 사진 저장 (트랜잭션 밖, DB 커넥션을 잡지 않은 상태에서 디스크 기록)
+     * 2) insert: 게시글 + post_photos 배치 + 게시글 수 카운터 + 일별 집계를 짧은 트랜잭션으로 저장 (실패 시 1에서 늘린 참조 반환)
+     *    (일별 집계는 현재 post 행을 읽어 ±1 하므로, 커밋 뒤로 미루면 그 사이의 수정/삭제와 순서가 뒤바뀌어 이중 반영됨)
+     * 3) 커밋 후: 축소 이미지 생성을 imageVariantExecutor에 예약하고, 다시 조회한 게시글을 검색 색인에 반영
+     * 단계별 지연 시간은 GET /debug/stages 에서 확인
+     */
+    public PostEntity create(PostCreateRequest req, List<MultipartFile> images) {
+        long startedAt = System.nanoTime();
+        List<MultipartFile> photos = images == null ? List.of()
+                : images.stream().filter(image -> image != null && !image.isEmpty()).toList();
+        if (photos.size() > PostConstants.MAX_PHOTOS_PER_POST) {
+            throw new InvalidUploadException(HttpStatus.BAD_REQUEST,
+                    "사진은 최대 " + PostConstants.MAX_PHOTOS_PER_POST + "장까지 첨부할 수 있습니다.");
+        }
+
+        // 1) 사진 저장
+        long storeStartedAt = System.nanoTime();
+        List<String> imageUrls;
+        try {
+            imageUrls = photos.isEmpty() ? List.of() : savePostImages(photos);
+        } catch (RuntimeException e) {
+            creationStats.failed(STAGE_STORE);
+            throw e;
+        }
+        creationStats.recordSince(STAGE_STORE, storeStartedAt);
+
+        // 2) 게시글 저장 (짧은 트랜잭션)
+        long insertStartedAt = System.nanoTime();
+        PostEntity savedPost;
+        try {
+            savedPost = transactionTemplate.execute(status -> insertPost(req, imageUrls));
+        } catch (RuntimeException e) {
+            creationStats.failed(STAGE_INSERT);
+            uploadStorageService.release(imageUrls);
+            throw e;
+        }
+        creationStats.recordSince(STAGE_INSERT, insertStartedAt);
+        adjustTotalPostCount(1);
+
+        // 3) 커밋 후 작업: 축소 이미지는 imageVariantExecutor에 넣기만 하므로 요청 스레드를 막지 않음
+        Long postId = savedPost.getPostId();
+        imageUrls.stream().distinct().forEach(imageVariantService::generateAfterCommit);
+
+        // 최신 데이터를 다시 조회 (area_id, 작성자 정보, 사진 목록 포함)
+        PostEntity finalPost = postRepository.findById(postId);
+        if (finalPost != null) {
+            attachPhotos(List.of(finalPost));
+        }
+        postSearchService.indexAfterCommit(finalPost != null ? finalPost : savedPost);
+        creationStats.recordSince(STAGE_TOTAL, startedAt);
+        return finalPost != null ? finalPost : savedPost;
+    }
+
+    private PostEntity insertPost(PostCreateRequest req, List<String> imageUrls) {
+        LocalDateTime now = LocalDateTime.now();
+        PostEntity e = PostEntity.builder()
+                .subAreaId(req.getSubAreaId())
+                .areaId(req.getAreaId())
+                .reporterId(req.getUserId())       // 나중에 리팩토링 필요할수도
+                .title(req.getTitle())
+                .content(req.getContent())
+                .reporterRisk(req.getReporterRisk())
+                .postPhotoUrl(imageUrls.isEmpty() ? null : imageUrls.get(0))  // 대표(첫 번째) 사진
+                .isChecked(0)      // 0: 미확인 (초기값)
+                .isActionTaked(0)  // 0: 미조치 (초기값)
+                .createdAt(now)
+                .updatedAt(null)
+                .checkedAt(now)
+                .build();
+
+        PostEntity savedPost = postRepository.insert(e);
+        postRepository.insertPostPhotos(savedPost.getPostId(), imageUrls);
+        postCounterRepository.applyPost(savedPost.getPostId(), 1);
+        postDailyStatsRepository.applyPost(savedPost.getPostId(), 1);
+        log.debug("Post {} inserted with {} photos", savedPost.getPostId(), imageUrls.size());
+        return savedPost;
+    }
+
+    public StageLatencyStats getCreationStats() {
+        return creationStats;
     }
 
     @Transactional
     public List<PostEntity> getAllPosts(int page, int size) {
         List<PostEntity> posts = postRepository.findAll(page, size);
+        attachPhotos(posts);
         // 각 게시글의 이미지 URL을 완전한 URL로 변환
-        posts.forEach(post -> {
-            if (post.getPostPhotoUrl() != null) {
-                post.setPostPhotoUrl(convertToFullUrl(post.getPostPhotoUrl()));
-            }
-        });
+        posts.forEach(this::applyPhotoUrls);
         return posts;
     }
 
     @Transactional
     public PostEntity getPostById(Long postId) {
-        PostEntity post = postRepository.findById(postId);
-        if (post == null) {
+        // 캐시된 엔티티는 공유되므로 복사본을 수정/반환
+        PostEntity cached = postDetailCache.get(postId, this::loadPostDetail);
+        if (cached == null) {
             throw new PostNotFoundException(ErrorMessages.POST_NOT_FOUND);
         }
-        // 이미지 URL을 완전한 URL로 변환
-        if (post.getPostPhotoUrl() != null) {
-            post.setPostPhotoUrl(convertToFullUrl(post.getPostPhotoUrl()));
-        }
+        PostEntity post = cached.toBuilder().build();
+        applyPhotoUrls(post);
         return post;
     }
 
     @Transactional
     public List<PostEntity> getPostsBySubArea(Long subAreaId, int page, int size) {
-        System.out.println("=== 지역별 게시글 조회 진행 ===");
-        System.out.println("SubAreaId: " + subAreaId + ", Page: " + page + ", Size: " + size);
+        log.debug("=== 지역별 게시글 조회 진행 ===");
+        log.debug("SubAreaId: {}, Page: {}, Size: {}", subAreaId, page, size);
         
         List<PostEntity> posts = postRepository.findBySubArea(subAreaId, page, size);
+        attachPhotos(posts);
         
         // 각 게시글의 이미지 URL을 완전한 URL로 변환
-        posts.forEach(post -> {
-            if (post.getPostPhotoUrl() != null) {
-                post.setPostPhotoUrl(convertToFullUrl(post.getPostPhotoUrl()));
-            }
-        });
+        posts.forEach(this::applyPhotoUrls);
         
-        System.out.println("Found " + posts.size() + " posts for subAreaId: " + subAreaId);
-        System.out.println("=== 지역별 게시글 조회 완료 ===");
+        log.debug("Found {} posts for subAreaId: {}", posts.size(), subAreaId);
+        log.debug("=== 지역별 게시글 조회 완료 ===");
         return posts;
     }
 
+    /**
+     * 커서 기반 게시글 조회 (subAreaId가 있으면 소구역별)
+     * cursor가 비어 있으면 첫 페이지를 조회하고, 응답의 nextCursor로 다음 페이지를 요청
+     */
+    @Transactional(readOnly = true)
+    public PostPageResponse getPostsByCursor(Long subAreaId, String cursor, int size) {
+        return getPostsByCursor(subAreaId, cursor, size, null, null);
+    }
+
+    /**
+     * 확인/조치 여부(0/1)로 거른 커서 기반 게시글 조회 (null이면 해당 조건 없음)
+     */
+    @Transactional(readOnly = true)
+    public PostPageResponse getPostsByCursor(Long subAreaId, String cursor, int size, Integer checked, Integer actionTaken) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        PostCursor decoded = decodeCursor(cursor);
+        LocalDateTime cursorCreatedAt = decoded != null ? decoded.createdAt() : null;
+        Long cursorPostId = decoded != null ? decoded.postId() : null;
+
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        List<PostEntity> posts = subAreaId != null
+                ? postRepository.findBySubAreaByCursor(subAreaId, cursorCreatedAt, cursorPostId, pageSize + 1, checked, actionTaken)
+                : postRepository.findAllByCursor(cursorCreatedAt, cursorPostId, pageSize + 1, checked, actionTaken);
+
+        boolean hasNext = posts.size() > pageSize;
+        if (hasNext) {
+            posts = posts.subList(0, pageSize);
+        }
+        String nextCursor = hasNext ? encodeCursor(posts.get(posts.size() - 1)) : null;
+
+        attachPhotos(posts);
+        posts.forEach(this::applyPhotoUrls);
+
+        return PostPageResponse.builder()
+                .posts(posts)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 제목/본문 검색 (인메모리 역색인으로 게시글 ID를 찾은 뒤 해당 페이지만 DB에서 조회)
+     * 관리구역/소구역/작성일 기간 필터는 색인의 postings 교집합에 포함되어 함께 처리됨
+     * 결과는 최신 게시글 순, totalCount는 조건에 맞는 전체 건수
+     */
+    @Transactional(readOnly = true)
+    public PostPageResponse searchPosts(String query, Long areaId, Long subAreaId, LocalDate from, LocalDate to,
+                                        int page, int size) {
+        if (query == null || query.isBlank() || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "검색어는 1~" + MAX_SEARCH_QUERY_LENGTH + "자로 입력해 주세요.");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "검색 시작일이 종료일보다 늦습니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        int offset = Math.max(0, page) * pageSize;
+
+        PostSearchIndex.Result result = postSearchService.search(query,
+                new PostSearchIndex.Filter(areaId, subAreaId, from, to), offset, pageSize);
+        List<PostEntity> posts = postRepository.findByIds(result.postIds());
+        attachPhotos(posts);
+        posts.forEach(this::applyPhotoUrls);
+
+        return PostPageResponse.builder()
+                .posts(posts)
+                .hasNext(offset + pageSize < result.totalCount())
+                .totalCount((long) result.totalCount())
+                .build();
+    }
+
     public int countPostsBySubArea(Long subAreaId) {
-        return postRepository.countBySubArea(subAreaId);
+        return (int) postCounterRepository.findBySubArea(subAreaId).postCount();
     }
 
     public int countActionTakenPostsBySubArea(Long subAreaId) {
-        return postRepository.countActionTakenBySubArea(subAreaId);
+        return (int) postCounterRepository.findBySubArea(subAreaId).actionCount();
     }
 
     @Transactional
@@ -274,7 +400,25 @@ public class PostService {
         log.info("=== 최종 convertedUpdates ===");
         log.info("convertedUpdates: {}", convertedUpdates);
         
+        boolean statsAffected = affectsDailyStats(convertedUpdates);
+        boolean countersAffected = affectsCounters(convertedUpdates);
+        if (statsAffected) {
+            postDailyStatsRepository.applyPost(postId, -1);
+        }
+        if (countersAffected) {
+            postCounterRepository.applyPost(postId, -1);
+        }
         PostEntity result = postRepository.update(postId, convertedUpdates);
+        if (statsAffected) {
+            postDailyStatsRepository.applyPost(postId, 1);
+        }
+        if (countersAffected) {
+            postCounterRepository.applyPost(postId, 1);
+        }
+        postDetailCache.evict(postId);
+        if (convertedUpdates.keySet().stream().anyMatch(SEARCH_COLUMNS::contains)) {
+            postSearchService.indexAfterCommit(result);
+        }
         log.info("=== updatePost 완료 ===");
         return result;
     }
@@ -295,7 +439,15 @@ public class PostService {
             throw new RuntimeException(ErrorMessages.INSUFFICIENT_PERMISSION);
         }
         
-        postRepository.delete(postId);
+        postDailyStatsRepository.applyPost(postId, -1);
+        postCounterRepository.applyPost(postId, -1);
+        if (postRepository.delete(postId) == 0) {
+            // 예외로 트랜잭션이 롤백되므로 위에서 뺀 집계도 함께 취소됨
+            throw new PostNotFoundException(ErrorMessages.POST_NOT_FOUND);
+        }
+        postDetailCache.evict(postId);
+        postSearchService.removeAfterCommit(postId);
+        adjustTotalPostCount(-1);
     }
 
     @Transactional
@@ -306,35 +458,124 @@ public class PostService {
         }
         
         // 관리자는 권한 확인 없이 삭제 가능
-        postRepository.delete(postId);
+        postDailyStatsRepository.applyPost(postId, -1);
+        postCounterRepository.applyPost(postId, -1);
+        if (postRepository.delete(postId) == 0) {
+            // 예외로 트랜잭션이 롤백되므로 위에서 뺀 집계도 함께 취소됨
+            throw new PostNotFoundException(ErrorMessages.POST_NOT_FOUND);
+        }
+        postDetailCache.evict(postId);
+        postSearchService.removeAfterCommit(postId);
+        adjustTotalPostCount(-1);
     }
 
-    private String savePostImage(Long userId, MultipartFile file) {
-        try {
-            // 업로드 디렉토리 생성
-            Path uploadPath = Paths.get(fileUploadDirectory);
-            if (!Files.exists(uploadPath)) {
-                Files.createDirectories(uploadPath);
+    /**
+     * 전체 게시글 수 (캐시, 페이지 계산용)
+     * 피드 조회마다 DB를 조회하지 않도록 TTL 동안 캐시된 값을 반환 (원본은 post_counter의 전체 카운터)
+     */
+    public long getTotalPostCount() {
+        long now = System.currentTimeMillis();
+        if (totalPostCount.get() < 0 || now - totalPostCountLoadedAt > TOTAL_COUNT_TTL_MILLIS) {
+            try {
+                totalPostCount.set(postCounterRepository.countAll());
+                totalPostCountLoadedAt = now;
+            } catch (DataAccessException e) {
+                log.warn("Failed to load total post count: {}", e.getMessage());
             }
+        }
+        return Math.max(totalPostCount.get(), 0);
+    }
 
-            // 파일명 생성 (고유한 이름)
-            String originalFilename = file.getOriginalFilename();
-            String extension = "";
-            if (originalFilename != null && originalFilename.contains(".")) {
-                extension = originalFilename.substring(originalFilename.lastIndexOf("."));
-            }
-            String filename = "post_" + userId + "_" + UUID.randomUUID().toString() + extension;
+    private boolean affectsDailyStats(Map<String, Object> updates) {
+        return updates.keySet().stream().anyMatch(DAILY_STATS_COLUMNS::contains);
+    }
 
-            // 파일 저장
-            Path filePath = uploadPath.resolve(filename);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+    private boolean affectsCounters(Map<String, Object> updates) {
+        return updates.keySet().stream().anyMatch(COUNTER_COLUMNS::contains);
+    }
 
-            // 상대 경로로 반환 (프론트엔드에서 동적 URL 변환)
-            return "/uploads/" + filename;
+    private void adjustTotalPostCount(long delta) {
+        // 아직 로드되지 않은 경우(-1)는 다음 조회 시 DB에서 읽어옴
+        totalPostCount.getAndUpdate(current -> current < 0 ? current : Math.max(current + delta, 0));
+    }
+
+    private List<String> savePostImages(List<MultipartFile> files) {
+        try {
+            return uploadStorageService.storeAll(files).stream()
+                    .map(UploadStorageService.StoredFile::url)
+                    .toList();
         } catch (IOException e) {
-            System.out.println("Failed to save post image: " + e.getMessage());
+            // 사진 없이 게시글이 만들어지지 않도록 요청 자체를 실패시킴 (늘린 참조는 storeAll에서 반환)
+            log.warn("Failed to save post images: {}", e.getMessage());
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, ErrorMessages.FILE_UPLOAD_FAILED, e);
+        }
+    }
+
+    // 상세 캐시에 적재할 게시글 (사진 목록 포함)
+    private PostEntity loadPostDetail(Long postId) {
+        PostEntity post = postRepository.findById(postId);
+        if (post != null) {
+            attachPhotos(List.of(post));
+        }
+        return post;
+    }
+
+    /**
+     * 게시글 목록의 사진을 한 번의 IN 조회로 채움 (게시글마다 조회하지 않음)
+     */
+    private void attachPhotos(List<PostEntity> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        Map<Long, List<PostPhotoEntity>> photos = postRepository.findPhotosByPostIds(
+                posts.stream().map(PostEntity::getPostId).toList());
+        posts.forEach(post -> post.setPhotos(photos.getOrDefault(post.getPostId(), List.of())));
+    }
+
+    // 커서는 "createdAt(epoch millis):postId"를 URL-safe Base64로 인코딩한 불투명 문자열
+    private record PostCursor(LocalDateTime createdAt, Long postId) {}
+
+    private String encodeCursor(PostEntity last) {
+        long createdAtMillis = Timestamp.valueOf(last.getCreatedAt()).getTime();
+        String raw = createdAtMillis + ":" + last.getPostId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private PostCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
             return null;
         }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(ErrorMessages.INVALID_CURSOR);
+            }
+            LocalDateTime createdAt = new Timestamp(Long.parseLong(parts[0])).toLocalDateTime();
+            return new PostCursor(createdAt, Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException e) {
+            // Base64 디코딩/숫자 변환 실패 포함
+            throw new IllegalArgumentException(ErrorMessages.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 이미지 URL을 완전한 URL로 변환하고 너비별 축소 이미지 URL 설정
+     */
+    private void applyPhotoUrls(PostEntity post) {
+        if (post.getPostPhotoUrl() != null) {
+            post.setPostPhotoUrl(convertToFullUrl(post.getPostPhotoUrl()));
+            post.setPostPhotoVariants(ImageVariantService.variantUrls(post.getPostPhotoUrl()));
+        }
+        if (post.getPhotos() != null) {
+            // 캐시된 엔티티와 목록을 공유하지 않도록 새 목록으로 교체
+            List<PostPhotoEntity> photos = new ArrayList<>(post.getPhotos().size());
+            for (PostPhotoEntity photo : post.getPhotos()) {
+                String url = convertToFullUrl(photo.getUrl());
+                photos.add(photo.toBuilder().url(url).variants(ImageVariantService.variantUrls(url)).build());
+            }
+            post.setPhotos(photos);
+        }
     }
 
     /**
@@ -405,36 +646,151 @@ public class PostService {
 
     /**
      * 관리자용 게시글 수정 (관리자 권한 필요)
+     * - 존재 확인과 수정을 버전 확인 UPDATE 한 번으로 처리 (요청에 version이 있으면 낙관적 잠금, 충돌 시 409)
+     * - 캐시된 상세가 요청 버전과 같으면 수정 전 상태를 정확히 알 수 있으므로,
+     *   카운터는 변화량만 한 번에 반영하고 응답도 캐시 복사본에 변경 내용을 적용해 만듦 (JOIN 재조회 없음)
+     * - 그 외에는 이전처럼 수정 전/후로 집계를 재반영하고 수정 후 한 번 조회
      */
     @Transactional
-    public PostEntity updatePostByAdmin(Long postId, AdminPostUpdateRequest request, String currentUserToken) {
-        // 현재 사용자 권한 확인
-        String currentUserRole = jwtTokenProvider.getRole(currentUserToken);
-        if (!"ROLE_ADMIN".equals(currentUserRole)) {
+    public PostEntity updatePostByAdmin(Long postId, AdminPostUpdateRequest request, JwtPrincipal currentUser) {
+        // 현재 사용자 권한 확인 (JwtAuthFilter에서 검증된 사용자 정보)
+        if (!currentUser.isAdmin()) {
             throw new RuntimeException(ErrorMessages.ADMIN_PERMISSION_REQUIRED);
         }
         
-        // 게시글 존재 여부 확인
-        PostEntity existingPost = postRepository.findById(postId);
-        if (existingPost == null) {
-            throw new PostNotFoundException(ErrorMessages.POST_NOT_FOUND);
-        }
-        
         // 현재 사용자 ID 가져오기
-        Long currentUserId = jwtTokenProvider.getUserId(currentUserToken);
+        Long currentUserId = currentUser.userId();
+        LocalDateTime now = LocalDateTime.now();
         
         // 업데이트할 데이터 구성
+        Map<String, Object> updates = adminUpdates(request.getIsChecked(), request.getCheckerId(),
+                request.getIsActionTaked(), request.getActionTakerId(), request.getManagerRisk(), currentUserId, now);
+        
+        // 수정 전 상태: 캐시된 상세의 버전이 요청 버전과 같고 아래 UPDATE가 성공하면 그 사이 변경이 없었음이 보장됨
+        Integer expectedVersion = request.getVersion();
+        PostEntity before = expectedVersion != null ? postDetailCache.getIfPresent(postId) : null;
+        boolean knownBefore = before != null && expectedVersion.equals(before.getVersion());
+        int checkedDelta = knownBefore && request.getIsChecked() != null
+                ? PostJdbcRepository.statusFlag(request.getIsChecked()) - flag(before.getIsChecked()) : 0;
+        int actionDelta = knownBefore && request.getIsActionTaked() != null
+                ? PostJdbcRepository.statusFlag(request.getIsActionTaked()) - flag(before.getIsActionTaked()) : 0;
+
+        // 일별 집계는 조치 여부가 실제로 바뀔 때만, 카운터는 수정 전 상태를 모를 때만 변경 전/후로 재반영
+        boolean statsAffected = knownBefore ? actionDelta != 0 : affectsDailyStats(updates);
+        boolean countersAffected = !knownBefore && affectsCounters(updates);
+        if (statsAffected) {
+            postDailyStatsRepository.applyPost(postId, -1);
+        }
+        if (countersAffected) {
+            postCounterRepository.applyPost(postId, -1);
+        }
+        if (postRepository.updateIfVersion(postId, updates, expectedVersion) == 0) {
+            // 예외로 트랜잭션이 롤백되므로 위에서 뺀 집계도 함께 취소됨
+            if (postRepository.findVersion(postId) == null) {
+                throw new PostNotFoundException(ErrorMessages.POST_NOT_FOUND);
+            }
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "다른 사용자가 먼저 수정한 게시글입니다. 새로고침 후 다시 시도해 주세요.");
+        }
+        if (statsAffected) {
+            postDailyStatsRepository.applyPost(postId, 1);
+        }
+        if (countersAffected) {
+            postCounterRepository.applyPost(postId, 1);
+        }
+        if (knownBefore) {
+            postCounterRepository.applyStatusChange(before.getSubAreaId(), before.getAreaId(), checkedDelta, actionDelta);
+        }
+        postDetailCache.evict(postId);
+        
+        log.debug("관리자용 게시글 수정 완료: postId={}, version={}", postId, expectedVersion);
+        // 캐시에 없던 게시글도 캐시 경로와 같은 형태(사진 목록 포함)로 반환
+        return knownBefore ? applyAdminUpdate(before, updates, now) : loadPostDetail(postId);
+    }
+
+    /**
+     * 관리자 일괄 처리 (여러 게시글에 같은 확인/조치 상태 또는 위험도 적용)
+     * - 전체를 한 트랜잭션에서 JDBC 배치 UPDATE 한 번으로 수정
+     * - 일별 집계/카운터는 대상 전체를 수정 전 -1, 수정 후 +1로 각각 한 번씩 반영
+     * - 상세 캐시 무효화도 대상 키를 모아 한 번에 처리 (Redis DEL/무효화 메시지 각 1회)
+     * - 없는 게시글은 실패로 중단하지 않고 결과에 NOT_FOUND로 표시
+     */
+    @Transactional
+    public AdminPostBulkUpdateResponse bulkUpdatePostsByAdmin(AdminPostBulkUpdateRequest request, JwtPrincipal currentUser) {
+        if (!currentUser.isAdmin()) {
+            throw new RuntimeException(ErrorMessages.ADMIN_PERMISSION_REQUIRED);
+        }
+        if (request.getIsChecked() == null && request.getIsActionTaked() == null && request.getManagerRisk() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "변경할 상태 또는 위험도가 없습니다.");
+        }
+        if (request.getManagerRisk() != null && PostJdbcRepository.riskLevel(request.getManagerRisk()) == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "관리자 위험도는 1~5 사이여야 합니다.");
+        }
+
+        List<Long> postIds = request.getPostIds().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (postIds.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "게시글 ID 목록은 필수입니다.");
+        }
+        Map<String, Object> updates = adminUpdates(request.getIsChecked(), request.getCheckerId(),
+                request.getIsActionTaked(), request.getActionTakerId(), request.getManagerRisk(),
+                currentUser.userId(), LocalDateTime.now());
+
+        boolean statsAffected = affectsDailyStats(updates);
+        boolean countersAffected = affectsCounters(updates);
+        if (statsAffected) {
+            postDailyStatsRepository.applyPosts(postIds, -1);
+        }
+        if (countersAffected) {
+            postCounterRepository.applyPosts(postIds, -1);
+        }
+        boolean[] updated = postRepository.batchUpdate(postIds, updates);
+        if (statsAffected) {
+            postDailyStatsRepository.applyPosts(postIds, 1);
+        }
+        if (countersAffected) {
+            postCounterRepository.applyPosts(postIds, 1);
+        }
+        postDetailCache.evictAll(postIds);
+
+        List<AdminPostBulkUpdateResponse.ItemResult> results = new ArrayList<>(postIds.size());
+        int updatedCount = 0;
+        for (int i = 0; i < postIds.size(); i++) {
+            if (updated[i]) {
+                updatedCount++;
+            }
+            results.add(new AdminPostBulkUpdateResponse.ItemResult(postIds.get(i),
+                    updated[i] ? AdminPostBulkUpdateResponse.UPDATED : AdminPostBulkUpdateResponse.NOT_FOUND));
+        }
+
+        log.debug("관리자 일괄 처리 완료: requested={}, updated={}", postIds.size(), updatedCount);
+        return AdminPostBulkUpdateResponse.builder()
+                .requestedCount(postIds.size())
+                .updatedCount(updatedCount)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 관리자 확인/조치/위험도 변경 요청을 post 컬럼 수정 내용으로 변환 (단건/일괄 수정 공통)
+     * 확인/조치 완료 시 처리자가 없으면 현재 사용자, 처리 시각은 항상 서버 시간
+     */
+    private Map<String, Object> adminUpdates(Integer isChecked, Long checkerId, Integer isActionTaked,
+                                             Long actionTakerId, String managerRisk,
+                                             Long currentUserId, LocalDateTime now) {
         Map<String, Object> updates = new HashMap<>();
         
         // isChecked 처리
-        if (request.getIsChecked() != null) {
-            updates.put("is_checked", request.getIsChecked());
+        if (isChecked != null) {
+            updates.put("is_checked", isChecked);
             
-            if (request.getIsChecked() == 1) {
+            if (isChecked == 1) {
                 // 확인 완료 시 - 항상 현재 시간으로 업데이트
-                updates.put("checker_id", request.getCheckerId() != null ? request.getCheckerId() : currentUserId);
+                updates.put("checker_id", checkerId != null ? checkerId : currentUserId);
                 // 확인할 때마다 최신 시간으로 업데이트 (클라이언트에서 보낸 시간 무시)
-                updates.put("checked_at", Timestamp.valueOf(LocalDateTime.now()));
+                updates.put("checked_at", Timestamp.valueOf(now));
             } else {
                 // 미확인 시
                 updates.put("checker_id", null);
@@ -443,14 +799,14 @@ public class PostService {
         }
         
         // isActionTaked 처리
-        if (request.getIsActionTaked() != null) {
-            updates.put("is_action_taken", request.getIsActionTaked());
+        if (isActionTaked != null) {
+            updates.put("is_action_taken", isActionTaked);
             
-            if (request.getIsActionTaked() == 1) {
+            if (isActionTaked == 1) {
                 // 조치 완료 시 - 항상 현재 시간으로 업데이트
-                updates.put("action_taker_id", request.getActionTakerId() != null ? request.getActionTakerId() : currentUserId);
+                updates.put("action_taker_id", actionTakerId != null ? actionTakerId : currentUserId);
                 // 조치할 때마다 최신 시간으로 업데이트 (클라이언트에서 보낸 시간 무시)
-                updates.put("action_taken_at", Timestamp.valueOf(LocalDateTime.now()));
+                updates.put("action_taken_at", Timestamp.valueOf(now));
             } else {
                 // 미조치 시
                 updates.put("action_taker_id", null);
@@ -459,15 +815,61 @@ public class PostService {
         }
         
         // managerRisk 처리
-        if (request.getManagerRisk() != null) {
-            updates.put("manager_risk", request.getManagerRisk());
+        if (managerRisk != null) {
+            updates.put("manager_risk", managerRisk);
         }
-        
-        // 게시글 업데이트
-        PostEntity updatedPost = postRepository.update(postId, updates);
-        
-        System.out.println("관리자용 게시글 수정 완료: postId=" + postId);
-        return updatedPost;
+
+        return updates;
+    }
+
+    /**
+     * 수정 전 상세(캐시 복사본)에 관리자 수정 내용을 적용해 수정 후 상태를 만듦
+     * 확인자/조치자 이름과 부서/직책은 사용자 요약 캐시에서 채움
+     */
+    private PostEntity applyAdminUpdate(PostEntity before, Map<String, Object> updates, LocalDateTime now) {
+        PostEntity post = before.toBuilder()
+                .version(before.getVersion() + 1)
+                .updatedAt(now)
+                .build();
+        if (updates.containsKey("is_checked")) {
+            UserEntity checker = findUserSummary(updates.get("checker_id"));
+            post.setIsChecked(PostJdbcRepository.statusFlag(updates.get("is_checked")));
+            post.setCheckerId(updates.get("checker_id") instanceof Number id ? id.longValue() : null);
+            post.setCheckerName(checker != null ? checker.getName() : null);
+            post.setCheckerDepartment(checker != null ? parseId(checker.getDepartment()) : null);
+            post.setCheckerPosition(checker != null ? parseId(checker.getPosition()) : null);
+            post.setCheckedAt(updates.get("checked_at") != null ? now : null);
+        }
+        if (updates.containsKey("is_action_taken")) {
+            UserEntity actionTaker = findUserSummary(updates.get("action_taker_id"));
+            post.setIsActionTaked(PostJdbcRepository.statusFlag(updates.get("is_action_taken")));
+            post.setActionTakerId(updates.get("action_taker_id") instanceof Number id ? id.longValue() : null);
+            post.setActionTakerName(actionTaker != null ? actionTaker.getName() : null);
+            post.setActionTakerDepartment(actionTaker != null ? parseId(actionTaker.getDepartment()) : null);
+            post.setActionTakerPosition(actionTaker != null ? parseId(actionTaker.getPosition()) : null);
+            post.setActionTakenAt(updates.get("action_taken_at") != null ? now : null);
+        }
+        if (updates.containsKey("manager_risk")) {
+            post.setManagerRisk((String) updates.get("manager_risk"));
+            post.setManagerRiskScore(PostJdbcRepository.riskLevel(updates.get("manager_risk")));
+        }
+        return post;
+    }
+
+    private UserEntity findUserSummary(Object userId) {
+        return userId instanceof Number id ? userRepository.findCachedById(id.intValue()) : null;
+    }
+
+    private static Integer parseId(String value) {
+        try {
+            return value != null ? Integer.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int flag(Integer value) {
+        return value != null && value == 1 ? 1 : 0;
     }
 
     /**
@@ -478,6 +880,8 @@ public class PostService {
                 .postId(post.getPostId())
                 .title(post.getTitle())
                 .postPhotoUrl(post.getPostPhotoUrl())
+                .postPhotoVariants(post.getPostPhotoVariants())
+                .photos(post.getPhotos())
                 .content(post.getContent())
                 .areaId(post.getAreaId())
                 .subAreaId(post.getSubAreaId())
@@ -492,6 +896,8 @@ public class PostService {
                 .reporterRiskDescription(post.getReporterRiskDescription())
                 .reporterRisk(post.getReporterRisk())
                 .managerRisk(post.getManagerRisk())
+                .managerRiskScore(post.getManagerRiskScore())
+                .version(post.getVersion())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
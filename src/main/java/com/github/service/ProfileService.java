@@ -12,27 +12,23 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class ProfileService {
 
     private final UserJdbcRepository userJdbcRepository;
-
-    @Value("${file.upload-dir:./uploads}")
-    private String uploadDir;
+    private final UploadStorageService uploadStorageService;
+    private final ImageVariantService imageVariantService;
 
     @Value("${api.base-url}")
     private String baseUrl;
 
     public ProfileResponse getMyProfile(int userId) {
 
-        UserEntity u = userJdbcRepository.findById(userId); //userId로 엔티티 조회
+        UserEntity u = userJdbcRepository.findCachedById(userId); //userId로 엔티티 조회 (캐시 경유)
         if (u == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
@@ -45,11 +41,13 @@ public class ProfileService {
                 .department(convertToInteger(u.getDepartment()))
                 .position(convertToInteger(u.getPosition()))
                 .profilePhotoUrl(convertToFullUrl(u.getProfilePhotoUrl()))
+                .profilePhotoVariants(ImageVariantService.variantUrls(convertToFullUrl(u.getProfilePhotoUrl())))
                 .build();
     }
 
 
-    /** (기존) 사진만 업로드 — 내부 공통 저장 함수를 사용하도록 보완 */
+    /** (기존) 사진만 업로드 — 내부 공통 저장 함수를 사용하도록 보완 (이전 사진 참조 해제) */
+    @Transactional
     public String uploadProfilePhoto(int userId, MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("파일이 비어 있습니다.");
@@ -58,8 +56,10 @@ public class ProfileService {
         if (exists == null) {
             throw new RuntimeException("사용자를 찾을 수 없습니다.");
         }
-        String publicUrl = saveProfilePhoto(userId, file); // ★ 공통 함수 사용
+        String publicUrl = saveProfilePhoto(file); // ★ 공통 함수 사용
         userJdbcRepository.updateProfilePhoto(userId, publicUrl);
+        releasePhoto(exists.getProfilePhotoUrl());
+        imageVariantService.generateAfterCommit(publicUrl);
         return publicUrl;
     }
 
@@ -78,7 +78,8 @@ public class ProfileService {
         // 1) 파일이 왔다면 먼저 저장하고 URL 갱신
         String publicUrlFromFile = null;
         if (file != null && !file.isEmpty()) {
-            publicUrlFromFile = saveProfilePhoto(userId, file);
+            publicUrlFromFile = saveProfilePhoto(file);
+            imageVariantService.generateAfterCommit(publicUrlFromFile);
         }
 
         // 2) 모든 필드 갱신 (req가 null이어도 기존 값 유지)
@@ -100,8 +101,17 @@ public class ProfileService {
                 finalPhotoUrl
         );
 
-        // 3) 최종 상태 재조회 후 반환
-        UserEntity u = userJdbcRepository.findById(userId);
+        // 사진 참조 정리: 새로 업로드한 사진은 저장 시 참조가 늘었으므로 이전 사진만 반환,
+        // 이미 저장된 다른 URL로 바꾼 경우는 새 URL 참조를 늘리고 이전 사진 반환
+        if (publicUrlFromFile != null) {
+            releasePhoto(exists.getProfilePhotoUrl());
+        } else if (!Objects.equals(finalPhotoUrl, exists.getProfilePhotoUrl())) {
+            uploadStorageService.retain(finalPhotoUrl);
+            releasePhoto(exists.getProfilePhotoUrl());
+        }
+
+        // 3) 최종 상태 재조회 후 반환 (updateAllProfile에서 캐시가 무효화되어 DB에서 다시 읽음)
+        UserEntity u = userJdbcRepository.findCachedById(userId);
         return ProfileResponse.builder()
                 .userId(u.getUserId())
                 .name(u.getName())
@@ -110,31 +120,23 @@ public class ProfileService {
                 .department(convertToInteger(u.getDepartment()))
                 .position(convertToInteger(u.getPosition()))
                 .profilePhotoUrl(convertToFullUrl(u.getProfilePhotoUrl()))
+                .profilePhotoVariants(ImageVariantService.variantUrls(convertToFullUrl(u.getProfilePhotoUrl())))
                 .build();
     }
 
     /** 내부 공통: 실제 파일 저장 + 공개 URL 생성 */
-    private String saveProfilePhoto(int userId, MultipartFile file) throws IOException {
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("파일이 비어 있습니다.");
-        }
+    private String saveProfilePhoto(MultipartFile file) throws IOException {
+        String path = uploadStorageService.store(file).url();
 
-        Path baseDir = Paths.get(uploadDir).toAbsolutePath().normalize();
-        Files.createDirectories(baseDir);
+        // 완전한 URL로 반환 (도메인 + 경로)
+        return baseUrl + path;
+    }
 
-        String original = file.getOriginalFilename();
-        String ext = "";
-        if (original != null && original.contains(".")) {
-            ext = original.substring(original.lastIndexOf('.'));
+    // 교체된 프로필 사진 참조 해제 (baseUrl이 붙은 URL은 저장소에서 상대 경로로 맞춤)
+    private void releasePhoto(String photoUrl) {
+        if (photoUrl != null) {
+            uploadStorageService.release(List.of(photoUrl));
         }
-        String storedName = "profile_" + userId + "_" + UUID.randomUUID() + ext;
-        Path target = baseDir.resolve(storedName);
-
-        // ★ 같은 이름 우연 충돌 방지: 덮어쓰기 옵션 추가
-        Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-
-        // 완전한 URL로 반환 (도메인 + 경로)
-        return baseUrl + "/uploads/" + storedName;
     }
 
     /** 상대 경로를 완전한 URL로 변환 */
@@ -1,37 +1,122 @@
 package com.github.service;
 
-import com.github.repository.PostJdbcRepository;
+import com.github.dto.BlockStatisticsDto;
+import com.github.dto.StatisticsSummaryResponse;
+import com.github.repository.PostCounterJdbcRepository;
+import com.github.repository.PostDailyStatsJdbcRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StatisticsService {
 
-    private final PostJdbcRepository postJdbcRepository;
+    // 통계는 post 원본 대신 일별 집계 테이블(post_daily_stats)에서 조회
+    // 집계 테이블은 PostService에서 게시글 생성/수정/삭제 시 증분 반영되고, 주기적으로 전체 재생성됨
+    private final PostDailyStatsJdbcRepository postDailyStatsRepository;
+    // 게시글 수 카운터 (PostService/AreaService/AdminService에서 트랜잭션 안에서 반영, 이곳에서는 야간 보정만 수행)
+    private final PostCounterJdbcRepository postCounterRepository;
 
     /** 블록별 보고건수 */
     public List<Map<String, Object>> getReportCounts(LocalDate from, LocalDate to) {
-        // Repository는 DATE(p.created_at) BETWEEN ? AND ? 를 사용 (LocalDate 그대로 바인딩)
-        return postJdbcRepository.countReportsByBlock(from, to);
+        return postDailyStatsRepository.sumReportsByBlock(from, to);
     }
 
     /** 블록별 조치건수 */
     public List<Map<String, Object>> getActionCounts(LocalDate from, LocalDate to) {
-        return postJdbcRepository.countActionsByBlock(from, to);
+        return postDailyStatsRepository.sumActionsByBlock(from, to);
     }
 
     /** 블록별 월별 집계 */
     public List<Map<String, Object>> getMonthlyReportTrend(LocalDate from, LocalDate to) {
-        return postJdbcRepository.countMonthlyReportsByBlock(from, to);
+        return postDailyStatsRepository.sumMonthlyReportsByBlock(from, to);
     }
 
     /** 블록별 고위험성(3점 이상) 조치건수 */
     public List<Map<String, Object>> getHighRiskActions(LocalDate from, LocalDate to) {
-        return postJdbcRepository.countHighRiskActions(from, to);
+        return postDailyStatsRepository.sumHighRiskActionsByBlock(from, to);
     }
-}
\ No newline at end of file
+
+    /**
+     * 대시보드 통계 요약: 블록별/월별 지표를 집계 테이블 한 번의 스캔으로 계산
+     * 블록별 기간 합계는 월별 결과를 메모리에서 합산
+     */
+    public StatisticsSummaryResponse getSummary(LocalDate from, LocalDate to) {
+        List<BlockStatisticsDto> monthly = postDailyStatsRepository.summarizeMonthlyByBlock(from, to);
+
+        Map<Long, BlockStatisticsDto> blocks = new TreeMap<>();
+        for (BlockStatisticsDto row : monthly) {
+            BlockStatisticsDto block = blocks.computeIfAbsent(row.getBlockId(), id -> BlockStatisticsDto.builder()
+                    .blockId(id)
+                    .blockName(row.getBlockName())
+                    .highRiskActionsByScore(new LinkedHashMap<>())
+                    .build());
+            block.setReportCount(block.getReportCount() + row.getReportCount());
+            block.setActionCount(block.getActionCount() + row.getActionCount());
+            block.setHighRiskActionCount(block.getHighRiskActionCount() + row.getHighRiskActionCount());
+            row.getHighRiskActionsByScore().forEach((score, count) ->
+                    block.getHighRiskActionsByScore().merge(score, count, Long::sum));
+        }
+
+        return StatisticsSummaryResponse.builder()
+                .from(from)
+                .to(to)
+                .blocks(new ArrayList<>(blocks.values()))
+                .monthly(monthly)
+                .build();
+    }
+
+    /**
+     * 일별 집계 테이블 전체 재생성
+     * 증분 반영 경로 밖에서 바뀐 데이터(직접 수정한 데이터, 과거 데이터 등)를 보정
+     */
+    @Scheduled(cron = "${stats.daily-rollup.rebuild-cron:0 30 3 * * *}", zone = "Asia/Seoul")
+    @Transactional
+    public void rebuildDailyStats() {
+        long start = System.currentTimeMillis();
+        int rows = postDailyStatsRepository.rebuildAll();
+        log.info("post_daily_stats 재생성 완료: rows={}, elapsed={}ms", rows, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 게시글 수 카운터 전체 재생성
+     * 카운터는 게시글 변경과 같은 트랜잭션에서 반영되므로 평소에는 차이가 없고, DB를 직접 수정한 경우 등을 보정
+     */
+    @Scheduled(cron = "${stats.post-counter.rebuild-cron:0 40 3 * * *}", zone = "Asia/Seoul")
+    @Transactional
+    public void rebuildPostCounters() {
+        long start = System.currentTimeMillis();
+        int rows = postCounterRepository.rebuildAll();
+        log.info("post_counter 재생성 완료: rows={}, elapsed={}ms", rows, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 기동 시 집계 테이블이 비어 있으면 과거 데이터로 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initDailyStats() {
+        try {
+            if (postDailyStatsRepository.isEmpty()) {
+                log.info("post_daily_stats가 비어 있어 과거 데이터로 재생성합니다.");
+                int rows = postDailyStatsRepository.rebuildAll();
+                log.info("post_daily_stats 초기 재생성 완료: rows={}", rows);
+            }
+        } catch (Exception e) {
+            log.warn("post_daily_stats 초기화 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.github.service;
+
+import com.github.constants.ErrorMessages;
+import com.github.constants.FileConstants;
+import com.github.exception.InvalidUploadException;
+import com.github.repository.UploadBlobJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 업로드 이미지 저장 (게시글/관리구역/프로필 공통)
+ * - 앞부분(SNIFF_BYTES)의 매직 바이트로 실제 형식을 판별하여, 허용되지 않은 파일은 디스크에 쓰기 전에 거부
+ * - 파일은 내용 해시(SHA-256) 경로에 한 번만 저장되고, 같은 내용의 재업로드는 upload_blob 참조 수만 증가
+ * - 기록이 끝난 임시 파일은 최종 경로로 원자적 이동 (중간 상태 파일이 노출되지 않음)
+ * - 여러 장은 uploadStorageExecutor에서 파일별로 병렬 처리하고, 참조 수 증가는 호출 스레드(트랜잭션 안)에서 수행
+ */
+@Slf4j
+@Service
+public class UploadStorageService {
+
+    private static final int SNIFF_BYTES = 4 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_DIR = ".tmp";
+    private static final String BLOB_DIR = "blobs";
+
+    private final UploadBlobJdbcRepository uploadBlobRepository;
+    private final Executor executor;
+
+    @Value("${file.upload-dir:./uploads}")
+    private String uploadDir;
+
+    public UploadStorageService(UploadBlobJdbcRepository uploadBlobRepository,
+                                @Qualifier("uploadStorageExecutor") Executor executor) {
+        this.uploadBlobRepository = uploadBlobRepository;
+        this.executor = executor;
+    }
+
+    /**
+     * 저장된 파일 정보
+     * @param filename    업로드 디렉토리 기준 경로 (blobs/ab/cd/{sha256}.{확장자})
+     * @param contentType 매직 바이트로 판별한 MIME 타입
+     * @param size        바이트 수
+     * @param sha256      내용 해시 (소문자 hex)
+     */
+    public record StoredFile(String filename, String contentType, long size, String sha256) {
+        /** 정적 리소스 경로 (/uploads/{filename}) */
+        public String url() {
+            return "/uploads/" + filename;
+        }
+    }
+
+    /** 허용 이미지 형식 (확장자는 FileConstants.ALLOWED_IMAGE_TYPES 기준) */
+    private enum ImageType {
+        JPEG("jpg", "image/jpeg", new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+        PNG("png", "image/png", new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}),
+        GIF87("gif", "image/gif", new byte[]{'G', 'I', 'F', '8', '7', 'a'}),
+        GIF89("gif", "image/gif", new byte[]{'G', 'I', 'F', '8', '9', 'a'});
+
+        private final String extension;
+        private final String contentType;
+        private final byte[] magic;
+
+        ImageType(String extension, String contentType, byte[] magic) {
+            this.extension = extension;
+            this.contentType = contentType;
+            this.magic = magic;
+        }
+
+        static ImageType detect(byte[] head) {
+            for (ImageType type : values()) {
+                if (head.length >= type.magic.length
+                        && Arrays.equals(head, 0, type.magic.length, type.magic, 0, type.magic.length)
+                        && isAllowed(type.extension)) {
+                    return type;
+                }
+            }
+            return null;
+        }
+
+        private static boolean isAllowed(String extension) {
+            return Arrays.asList(FileConstants.ALLOWED_IMAGE_TYPES).contains(extension);
+        }
+    }
+
+    /**
+     * 이미지를 검증하고 내용 해시 경로(blobs/ab/cd/{sha256}.{확장자})에 저장
+     * 1) 스트림을 읽으며 형식/크기 검증과 해시 계산 (디스크 쓰기 없음)
+     * 2) 이미 같은 내용이 있으면 참조 수만 증가, 없을 때만 파일 기록
+     * 확장자는 원본 파일명이 아니라 판별된 형식에서 결정
+     */
+    public StoredFile store(MultipartFile file) throws IOException {
+        return storeAll(List.of(file)).get(0);
+    }
+
+    /**
+     * 여러 이미지를 순서대로 저장 (하나라도 검증에 실패하면 참조를 늘리기 전에 전체 거부, 기록에 실패하면 참조 반환 후 예외)
+     * 검증/해시와 새 파일 기록은 파일별로 병렬 처리, 같은 내용이 여러 번 있으면 기록은 한 번만 수행
+     */
+    public List<StoredFile> storeAll(List<MultipartFile> files) throws IOException {
+        for (MultipartFile file : files) {
+            if (file == null || file.isEmpty()) {
+                throw new InvalidUploadException(HttpStatus.BAD_REQUEST, "파일이 비어 있습니다.");
+            }
+            // 선언된 크기로 먼저 거부 (스트림을 열지 않음)
+            if (file.getSize() > FileConstants.MAX_FILE_SIZE) {
+                throw new InvalidUploadException(HttpStatus.PAYLOAD_TOO_LARGE, ErrorMessages.FILE_SIZE_EXCEEDED);
+            }
+        }
+
+        List<Scan> scans = runAll(files, this::scan);
+
+        // 참조 수 증가 후 파일 존재 확인: 기존 행을 갱신했다면 그 행의 잠금 때문에 정리 작업이 파일을 지우지 못하고,
+        // 새 행을 추가했다면(이전 행이 정리되었을 수 있음) 파일이 보이더라도 다시 기록
+        Path root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        List<StoredFile> stored = new ArrayList<>(files.size());
+        Map<Path, Integer> missing = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            Scan scan = scans.get(i);
+            String relative = BLOB_DIR + "/" + scan.sha256().substring(0, 2) + "/" + scan.sha256().substring(2, 4)
+                    + "/" + scan.sha256() + "." + scan.type().extension;
+            StoredFile file = new StoredFile(relative, scan.type().contentType, scan.size(), scan.sha256());
+            stored.add(file);
+
+            boolean created = uploadBlobRepository.acquire(file.sha256(), file.url(), file.contentType(), file.size());
+            Path target = root.resolve(relative);
+            if (!created && Files.exists(target)) {
+                log.debug("Duplicate upload {} ({} bytes), reusing existing blob", scan.sha256(), scan.size());
+            } else {
+                missing.putIfAbsent(target, i);
+            }
+        }
+
+        // 기록이 하나라도 실패하면 이번 호출에서 늘린 참조를 모두 반환 (호출자가 예외를 처리해도 참조가 남지 않도록)
+        List<Map.Entry<Path, Integer>> writes = new ArrayList<>(missing.entrySet());
+        try {
+            runAll(writes, entry -> {
+                write(files.get(entry.getValue()), root, entry.getKey(), scans.get(entry.getValue()).size());
+                return null;
+            });
+        } catch (IOException | RuntimeException e) {
+            uploadBlobRepository.release(stored.stream().map(StoredFile::url).toList());
+            throw e;
+        }
+        return stored;
+    }
+
+    /** 저장했지만 사용하지 않게 된 파일의 참조 반환 (게시글 저장 실패 시 보상 처리, 교체된 사진) */
+    public void release(List<String> urls) {
+        uploadBlobRepository.release(urls);
+    }
+
+    /** 이미 저장된 파일을 업로드 없이 다시 참조할 때 참조 증가 */
+    public void retain(String url) {
+        uploadBlobRepository.retain(url);
+    }
+
+    @FunctionalInterface
+    private interface IoTask<T, R> {
+        R apply(T input) throws IOException;
+    }
+
+    /** 한 건이면 호출 스레드에서, 여러 건이면 실행기에서 병렬로 처리하고 입력 순서대로 결과 반환 */
+    private <T, R> List<R> runAll(List<T> inputs, IoTask<T, R> task) throws IOException {
+        if (inputs.size() <= 1) {
+            List<R> results = new ArrayList<>(inputs.size());
+            for (T input : inputs) {
+                results.add(task.apply(input));
+            }
+            return results;
+        }
+        List<CompletableFuture<R>> futures = inputs.stream()
+                .map(input -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return task.apply(input);
+                    } catch (IOException e) {
+                        throw new CompletionException(e);
+                    }
+                }, executor))
+                .toList();
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private record Scan(ImageType type, long size, String sha256) {}
+
+    /** 형식 판별 + 크기 제한 + SHA-256을 한 번 읽기로 처리 (허용되지 않은 파일은 여기서 거부) */
+    private Scan scan(MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            byte[] head = in.readNBytes(SNIFF_BYTES);
+            ImageType type = ImageType.detect(head);
+            if (type == null) {
+                throw new InvalidUploadException(HttpStatus.UNSUPPORTED_MEDIA_TYPE, ErrorMessages.INVALID_FILE_TYPE);
+            }
+
+            MessageDigest digest = sha256();
+            digest.update(head);
+            long size = head.length;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                // 선언된 크기와 실제 스트림이 다를 수 있으므로 읽으면서 다시 검사
+                if (size > FileConstants.MAX_FILE_SIZE) {
+                    throw new InvalidUploadException(HttpStatus.PAYLOAD_TOO_LARGE, ErrorMessages.FILE_SIZE_EXCEEDED);
+                }
+                digest.update(buffer, 0, read);
+            }
+            return new Scan(type, size, HexFormat.of().formatHex(digest.digest()));
+        }
+    }
+
+    /**
+     * 새 내용만 기록: 임시 파일에 FileChannel.transferFrom으로 복사한 뒤 최종 경로로 원자적 이동
+     * 임시 파일은 업로드 디렉토리 안에 만들어 같은 파일시스템에서 이동되도록 함
+     */
+    private void write(MultipartFile file, Path root, Path target, long expectedSize) throws IOException {
+        Path tempDir = root.resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        Path temp = Files.createTempFile(tempDir, "upload-", ".part");
+        try {
+            long written = 0;
+            try (InputStream in = file.getInputStream();
+                 ReadableByteChannel source = Channels.newChannel(in);
+                 FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                long transferred;
+                while (written < expectedSize
+                        && (transferred = channel.transferFrom(source, written, expectedSize - written)) > 0) {
+                    written += transferred;
+                }
+            }
+            if (written != expectedSize) {
+                throw new IOException("Upload changed while storing: expected " + expectedSize + " bytes, wrote " + written);
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
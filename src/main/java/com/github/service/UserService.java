@@ -23,7 +23,7 @@ public class UserService {
     public UserInfoResponse getUserInfo(Integer userId) {
         log.info("사용자 정보 조회 시작: userId={}", userId);
         
-        UserEntity user = userRepository.findByIdWithDepartmentAndPosition(userId);
+        UserEntity user = userRepository.findCachedById(userId);
         if (user == null) {
             throw new RuntimeException(ErrorMessages.USER_NOT_FOUND + ": " + userId);
         }
@@ -0,0 +1,132 @@
+package com.github.token;
+
+import com.github.jwt.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메모리 기반 refresh token 저장소
+ * - 만료 시각을 1분 단위 버킷으로 묶어 두고, 백그라운드 정리 작업은 지난 버킷만 꺼내서 처리 (저장 시 전체 순회 없음)
+ * - 사용자별 세션 인덱스로 모든 기기 로그아웃을 사용자 세션 수만큼만 처리
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "auth.refresh-store.type", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final long BUCKET_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private record Session(long userId, String jti, long expiresAt) {}
+
+    private final JwtProperties props;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> sessionsByUser = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, Set<String>> expiryBuckets = new ConcurrentSkipListMap<>();
+
+    public InMemoryRefreshTokenStore(JwtProperties props) {
+        this.props = props;
+    }
+
+    private String key(long userId, String jti) {
+        return "refresh:" + userId + ":" + jti;
+    }
+
+    @Override
+    public void save(long userId, String jti) {
+        String key = key(userId, jti);
+        long expiresAt = System.currentTimeMillis() + props.getRefreshTtl().toMillis();
+        sessions.put(key, new Session(userId, jti, expiresAt));
+        // 사용자 인덱스 갱신은 compute로 원자적으로 처리 (빈 집합 제거와 경쟁하지 않도록)
+        sessionsByUser.compute(userId, (id, keys) -> {
+            Set<String> userKeys = keys != null ? keys : ConcurrentHashMap.newKeySet();
+            userKeys.add(key);
+            return userKeys;
+        });
+        expiryBuckets.computeIfAbsent(expiresAt / BUCKET_MILLIS, b -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    @Override
+    public boolean exists(long userId, String jti) {
+        Session session = sessions.get(key(userId, jti));
+        if (session == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() >= session.expiresAt()) {
+            // 정리 작업 전이라도 만료된 토큰은 즉시 제거
+            remove(key(userId, jti), session);
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void delete(long userId, String jti) {
+        String key = key(userId, jti);
+        Session session = sessions.get(key);
+        if (session != null) {
+            remove(key, session);
+        }
+    }
+
+    @Override
+    public int deleteAllForUser(long userId) {
+        Set<String> keys = sessionsByUser.remove(userId);
+        if (keys == null) {
+            return 0;
+        }
+        int deleted = 0;
+        for (String key : keys) {
+            if (sessions.remove(key) != null) {
+                deleted++;
+            }
+        }
+        // 만료 버킷에 남은 키는 정리 작업에서 세션이 없으므로 건너뜀
+        return deleted;
+    }
+
+    /**
+     * 현재 시각 이전 버킷만 꺼내서 만료 토큰 삭제
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${auth.refresh-store.sweep-interval:PT1M}")
+    public int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int purged = 0;
+        Map.Entry<Long, Set<String>> bucket;
+        while ((bucket = expiryBuckets.firstEntry()) != null && bucket.getKey() < now / BUCKET_MILLIS) {
+            expiryBuckets.remove(bucket.getKey());
+            for (String key : bucket.getValue()) {
+                Session session = sessions.get(key);
+                // 재저장으로 만료 시각이 바뀐 토큰은 새 버킷에서 처리
+                if (session != null && session.expiresAt() <= now && remove(key, session)) {
+                    purged++;
+                }
+            }
+        }
+        if (purged > 0) {
+            log.debug("Purged {} expired refresh tokens", purged);
+        }
+        return purged;
+    }
+
+    private boolean remove(String key, Session session) {
+        if (!sessions.remove(key, session)) {
+            return false;
+        }
+        sessionsByUser.computeIfPresent(session.userId(), (id, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+        return true;
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.token;
+
+import com.github.jwt.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * DB 기반 refresh token 저장소 (기본 구현)
+ * - 재시작/배포 후에도 세션이 유지되고, 여러 인스턴스가 같은 테이블을 공유
+ * - user_id 인덱스로 모든 기기 로그아웃, expires_at 인덱스로 만료 토큰을 배치 단위 삭제
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-store.type", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+    private final JdbcTemplate jdbc;
+    private final JwtProperties props;
+
+    @Value("${auth.refresh-store.purge-batch-size:1000}")
+    private int purgeBatchSize;
+
+    public void createTableIfNotExists() {
+        jdbc.execute("""
+            CREATE TABLE IF NOT EXISTS refresh_token (
+                jti        VARCHAR(64) NOT NULL PRIMARY KEY,
+                user_id    BIGINT      NOT NULL,
+                expires_at TIMESTAMP   NOT NULL,
+                created_at TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                INDEX idx_refresh_token_user (user_id),
+                INDEX idx_refresh_token_expires_at (expires_at)
+            )
+            """);
+    }
+
+    @Override
+    public void save(long userId, String jti) {
+        Timestamp expiresAt = Timestamp.from(Instant.now().plus(props.getRefreshTtl()));
+        jdbc.update("""
+            INSERT INTO refresh_token (jti, user_id, expires_at) VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE user_id = VALUES(user_id), expires_at = VALUES(expires_at)
+            """, jti, userId, expiresAt);
+    }
+
+    @Override
+    public boolean exists(long userId, String jti) {
+        Integer count = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM refresh_token WHERE jti = ? AND user_id = ? AND expires_at > ?",
+                Integer.class, jti, userId, Timestamp.from(Instant.now()));
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void delete(long userId, String jti) {
+        jdbc.update("DELETE FROM refresh_token WHERE jti = ? AND user_id = ?", jti, userId);
+    }
+
+    @Override
+    public int deleteAllForUser(long userId) {
+        return jdbc.update("DELETE FROM refresh_token WHERE user_id = ?", userId);
+    }
+
+    /**
+     * 만료 토큰을 purgeBatchSize 단위로 나눠 삭제 (긴 잠금/대형 트랜잭션 방지)
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${auth.refresh-store.sweep-interval:PT1M}")
+    public int purgeExpired() {
+        Timestamp now = Timestamp.from(Instant.now());
+        int total = 0;
+        try {
+            int deleted;
+            do {
+                deleted = jdbc.update("DELETE FROM refresh_token WHERE expires_at <= ? LIMIT ?", now, purgeBatchSize);
+                total += deleted;
+            } while (deleted == purgeBatchSize);
+        } catch (Exception e) {
+            log.warn("Failed to purge expired refresh tokens: {}", e.getMessage());
+        }
+        if (total > 0) {
+            log.debug("Purged {} expired refresh tokens", total);
+        }
+        return total;
+    }
+}
@@ -1,11 +1,14 @@
 package com.github.token;
 
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.github.jwt.JwtPrincipal;
 import com.github.jwt.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -19,6 +22,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.List;
 
+@Slf4j
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwt;
@@ -46,15 +50,23 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
         String token = header.substring(7);
+        JwtPrincipal principal;
         try {
-            if (jwt.validate(token)) {
-                String userId = String.valueOf(jwt.getUserId(token));
-                String role = jwt.getRole(token);
+            // 서명 검증과 클레임 추출은 요청당 한 번만 수행 (같은 토큰의 재요청은 검증 결과 캐시 사용)
+            principal = jwt.verifyAndParseCached(token);
+        } catch (JWTVerificationException | NumberFormatException e) {
+            log.debug("JWT Validation Error: {}", e.getMessage());
+            principal = null;
+        }
+        try {
+            if (principal != null) {
+                String userId = String.valueOf(principal.userId());
+                String role = principal.role();
                 String authority = (role != null && role.startsWith("ROLE_")) ? role : "ROLE_" + role;
                 
-                System.out.println("JwtAuthFilter - UserId: " + userId);
-                System.out.println("JwtAuthFilter - JWT Role: " + role);
-                System.out.println("JwtAuthFilter - Spring Authority: " + authority);
+                log.debug("JwtAuthFilter - UserId: {}", userId);
+                log.debug("JwtAuthFilter - JWT Role: {}", role);
+                log.debug("JwtAuthFilter - Spring Authority: {}", authority);
                 
                 var auth = new UsernamePasswordAuthenticationToken(
                         userId,
@@ -63,6 +75,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 );
                 auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(req));
                 SecurityContextHolder.getContext().setAuthentication(auth);
+                // 컨트롤러에서 토큰을 다시 검증하지 않도록 요청 속성으로 전달
+                req.setAttribute(JwtPrincipal.REQUEST_ATTRIBUTE, principal);
                 chain.doFilter(req, res);
                 return;
             }
@@ -8,6 +8,7 @@ import com.github.repository.UserJdbcRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.Cookie;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
@@ -18,6 +19,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class OAuth2LoginSuccessHandler  implements AuthenticationSuccessHandler {
@@ -76,8 +78,8 @@ public class OAuth2LoginSuccessHandler  implements AuthenticationSuccessHandler
             "; Path=/; Max-Age=" + (60 * 60 * 24 * 13) + 
             "; HttpOnly=true; Secure=true; SameSite=None");
         
-        System.out.println("OAuth2 로그인 성공 - Refresh Token 쿠키 설정 완료");
-        System.out.println("쿠키 값 길이: " + refresh.length());
+        log.debug("OAuth2 로그인 성공 - Refresh Token 쿠키 설정 완료");
+        log.debug("쿠키 값 길이: {}", refresh.length());
 
         TokenResponse body = TokenResponse.builder()
                 .accessToken(access)
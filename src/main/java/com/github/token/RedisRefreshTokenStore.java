@@ -0,0 +1,97 @@
+package com.github.token;
+
+import com.github.jwt.JwtProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 기반 refresh token 저장소
+ * - 토큰 키(refresh:{userId}:{jti})는 refresh TTL로 저장되어 만료 시 Redis가 직접 삭제 (정리 작업 없음)
+ * - 사용자별 세션 인덱스(refresh:user:{userId}) Set으로 모든 기기 로그아웃을 DEL 한 번으로 처리
+ * - 여러 인스턴스가 같은 Redis를 공유하므로 sticky session 없이 수평 확장 가능
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auth.refresh-store.type", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private final StringRedisTemplate redis;
+    private final JwtProperties props;
+
+    private String key(long userId, String jti) {
+        return "refresh:" + userId + ":" + jti;
+    }
+
+    private String userKey(long userId) {
+        return "refresh:user:" + userId;
+    }
+
+    /**
+     * 토큰 저장 + 사용자 인덱스 추가 + 인덱스 만료 연장을 파이프라인 한 번으로 전송
+     * 인덱스는 가장 최근 토큰과 같은 시점에 만료되므로 남아 있는 토큰보다 먼저 사라지지 않음
+     */
+    @Override
+    public void save(long userId, String jti) {
+        String key = key(userId, jti);
+        String userKey = userKey(userId);
+        long ttlMillis = props.getRefreshTtl().toMillis();
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.set(key, "1", Expiration.milliseconds(ttlMillis), SetOption.upsert());
+            conn.sAdd(userKey, key);
+            conn.pExpire(userKey, ttlMillis);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean exists(long userId, String jti) {
+        return Boolean.TRUE.equals(redis.hasKey(key(userId, jti)));
+    }
+
+    @Override
+    public void delete(long userId, String jti) {
+        String key = key(userId, jti);
+        String userKey = userKey(userId);
+        redis.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            conn.del(key);
+            conn.sRem(userKey, key);
+            return null;
+        });
+    }
+
+    /**
+     * 인덱스의 토큰 키와 인덱스 자체를 DEL 한 번으로 삭제
+     * 인덱스에 남아 있던 만료 토큰 키는 이미 없으므로 삭제 개수에 포함되지 않음
+     */
+    @Override
+    public int deleteAllForUser(long userId) {
+        String userKey = userKey(userId);
+        Set<String> keys = redis.opsForSet().members(userKey);
+        if (keys == null || keys.isEmpty()) {
+            return 0;
+        }
+        List<String> toDelete = new ArrayList<>(keys);
+        toDelete.add(userKey);
+        Long deleted = redis.delete(toDelete);
+        // 인덱스 키 자체는 개수에서 제외
+        return deleted != null ? (int) Math.max(0, deleted - 1) : 0;
+    }
+
+    /** 만료는 Redis 키 TTL로 처리되므로 정리할 항목이 없음 */
+    @Override
+    public int purgeExpired() {
+        return 0;
+    }
+}
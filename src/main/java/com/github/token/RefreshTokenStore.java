@@ -1,69 +1,27 @@
 package com.github.token;
 
-import com.github.jwt.JwtProperties;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Repository;
+/**
+ * Refresh token(JTI) 저장소
+ * 구현은 auth.refresh-store.type 설정으로 선택합니다.
+ * - jdbc (기본): refresh_token 테이블에 저장, 재시작/다중 인스턴스에서도 유지
+ * - memory: JVM 메모리에 저장, 만료는 시간 버킷 단위로 백그라운드 정리
+ * - redis: Redis에 TTL과 함께 저장, 여러 인스턴스가 공유 (spring.data.redis 설정 사용)
+ */
+public interface RefreshTokenStore {
 
-import java.time.LocalDateTime;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+    void save(long userId, String jti);
 
-@Repository
-@RequiredArgsConstructor
-public class RefreshTokenStore {
+    boolean exists(long userId, String jti);
 
-    private final JwtProperties props;
-    
-    // 메모리 기반 토큰 저장소
-    private final Map<String, LocalDateTime> tokenStore = new ConcurrentHashMap<>();
+    void delete(long userId, String jti);
 
-    private String key(long userId, String jti) {
-        return "refresh:" + userId + ":" + jti;
-    }
-
-    public void save(long userId, String jti) {
-        String key = key(userId, jti);
-        // Duration을 LocalDateTime으로 변환할 때 정확한 계산 필요
-        LocalDateTime expiryTime = LocalDateTime.now().plusSeconds(props.getRefreshTtl().toSeconds());
-        tokenStore.put(key, expiryTime);
-        
-        // 만료된 토큰들 정리
-        cleanupExpiredTokens();
-    }
+    /** 사용자의 모든 refresh token 삭제 (모든 기기 로그아웃), 삭제한 개수 반환 */
+    int deleteAllForUser(long userId);
 
-    public boolean exists(long userId, String jti) {
-        String key = key(userId, jti);
-        LocalDateTime expiryTime = tokenStore.get(key);
-        
-        System.out.println("RefreshTokenStore.exists() - key: " + key + ", expiryTime: " + expiryTime);
-        
-        if (expiryTime == null) {
-            System.out.println("RefreshTokenStore.exists() - 토큰이 저장소에 없음");
-            return false;
-        }
-        
-        // 만료된 토큰인지 확인
-        if (LocalDateTime.now().isAfter(expiryTime)) {
-            System.out.println("RefreshTokenStore.exists() - 토큰이 만료됨, 삭제");
-            tokenStore.remove(key);
-            return false;
-        }
-        
-        System.out.println("RefreshTokenStore.exists() - 토큰이 유효함");
-        return true;
-    }
+    /** 만료된 토큰 정리, 삭제한 개수 반환 */
+    int purgeExpired();
 
-    public void delete(long userId, String jti) {
-        String key = key(userId, jti);
-        tokenStore.remove(key);
-    }
-
-    public boolean isValid(long userId, String jti) {
+    default boolean isValid(long userId, String jti) {
         return exists(userId, jti);
     }
-    
-    private void cleanupExpiredTokens() {
-        LocalDateTime now = LocalDateTime.now();
-        tokenStore.entrySet().removeIf(entry -> now.isAfter(entry.getValue()));
-    }
 }
@@ -0,0 +1,143 @@
+package com.github.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.config.RedisConfig;
+import com.github.entity.UserEntity;
+import com.github.redis.LocalRedisServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 백엔드 인스턴스의 BoundedCache가 Redis 계층을 공유하는지 확인
+ * - 한 인스턴스가 읽어 온 항목은 다른 인스턴스에서 DB 조회 없이 사용
+ * - 한 인스턴스에서 무효화하면 다른 인스턴스의 로컬 캐시도 비워짐
+ */
+class RedisCacheTierTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private LocalRedisServer server;
+    private LettuceConnectionFactory connectionFactory;
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    private final AtomicInteger loadedUsers = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = LocalRedisServer.start();
+        connectionFactory = server.connectionFactory();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (RedisMessageListenerContainer container : containers) {
+            container.destroy();
+        }
+        connectionFactory.destroy();
+        server.close();
+    }
+
+    @Test
+    void entriesLoadedByOneInstanceAreServedToAnotherFromRedis() {
+        BoundedCache<Integer, UserEntity> instanceA = newInstanceCache();
+        BoundedCache<Integer, UserEntity> instanceB = newInstanceCache();
+
+        instanceA.getAll(List.of(1, 2, 3), this::loadUsers);
+        Map<Integer, UserEntity> fromB = instanceB.getAll(List.of(1, 2, 3, 4), this::loadUsers);
+
+        // 4번만 B에서 새로 읽고, 1~3번은 A가 Redis에 올려 둔 값을 MGET 한 번으로 가져옴
+        assertThat(loadedUsers.get()).isEqualTo(4);
+        assertThat(fromB).hasSize(4);
+        assertThat(fromB.get(2).getName()).isEqualTo("user-2");
+        assertThat(instanceB.stats()).containsEntry("remoteHits", 3L);
+        assertThat(server.pttl("cache:userSummary:1")).isPositive().isLessThanOrEqualTo(TTL.toMillis());
+    }
+
+    @Test
+    void invalidationOnOneInstanceClearsOtherInstancesLocalCopy() throws InterruptedException {
+        BoundedCache<Integer, UserEntity> instanceA = newInstanceCache();
+        BoundedCache<Integer, UserEntity> instanceB = newInstanceCache();
+        awaitTrue(() -> server.subscriberCount(RedisCacheTier.INVALIDATION_CHANNEL) == 2);
+
+        instanceA.get(1, id -> loadUsers(Set.of(id)).get(id));
+        assertThat(instanceB.getIfPresent(1)).isNotNull();  // B의 로컬 캐시에도 적재됨
+
+        instanceA.invalidate(1);
+
+        awaitTrue(() -> instanceB.getIfPresent(1) == null);
+        assertThat(server.pttl("cache:userSummary:1")).isEqualTo(-2);
+
+        instanceB.getAll(List.of(1, 2), this::loadUsers);
+        assertThat(instanceA.getIfPresent(2)).isNotNull();
+        instanceB.invalidateAll();
+
+        awaitTrue(() -> instanceA.getIfPresent(2) == null);
+        assertThat(server.pttl("cache:userSummary:2")).isEqualTo(-2);
+    }
+
+    @Test
+    void bulkInvalidationClearsEveryKeyOnOtherInstance() throws InterruptedException {
+        BoundedCache<Integer, UserEntity> instanceA = newInstanceCache();
+        BoundedCache<Integer, UserEntity> instanceB = newInstanceCache();
+        awaitTrue(() -> server.subscriberCount(RedisCacheTier.INVALIDATION_CHANNEL) == 2);
+
+        instanceA.getAll(List.of(1, 2, 3), this::loadUsers);
+        assertThat(instanceB.getIfPresent(3)).isNotNull();
+
+        // 키 여러 개를 DEL 한 번 + 무효화 메시지 한 번으로 처리
+        instanceA.invalidateAll(List.of(1, 3));
+
+        awaitTrue(() -> instanceB.getIfPresent(1) == null && instanceB.getIfPresent(3) == null);
+        assertThat(server.pttl("cache:userSummary:3")).isEqualTo(-2);
+        assertThat(instanceA.getIfPresent(2)).isNotNull();
+    }
+
+    private BoundedCache<Integer, UserEntity> newInstanceCache() {
+        StringRedisTemplate redis = new StringRedisTemplate(connectionFactory);
+        redis.afterPropertiesSet();
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        RedisConfig.RedisCacheTiers tiers = new RedisConfig.RedisCacheTiers(redis, container, objectMapper);
+        RemoteCacheTier<Integer, UserEntity> remote = tiers.create("userSummary", UserEntity.class, Integer::valueOf, TTL);
+        return new BoundedCache<>("userSummary", 100, TTL, remote);
+    }
+
+    private Map<Integer, UserEntity> loadUsers(Set<Integer> ids) {
+        Map<Integer, UserEntity> users = new HashMap<>();
+        for (Integer id : ids) {
+            loadedUsers.incrementAndGet();
+            users.put(id, UserEntity.builder().userId(id).name("user-" + id).build());
+        }
+        return users;
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met within 5s").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.controller;
+
+import com.github.service.ImageVariantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /uploads 제공 시 ETag/304, Range(206/416), 캐시 헤더와 경로 제한 확인
+ */
+class UploadControllerTest {
+
+    private static final String SHA256 = "0f".repeat(32);
+    private static final String BLOB_PATH = "/blobs/0f/0f/" + SHA256 + ".jpg";
+
+    @TempDir
+    Path uploadDir;
+
+    private UploadController controller;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ImageVariantService variantService = new ImageVariantService(Runnable::run);
+        ReflectionTestUtils.setField(variantService, "uploadDir", uploadDir.toString());
+        controller = new UploadController(variantService);
+        ReflectionTestUtils.setField(controller, "uploadDir", uploadDir.toString());
+
+        content = new byte[100_000];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path blob = uploadDir.resolve(BLOB_PATH.substring(1));
+        Files.createDirectories(blob.getParent());
+        Files.write(blob, content);
+        Files.write(uploadDir.resolve("legacy.png"), content);
+    }
+
+    @Test
+    void hashNamedFileIsServedWithStrongEtagAndImmutableCaching() throws Exception {
+        MockHttpServletResponse response = serve(get(BLOB_PATH));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"" + SHA256 + "\"");
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("max-age=31536000", "immutable");
+        assertThat(response.getContentType()).isEqualTo("image/jpeg");
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+
+        // 파일명이 내용과 무관하면 크기+수정 시각 ETag, 1일 캐시
+        MockHttpServletResponse legacy = serve(get("/legacy.png"));
+        assertThat(legacy.getHeader(HttpHeaders.ETAG)).matches("\"[0-9a-f]+-[0-9a-f]+\"");
+        assertThat(legacy.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("max-age=86400");
+    }
+
+    @Test
+    void conditionalRequestsReturnNotModified() throws Exception {
+        MockHttpServletRequest byEtag = get(BLOB_PATH);
+        byEtag.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\", W/\"" + SHA256 + "\"");
+        MockHttpServletResponse notModified = serve(byEtag);
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+
+        long lastModified = Files.getLastModifiedTime(uploadDir.resolve("legacy.png")).toMillis();
+        MockHttpServletRequest byDate = get("/legacy.png");
+        byDate.addHeader(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        assertThat(serve(byDate).getStatus()).isEqualTo(304);
+
+        MockHttpServletRequest stale = get(BLOB_PATH);
+        stale.addHeader(HttpHeaders.IF_NONE_MATCH, "\"other\"");
+        assertThat(serve(stale).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void singleRangeIsServedAsPartialContent() throws Exception {
+        MockHttpServletRequest request = get(BLOB_PATH);
+        request.addHeader(HttpHeaders.RANGE, "bytes=100-199");
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 100-199/" + content.length);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 100, 200));
+
+        MockHttpServletRequest suffix = get(BLOB_PATH);
+        suffix.addHeader(HttpHeaders.RANGE, "bytes=-10");
+        assertThat(serve(suffix).getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, content.length - 10, content.length));
+
+        MockHttpServletRequest unsatisfiable = get(BLOB_PATH);
+        unsatisfiable.addHeader(HttpHeaders.RANGE, "bytes=" + content.length + "-");
+        MockHttpServletResponse rejected = serve(unsatisfiable);
+        assertThat(rejected.getStatus()).isEqualTo(416);
+        assertThat(rejected.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */" + content.length);
+
+        // If-Range가 현재 ETag와 다르면 전체 응답
+        MockHttpServletRequest changed = get(BLOB_PATH);
+        changed.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        changed.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+        assertThat(serve(changed).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void pathsOutsideUploadsAndHiddenFilesAreNotServed() throws Exception {
+        Files.createDirectories(uploadDir.resolve(".tmp"));
+        Files.write(uploadDir.resolve(".tmp/upload-1.part"), content);
+
+        assertThat(serve(get("/.tmp/upload-1.part")).getStatus()).isEqualTo(404);
+        assertThat(serve(get("/../secret.txt")).getStatus()).isEqualTo(404);
+        assertThat(serve(get("/blobs")).getStatus()).isEqualTo(404);
+    }
+
+    private MockHttpServletRequest get(String path) {
+        return new MockHttpServletRequest("GET", "/uploads" + path);
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.serve(request.getRequestURI().substring("/uploads".length()), request, response);
+        return response;
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 단계별 지연 시간 집계와 히스토그램 백분위 근사 확인
+ */
+class StageLatencyStatsTest {
+
+    @Test
+    void reportsCountsAndBucketPercentilesPerStage() {
+        StageLatencyStats stats = new StageLatencyStats("postCreation", "store", "insert");
+        for (int i = 0; i < 90; i++) {
+            stats.record("store", TimeUnit.MICROSECONDS.toNanos(1_500));   // 1~2ms 구간
+        }
+        for (int i = 0; i < 10; i++) {
+            stats.record("store", TimeUnit.MILLISECONDS.toNanos(300));     // 200~500ms 구간
+        }
+        stats.failed("insert");
+
+        Map<String, Object> store = stage(stats, 0);
+        assertThat(store).containsEntry("stage", "store")
+                .containsEntry("count", 100L)
+                .containsEntry("failures", 0L)
+                .containsEntry("p50Ms", 2.0)
+                .containsEntry("maxMs", 300.0)
+                .containsEntry("avgMs", 31.35);
+        // 상위 구간의 상한(500ms)이 아니라 실제 최대값으로 제한
+        assertThat(store).containsEntry("p95Ms", 300.0).containsEntry("p99Ms", 300.0);
+
+        Map<String, Object> insert = stage(stats, 1);
+        assertThat(insert).containsEntry("stage", "insert")
+                .containsEntry("count", 0L)
+                .containsEntry("failures", 1L)
+                .containsEntry("p99Ms", 0.0);
+    }
+
+    @Test
+    void unknownStageIsRejected() {
+        StageLatencyStats stats = new StageLatencyStats("postCreation", "store");
+
+        assertThatThrownBy(() -> stats.record("stroe", 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> stage(StageLatencyStats stats, int index) {
+        return ((List<Map<String, Object>>) stats.stats().get("stages")).get(index);
+    }
+}
@@ -0,0 +1,508 @@
+package com.github.redis;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트용 인프로세스 Redis 서버 (RESP2 프로토콜)
+ * 애플리케이션이 사용하는 명령만 지원합니다: 문자열(GET/SET/MGET), 키(DEL/EXISTS/PEXPIRE/SCAN), Set(SADD/SREM/SMEMBERS), Pub/Sub.
+ * HELLO는 지원하지 않으므로 클라이언트는 RESP2로 접속해야 합니다.
+ */
+public class LocalRedisServer implements AutoCloseable {
+
+    private record Value(byte[] string, Set<String> set, long expiresAt) {
+        boolean isExpired(long now) {
+            return expiresAt > 0 && now >= expiresAt;
+        }
+    }
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "local-redis");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, Value> data = new HashMap<>();
+    private final Map<String, Set<Connection>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = true;
+
+    private LocalRedisServer(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+    }
+
+    /** 임의의 빈 포트로 서버 시작 */
+    public static LocalRedisServer start() throws IOException {
+        LocalRedisServer server = new LocalRedisServer(new ServerSocket(0, 50, InetAddress.getLoopbackAddress()));
+        server.executor.execute(server::acceptLoop);
+        return server;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /** RESP2로 접속하는 Lettuce 연결 팩토리 (초기화/시작까지 완료된 상태) */
+    public LettuceConnectionFactory connectionFactory() {
+        LettuceClientConfiguration clientConfig = LettuceClientConfiguration.builder()
+                .clientOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build())
+                .build();
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration("127.0.0.1", getPort()), clientConfig);
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    /** 채널 구독 연결 수 (구독이 비동기로 이루어지는 클라이언트에서 대기용) */
+    public int subscriberCount(String channel) {
+        Set<Connection> set = subscribers.get(channel);
+        return set != null ? set.size() : 0;
+    }
+
+    /** 남은 TTL(ms), 키가 없으면 -2, 만료 없음은 -1 */
+    public synchronized long pttl(String key) {
+        Value value = live(key);
+        if (value == null) {
+            return -2;
+        }
+        return value.expiresAt() > 0 ? value.expiresAt() - System.currentTimeMillis() : -1;
+    }
+
+    public synchronized void flushAll() {
+        data.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        for (Connection connection : connections) {
+            connection.close();
+        }
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Connection connection = new Connection(serverSocket.accept());
+                connections.add(connection);
+                executor.execute(connection::serve);
+            } catch (IOException e) {
+                if (running) {
+                    throw new IllegalStateException("LocalRedisServer accept failed", e);
+                }
+            }
+        }
+    }
+
+    // ===== 명령 처리 =====
+
+    private synchronized Object execute(Connection connection, List<byte[]> args) {
+        String command = str(args.get(0)).toUpperCase(Locale.ROOT);
+        long now = System.currentTimeMillis();
+        switch (command) {
+            case "PING":
+                return args.size() > 1 ? args.get(1) : new Status("PONG");
+            case "ECHO":
+                return args.get(1);
+            case "CLIENT":
+            case "SELECT":
+            case "FLUSHDB":
+            case "FLUSHALL":
+                if (command.startsWith("FLUSH")) {
+                    data.clear();
+                }
+                return Status.OK;
+            case "GET": {
+                Value value = live(str(args.get(1)));
+                if (value != null && value.string() == null) {
+                    return wrongType();
+                }
+                return value != null ? value.string() : null;
+            }
+            case "SET":
+                return set(args, now);
+            case "MGET": {
+                List<Object> values = new ArrayList<>();
+                for (int i = 1; i < args.size(); i++) {
+                    Value value = live(str(args.get(i)));
+                    values.add(value != null ? value.string() : null);
+                }
+                return values;
+            }
+            case "DEL":
+            case "UNLINK": {
+                long deleted = 0;
+                for (int i = 1; i < args.size(); i++) {
+                    if (live(str(args.get(i))) != null) {
+                        data.remove(str(args.get(i)));
+                        deleted++;
+                    }
+                }
+                return deleted;
+            }
+            case "EXISTS": {
+                long count = 0;
+                for (int i = 1; i < args.size(); i++) {
+                    if (live(str(args.get(i))) != null) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+            case "EXPIRE":
+            case "PEXPIRE": {
+                String key = str(args.get(1));
+                Value value = live(key);
+                if (value == null) {
+                    return 0L;
+                }
+                long amount = Long.parseLong(str(args.get(2)));
+                long millis = command.equals("EXPIRE") ? amount * 1000 : amount;
+                data.put(key, new Value(value.string(), value.set(), now + millis));
+                return 1L;
+            }
+            case "TTL":
+            case "PTTL": {
+                long pttl = pttl(str(args.get(1)));
+                return pttl < 0 || command.equals("PTTL") ? pttl : pttl / 1000;
+            }
+            case "SADD":
+            case "SREM":
+                return setUpdate(command.equals("SADD"), args);
+            case "SMEMBERS":
+            case "SCARD": {
+                Value value = live(str(args.get(1)));
+                if (value != null && value.set() == null) {
+                    return wrongType();
+                }
+                Set<String> members = value != null ? value.set() : Set.of();
+                if (command.equals("SCARD")) {
+                    return (long) members.size();
+                }
+                return members.stream().map(member -> (Object) bytes(member)).toList();
+            }
+            case "SCAN":
+            case "KEYS":
+                return scan(command, args);
+            case "DBSIZE":
+                return (long) new ArrayList<>(data.keySet()).stream().filter(key -> live(key) != null).count();
+            case "PUBLISH": {
+                Set<Connection> targets = subscribers.getOrDefault(str(args.get(1)), Set.of());
+                for (Connection target : targets) {
+                    target.push(List.of(bytes("message"), args.get(1), args.get(2)));
+                }
+                return (long) targets.size();
+            }
+            case "SUBSCRIBE":
+            case "UNSUBSCRIBE":
+                connection.subscription(command.equals("SUBSCRIBE"), args);
+                return NO_REPLY;
+            case "QUIT":
+                connection.quit = true;
+                return Status.OK;
+            default:
+                return new Error("ERR unknown command `" + command + "`, with args beginning with: ");
+        }
+    }
+
+    private Object set(List<byte[]> args, long now) {
+        String key = str(args.get(1));
+        long expiresAt = 0;
+        boolean nx = false;
+        boolean xx = false;
+        boolean keepTtl = false;
+        for (int i = 3; i < args.size(); i++) {
+            String option = str(args.get(i)).toUpperCase(Locale.ROOT);
+            switch (option) {
+                case "EX" -> expiresAt = now + Long.parseLong(str(args.get(++i))) * 1000;
+                case "PX" -> expiresAt = now + Long.parseLong(str(args.get(++i)));
+                case "NX" -> nx = true;
+                case "XX" -> xx = true;
+                case "KEEPTTL" -> keepTtl = true;
+                default -> {
+                    return new Error("ERR syntax error");
+                }
+            }
+        }
+        Value existing = live(key);
+        if ((nx && existing != null) || (xx && existing == null)) {
+            return null;
+        }
+        if (keepTtl && existing != null) {
+            expiresAt = existing.expiresAt();
+        }
+        data.put(key, new Value(args.get(2), null, expiresAt));
+        return Status.OK;
+    }
+
+    private Object setUpdate(boolean add, List<byte[]> args) {
+        String key = str(args.get(1));
+        Value value = live(key);
+        if (value != null && value.set() == null) {
+            return wrongType();
+        }
+        if (value == null) {
+            if (!add) {
+                return 0L;
+            }
+            value = new Value(null, new LinkedHashSet<>(), 0);
+            data.put(key, value);
+        }
+        long changed = 0;
+        for (int i = 2; i < args.size(); i++) {
+            String member = str(args.get(i));
+            if (add ? value.set().add(member) : value.set().remove(member)) {
+                changed++;
+            }
+        }
+        if (value.set().isEmpty()) {
+            data.remove(key);
+        }
+        return changed;
+    }
+
+    /** SCAN은 한 번에 모든 키를 반환하고 커서 0으로 끝냄 */
+    private Object scan(String command, List<byte[]> args) {
+        String pattern = command.equals("KEYS") ? str(args.get(1)) : "*";
+        for (int i = 2; i < args.size() - 1; i++) {
+            if (str(args.get(i)).equalsIgnoreCase("MATCH")) {
+                pattern = str(args.get(i + 1));
+            }
+        }
+        Pattern regex = globToRegex(pattern);
+        List<Object> keys = new ArrayList<>();
+        for (String key : new ArrayList<>(data.keySet())) {
+            if (live(key) != null && regex.matcher(key).matches()) {
+                keys.add(bytes(key));
+            }
+        }
+        return command.equals("KEYS") ? keys : List.of(bytes("0"), keys);
+    }
+
+    private Value live(String key) {
+        Value value = data.get(key);
+        if (value != null && value.isExpired(System.currentTimeMillis())) {
+            data.remove(key);
+            return null;
+        }
+        return value;
+    }
+
+    private static Error wrongType() {
+        return new Error("WRONGTYPE Operation against a key holding the wrong kind of value");
+    }
+
+    private static Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static String str(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // ===== RESP 입출력 =====
+
+    private record Status(String text) {
+        static final Status OK = new Status("OK");
+    }
+
+    private record Error(String message) {}
+
+    private static final Object NO_REPLY = new Object();
+
+    private class Connection {
+
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+        private final Set<String> channels = new CopyOnWriteArraySet<>();
+        private boolean quit;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        void serve() {
+            try {
+                while (running && !quit) {
+                    List<byte[]> args = readCommand();
+                    if (args.isEmpty()) {
+                        continue;
+                    }
+                    Object reply = execute(this, args);
+                    if (reply != NO_REPLY) {
+                        reply(reply);
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                // 클라이언트 연결 종료
+            } finally {
+                close();
+            }
+        }
+
+        void subscription(boolean subscribe, List<byte[]> args) {
+            List<String> names = new ArrayList<>();
+            for (int i = 1; i < args.size(); i++) {
+                names.add(str(args.get(i)));
+            }
+            if (!subscribe && names.isEmpty()) {
+                names.addAll(channels);
+            }
+            for (String channel : names) {
+                if (subscribe) {
+                    channels.add(channel);
+                    subscribers.computeIfAbsent(channel, c -> new CopyOnWriteArraySet<>()).add(this);
+                } else {
+                    channels.remove(channel);
+                    Set<Connection> set = subscribers.get(channel);
+                    if (set != null) {
+                        set.remove(this);
+                    }
+                }
+                push(List.of(bytes(subscribe ? "subscribe" : "unsubscribe"), bytes(channel), (long) channels.size()));
+            }
+        }
+
+        synchronized void push(List<Object> message) {
+            try {
+                reply(message);
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        synchronized void reply(Object reply) throws IOException {
+            write(reply);
+            out.flush();
+        }
+
+        void close() {
+            connections.remove(this);
+            for (String channel : channels) {
+                Set<Connection> set = subscribers.get(channel);
+                if (set != null) {
+                    set.remove(this);
+                }
+            }
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // 이미 닫힘
+            }
+        }
+
+        private void write(Object reply) throws IOException {
+            if (reply == null) {
+                out.write(bytes("$-1\r\n"));
+            } else if (reply instanceof Status status) {
+                out.write(bytes("+" + status.text() + "\r\n"));
+            } else if (reply instanceof Error error) {
+                out.write(bytes("-" + error.message() + "\r\n"));
+            } else if (reply instanceof Long number) {
+                out.write(bytes(":" + number + "\r\n"));
+            } else if (reply instanceof byte[] bulk) {
+                out.write(bytes("$" + bulk.length + "\r\n"));
+                out.write(bulk);
+                out.write(bytes("\r\n"));
+            } else if (reply instanceof List<?> list) {
+                out.write(bytes("*" + list.size() + "\r\n"));
+                for (Object item : list) {
+                    write(item);
+                }
+            } else {
+                throw new IllegalArgumentException("Unsupported reply: " + reply);
+            }
+        }
+
+        /** RESP 배열 명령 또는 인라인 명령(공백 구분) 읽기 */
+        private List<byte[]> readCommand() throws IOException {
+            int first = in.read();
+            if (first == -1) {
+                throw new EOFException();
+            }
+            if (first != '*') {
+                String inline = (char) first + readLine();
+                List<byte[]> args = new ArrayList<>();
+                for (String part : inline.trim().split("\\s+")) {
+                    if (!part.isEmpty()) {
+                        args.add(bytes(part));
+                    }
+                }
+                return args;
+            }
+            int count = Integer.parseInt(readLine());
+            List<byte[]> args = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                if (in.read() != '$') {
+                    throw new IOException("Protocol error: expected bulk string");
+                }
+                int length = Integer.parseInt(readLine());
+                byte[] arg = in.readNBytes(length);
+                if (arg.length != length) {
+                    throw new EOFException();
+                }
+                readLine();
+                args.add(arg);
+            }
+            return args;
+        }
+
+        private String readLine() throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                if (b == '\r') {
+                    in.read(); // '\n'
+                    return line.toString(StandardCharsets.UTF_8);
+                }
+                line.write(b);
+            }
+            throw new EOFException();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.github.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 생성/상태 변경/삭제 순서대로 증분 반영한 카운터가 post 원본으로 재생성한 값과 같은지 확인
+ * MySQL 대신 H2(MySQL 호환 모드)를 사용
+ */
+class PostCounterJdbcRepositoryTest {
+
+    private JdbcTemplate jdbc;
+    private PostCounterJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:post_counter;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        repository = new PostCounterJdbcRepository(jdbc);
+
+        jdbc.execute("DROP ALL OBJECTS");
+        jdbc.execute("CREATE TABLE sub_area (sub_area_id INT PRIMARY KEY, area_id INT NOT NULL, name VARCHAR(100) NOT NULL)");
+        jdbc.execute("""
+            CREATE TABLE post (
+                post_id       INT AUTO_INCREMENT PRIMARY KEY,
+                sub_area_id   INT NOT NULL,
+                area_id       INT,
+                reporter_id   INT NOT NULL,
+                check_status  TINYINT,
+                action_status TINYINT
+            )
+            """);
+        repository.createTableIfNotExists();
+
+        jdbc.update("INSERT INTO sub_area (sub_area_id, area_id, name) VALUES (10, 1, 'A-1'), (11, 1, 'A-2'), (20, 2, 'B-1')");
+    }
+
+    @Test
+    void incrementalUpdatesMatchRebuild() {
+        long first = insertPost(10, 1, 7);
+        long second = insertPost(10, 1, 8);
+        long third = insertPost(20, 2, 7);
+        insertPost(11, null, 8);  // area_id가 없는 예전 행은 관리구역 카운터에서 제외
+
+        // 상태 변경: 변경 전 -1, 변경 후 +1
+        repository.applyPost(first, -1);
+        jdbc.update("UPDATE post SET check_status = 1, action_status = 1 WHERE post_id = ?", first);
+        repository.applyPost(first, 1);
+
+        // 소구역 이동
+        repository.applyPost(second, -1);
+        jdbc.update("UPDATE post SET sub_area_id = 11, check_status = 1 WHERE post_id = ?", second);
+        repository.applyPost(second, 1);
+
+        repository.applyPost(third, -1);
+        jdbc.update("DELETE FROM post WHERE post_id = ?", third);
+
+        assertThat(repository.countAll()).isEqualTo(3);
+        assertThat(repository.findBySubArea(10L)).isEqualTo(new PostCounterJdbcRepository.PostCounts(1, 1, 1));
+        assertThat(repository.findBySubArea(11L)).isEqualTo(new PostCounterJdbcRepository.PostCounts(2, 1, 0));
+        assertThat(repository.findByArea(1L)).isEqualTo(new PostCounterJdbcRepository.PostCounts(2, 2, 1));
+        assertThat(repository.findByArea(2L)).isEqualTo(PostCounterJdbcRepository.PostCounts.EMPTY);
+        assertThat(repository.findBySubAreas(List.of(10L, 11L, 20L, 99L)))
+                .containsKeys(10L, 11L)
+                .doesNotContainKey(99L);
+
+        List<Map<String, Object>> incremental = nonZeroCounters();
+        repository.rebuildAll();
+        assertThat(nonZeroCounters()).isEqualTo(incremental);
+    }
+
+    @Test
+    void cascadeDeletesAreSubtractedBeforeRowsAreRemoved() {
+        insertPost(10, 1, 7);
+        insertPost(11, 1, 8);
+        insertPost(20, 2, 7);
+        repository.rebuildAll();
+
+        AreaJdbcRepository areaRepository = new AreaJdbcRepository(jdbc,
+                new UploadBlobJdbcRepository(jdbc, new DataSourceTransactionManager(jdbc.getDataSource())));
+        assertThat(areaRepository.getReferenceInfo(1L).getPostCount()).isEqualTo(2);
+        assertThat(areaRepository.getReferenceInfo(1L).getSubAreaCount()).isEqualTo(2);
+
+        // 사용자 7 삭제 → 작성 게시글 제외
+        repository.applyReporterPosts(7, -1);
+        jdbc.update("DELETE FROM post WHERE reporter_id = 7");
+        assertThat(repository.countAll()).isEqualTo(1);
+        assertThat(repository.findByArea(2L).postCount()).isZero();
+
+        // 관리구역 1 삭제 → 관리구역/소속 소구역 카운터 행 제거
+        repository.applyAreaPosts(1L, -1);
+        repository.deleteByArea(1L);
+        jdbc.update("DELETE FROM post WHERE area_id = 1");
+        assertThat(repository.countAll()).isZero();
+        assertThat(jdbc.queryForObject(
+                "SELECT COUNT(*) FROM post_counter WHERE scope_type IN ('AREA', 'SUB_AREA') AND scope_id IN (1, 10, 11)",
+                Integer.class)).isZero();
+        assertThat(areaRepository.getReferenceInfo(1L).getPostCount()).isZero();
+    }
+
+    @Test
+    void knownStatusChangeIsAppliedWithoutReadingPost() {
+        long postId = insertPost(10, 1, 7);
+
+        jdbc.update("UPDATE post SET check_status = 1, action_status = 1 WHERE post_id = ?", postId);
+        repository.applyStatusChange(10L, 1L, 1, 1);
+
+        List<Map<String, Object>> incremental = nonZeroCounters();
+        repository.rebuildAll();
+        assertThat(nonZeroCounters()).isEqualTo(incremental);
+        assertThat(repository.findByArea(1L)).isEqualTo(new PostCounterJdbcRepository.PostCounts(1, 1, 1));
+    }
+
+    @Test
+    void bulkChangeIsAppliedOnceForAllPosts() {
+        long first = insertPost(10, 1, 7);
+        long second = insertPost(11, 1, 8);
+        long third = insertPost(20, 2, 7);
+        List<Long> postIds = List.of(first, second, third);
+
+        repository.applyPosts(postIds, -1);
+        jdbc.update("UPDATE post SET check_status = 1, action_status = 1 WHERE post_id IN (?, ?, ?)", first, second, third);
+        repository.applyPosts(postIds, 1);
+
+        List<Map<String, Object>> incremental = nonZeroCounters();
+        repository.rebuildAll();
+        assertThat(nonZeroCounters()).isEqualTo(incremental);
+        assertThat(repository.findByArea(1L)).isEqualTo(new PostCounterJdbcRepository.PostCounts(2, 2, 2));
+    }
+
+    private long insertPost(int subAreaId, Integer areaId, int reporterId) {
+        jdbc.update("INSERT INTO post (sub_area_id, area_id, reporter_id, check_status, action_status) VALUES (?, ?, ?, 0, 0)",
+                subAreaId, areaId, reporterId);
+        Long postId = jdbc.queryForObject("SELECT MAX(post_id) FROM post", Long.class);
+        repository.applyPost(postId, 1);
+        return postId;
+    }
+
+    private List<Map<String, Object>> nonZeroCounters() {
+        return jdbc.queryForList("""
+            SELECT scope_type, scope_id, post_count, checked_count, action_count FROM post_counter
+            WHERE post_count <> 0 OR checked_count <> 0 OR action_count <> 0
+            ORDER BY scope_type, scope_id
+            """);
+    }
+}
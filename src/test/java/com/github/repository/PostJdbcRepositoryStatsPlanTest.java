@@ -0,0 +1,276 @@
+package com.github.repository;
+
+import com.github.entity.PostEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 통계 집계 쿼리의 기간 조건이 created_at 인덱스 범위 스캔으로 실행되는지 확인
+ * 상태 필터 피드와 예전 VARCHAR 값의 TINYINT 컬럼 채우기, 버전 확인 수정도 함께 확인
+ * MySQL 대신 H2(MySQL 호환 모드)를 사용하며, 인덱스 정의는 DatabaseMigration과 동일하게 유지
+ */
+class PostJdbcRepositoryStatsPlanTest {
+
+    // H2 실행 계획에서 post 테이블 접근이 created_at 범위 조건을 가진 인덱스로 이루어졌는지 확인
+    private static final Pattern CREATED_AT_INDEX_RANGE = Pattern.compile("IDX_POST_\\w+: [^*]*CREATED_AT >=");
+
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    private JdbcTemplate jdbc;
+    private PostJdbcRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:post_stats_plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        repository = new PostJdbcRepository(jdbc,
+                new UploadBlobJdbcRepository(jdbc, new DataSourceTransactionManager(dataSource)));
+
+        jdbc.execute("DROP ALL OBJECTS");
+        jdbc.execute("CREATE TABLE area (area_id INT PRIMARY KEY, name VARCHAR(100) NOT NULL)");
+        jdbc.execute("CREATE TABLE sub_area (sub_area_id INT PRIMARY KEY, area_id INT NOT NULL, name VARCHAR(100) NOT NULL)");
+        jdbc.execute("""
+            CREATE TABLE post (
+                post_id             INT AUTO_INCREMENT PRIMARY KEY,
+                sub_area_id         INT NOT NULL,
+                area_id             INT,
+                reporter_id         INT NOT NULL,
+                title               VARCHAR(200) NOT NULL,
+                content             TEXT NOT NULL,
+                reporter_risk       VARCHAR(50) NOT NULL,
+                manager_risk        VARCHAR(50),
+                is_checked          VARCHAR(50),
+                is_action_taken     VARCHAR(50),
+                created_at          TIMESTAMP NOT NULL,
+                updated_at          TIMESTAMP,
+                check_status        TINYINT,
+                action_status       TINYINT,
+                reporter_risk_level TINYINT,
+                manager_risk_level  TINYINT,
+                version             INT NOT NULL DEFAULT 0
+            )
+            """);
+        jdbc.execute("CREATE INDEX idx_post_created_at ON post (created_at, post_id)");
+        jdbc.execute("CREATE INDEX idx_post_sub_area_created_at ON post (sub_area_id, created_at, post_id)");
+        jdbc.execute("CREATE INDEX idx_post_area_created_at ON post (area_id, created_at)");
+        jdbc.execute("CREATE INDEX idx_post_stats_status ON post (created_at, sub_area_id, action_status, reporter_risk_level)");
+        jdbc.execute("CREATE INDEX idx_post_check_created ON post (check_status, created_at, post_id)");
+        jdbc.execute("CREATE INDEX idx_post_action_created ON post (action_status, created_at, post_id)");
+
+        jdbc.update("INSERT INTO area (area_id, name) VALUES (1, 'A블록'), (2, 'B블록')");
+        jdbc.update("INSERT INTO sub_area (sub_area_id, area_id, name) VALUES (10, 1, 'A-1'), (20, 2, 'B-1')");
+    }
+
+    @Test
+    void statsPeriodPredicateUsesCreatedAtIndex() {
+        insertPosts(200);
+
+        String plan = explain("""
+            SELECT a.area_id, COUNT(p.post_id)
+            FROM post p
+            JOIN sub_area s ON p.sub_area_id = s.sub_area_id
+            JOIN area a     ON s.area_id = a.area_id
+            WHERE p.created_at >= ? AND p.created_at < ?
+            GROUP BY a.area_id
+            """);
+
+        assertThat(CREATED_AT_INDEX_RANGE.matcher(plan).find())
+                .as("실행 계획: %s", plan)
+                .isTrue();
+    }
+
+    @Test
+    void legacyDatePredicateCannotUseCreatedAtIndex() {
+        insertPosts(200);
+
+        // 이전 쿼리 형태: 컬럼을 DATE()로 감싸면 인덱스 범위 조건으로 쓰이지 않음
+        String plan = explain("""
+            SELECT a.area_id, COUNT(p.post_id)
+            FROM post p
+            JOIN sub_area s ON p.sub_area_id = s.sub_area_id
+            JOIN area a     ON s.area_id = a.area_id
+            WHERE DATE(p.created_at) BETWEEN ? AND ?
+            GROUP BY a.area_id
+            """);
+
+        assertThat(CREATED_AT_INDEX_RANGE.matcher(plan).find())
+                .as("실행 계획: %s", plan)
+                .isFalse();
+    }
+
+    @Test
+    void halfOpenRangeMatchesInclusiveDates() {
+        // 경계값: from 이전 1ms / from 00:00 / to 23:59:59 / to 다음날 00:00
+        insertPost(10, "3", "0", FROM.atStartOfDay().minusNanos(1_000_000));
+        insertPost(10, "3", "0", FROM.atStartOfDay());
+        insertPost(10, "3", "0", TO.atTime(23, 59, 59));
+        insertPost(10, "3", "0", TO.plusDays(1).atStartOfDay());
+        insertPost(20, "2", "0", TO.atStartOfDay());
+
+        List<Map<String, Object>> counts = repository.countReportsByBlock(FROM, TO);
+
+        assertThat(counts).hasSize(2);
+        assertThat(counts.get(0)).containsEntry("blockId", 1L).containsEntry("reportCount", 2);
+        assertThat(counts.get(1)).containsEntry("blockId", 2L).containsEntry("reportCount", 1);
+    }
+
+    @Test
+    void highRiskActionsUseNumericRiskColumn() {
+        insertPost(10, "5", "Y", FROM.atTime(9, 0));
+        insertPost(10, "3", "Y", FROM.atTime(10, 0));
+        insertPost(10, "2", "Y", FROM.atTime(11, 0));
+        insertPost(10, "5", "N", FROM.atTime(12, 0));
+
+        List<Map<String, Object>> rows = repository.countHighRiskActions(FROM, TO);
+
+        assertThat(rows).extracting(row -> row.get("riskScore")).containsExactly(3, 5);
+        assertThat(rows).extracting(row -> row.get("actionCount")).containsExactly(1, 1);
+    }
+
+    @Test
+    void statusFilteredFeedUsesStatusIndex() {
+        insertPosts(300);
+
+        String plan = jdbc.queryForObject("""
+            EXPLAIN SELECT p.post_id FROM post p
+            WHERE 1 = 1 AND p.action_status = ?
+            ORDER BY p.created_at DESC, p.post_id DESC LIMIT ?
+            """, String.class, 1, 20);
+
+        assertThat(plan == null ? "" : plan.toUpperCase())
+                .as("실행 계획: %s", plan)
+                .contains("IDX_POST_ACTION_CREATED: ACTION_STATUS =");
+    }
+
+    @Test
+    void statusFilteredCursorFeedReturnsOnlyMatchingPosts() {
+        insertPost(10, "3", "1", FROM.atTime(9, 0));
+        insertPost(10, "3", "0", FROM.atTime(10, 0));
+        insertPost(10, "4", "Y", FROM.atTime(11, 0));
+        insertPost(20, "4", "1", FROM.atTime(12, 0));
+
+        List<PostEntity> actioned = repository.findBySubAreaByCursor(10L, null, null, 10, null, 1);
+
+        assertThat(actioned).extracting(PostEntity::getReporterRiskScore).containsExactly(4, 3);
+        assertThat(repository.findBySubAreaByCursor(10L, null, null, 10, null, 0)).hasSize(1);
+    }
+
+    @Test
+    void backfillNormalizesLegacyValuesInChunks() {
+        insertLegacyPost("1", "Y", "5", null);
+        insertLegacyPost("0", "1", "abc", "2");
+        insertLegacyPost(null, " y ", "3", "9");
+        insertLegacyPost("N", null, " 2 ", " 4");
+        insertPost(10, "1", "0", FROM.atTime(9, 0));
+
+        assertThat(repository.backfillStatusColumns(2)).isEqualTo(4);
+        assertThat(repository.backfillStatusColumns(2)).isZero();
+
+        List<Map<String, Object>> rows = jdbc.queryForList(
+                "SELECT check_status, action_status, reporter_risk_level, manager_risk_level FROM post ORDER BY post_id");
+        assertThat(rows).extracting(row -> toInt(row.get("check_status"))).containsExactly(1, 0, 0, 0, 0);
+        assertThat(rows).extracting(row -> toInt(row.get("action_status"))).containsExactly(1, 1, 1, 0, 0);
+        assertThat(rows).extracting(row -> toInt(row.get("reporter_risk_level"))).containsExactly(5, 0, 3, 2, 1);
+        assertThat(rows).extracting(row -> toInt(row.get("manager_risk_level"))).containsExactly(null, 2, null, 4, null);
+    }
+
+    @Test
+    void legacyColumnUpdatesAlsoWriteTypedColumns() {
+        Map<String, Object> columns = PostJdbcRepository.withStatusColumns(Map.of(
+                "is_action_taken", "Y", "manager_risk", "4", "reporter_risk", "x"));
+
+        assertThat(columns)
+                .containsEntry("is_action_taken", "1")
+                .containsEntry("action_status", 1)
+                .containsEntry("manager_risk_level", 4)
+                .containsEntry("reporter_risk_level", 0)
+                .doesNotContainKey("check_status");
+    }
+
+    @Test
+    void versionCheckedUpdateRejectsStaleVersion() {
+        insertPost(10, "3", "0", FROM.atTime(9, 0));
+        Long postId = jdbc.queryForObject("SELECT MAX(post_id) FROM post", Long.class);
+
+        assertThat(repository.updateIfVersion(postId, Map.of("is_checked", 1), 0)).isEqualTo(1);
+        // 같은 버전으로 읽은 다른 요청은 반영되지 않음
+        assertThat(repository.updateIfVersion(postId, Map.of("is_checked", 0), 0)).isZero();
+        assertThat(repository.findVersion(postId)).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT check_status FROM post WHERE post_id = ?", Integer.class, postId)).isEqualTo(1);
+
+        // 버전 없이 수정해도 버전은 올라감
+        assertThat(repository.updateIfVersion(postId, Map.of("manager_risk", "4"), null)).isEqualTo(1);
+        assertThat(repository.findVersion(postId)).isEqualTo(2);
+        assertThat(repository.findVersion(postId + 1)).isNull();
+    }
+
+    @Test
+    void batchUpdateAppliesSameChangeToEveryPostAndReportsMissingOnes() {
+        insertPost(10, "3", "0", FROM.atTime(9, 0));
+        insertPost(20, "2", "0", FROM.atTime(10, 0));
+        Long last = jdbc.queryForObject("SELECT MAX(post_id) FROM post", Long.class);
+
+        boolean[] updated = repository.batchUpdate(List.of(last - 1, last + 100, last),
+                Map.of("is_action_taken", 1, "manager_risk", "5"));
+
+        assertThat(updated).containsExactly(true, false, true);
+        assertThat(jdbc.queryForList(
+                "SELECT action_status, manager_risk_level, version FROM post ORDER BY post_id"))
+                .allSatisfy(row -> {
+                    assertThat(toInt(row.get("action_status"))).isEqualTo(1);
+                    assertThat(toInt(row.get("manager_risk_level"))).isEqualTo(5);
+                    assertThat(toInt(row.get("version"))).isEqualTo(1);
+                });
+    }
+
+    private static Integer toInt(Object value) {
+        return value == null ? null : ((Number) value).intValue();
+    }
+
+    private String explain(String sql) {
+        String plan = jdbc.queryForObject("EXPLAIN " + sql, String.class,
+                Timestamp.valueOf(FROM.atStartOfDay()), Timestamp.valueOf(TO.plusDays(1).atStartOfDay()));
+        return plan == null ? "" : plan.toUpperCase();
+    }
+
+    // 기간 밖 데이터가 대부분인 상황을 만들어 인덱스 선택을 유도
+    private void insertPosts(int count) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 0; i < count; i++) {
+            insertPost(i % 2 == 0 ? 10 : 20, String.valueOf(i % 5 + 1), i % 3 == 0 ? "1" : "0", base.plusDays(i * 2L));
+        }
+    }
+
+    // 현재 버전의 INSERT처럼 예전 VARCHAR 컬럼과 TINYINT 컬럼을 함께 기록
+    private void insertPost(int subAreaId, String risk, String actionTaken, LocalDateTime createdAt) {
+        int actionStatus = PostJdbcRepository.statusFlag(actionTaken);
+        jdbc.update("""
+            INSERT INTO post (sub_area_id, area_id, reporter_id, title, content, reporter_risk, is_checked, is_action_taken,
+                              check_status, action_status, reporter_risk_level, created_at)
+            VALUES (?, ?, 1, '제목', '내용', ?, '0', ?, 0, ?, ?, ?)
+            """, subAreaId, subAreaId / 10, risk, String.valueOf(actionStatus), actionStatus,
+                PostJdbcRepository.riskLevel(risk), Timestamp.valueOf(createdAt));
+    }
+
+    // TINYINT 컬럼이 추가되기 전에 저장된 행 (새 컬럼이 NULL)
+    private void insertLegacyPost(String checked, String actionTaken, String reporterRisk, String managerRisk) {
+        jdbc.update("""
+            INSERT INTO post (sub_area_id, area_id, reporter_id, title, content, reporter_risk, manager_risk, is_checked, is_action_taken, created_at)
+            VALUES (10, 1, 1, '제목', '내용', ?, ?, ?, ?, ?)
+            """, reporterRisk, managerRisk, checked, actionTaken, Timestamp.valueOf(FROM.atTime(8, 0)));
+    }
+}
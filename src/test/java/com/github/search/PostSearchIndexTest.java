@@ -0,0 +1,102 @@
+package com.github.search;
+
+import com.github.entity.PostEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * n-gram 역색인 검색, 필터 교집합, 색인 교체/삭제와 일괄 적재 중 삭제 처리 확인
+ */
+class PostSearchIndexTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Test
+    void findsKoreanTextRegardlessOfParticlesAndReturnsNewestFirst() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.put(post(1, 10, 1, "안전모 미착용", "작업자가 안전모를 쓰지 않음", DAY));
+        index.put(post(2, 20, 2, "추락 위험", "비계 난간에 안전모가 걸려 있음", DAY));
+        index.put(post(3, 10, 1, "화재 위험", "용접 불티", DAY));
+
+        assertThat(index.search("안전모", PostSearchIndex.Filter.NONE, 0, 10).postIds()).containsExactly(2L, 1L);
+        assertThat(index.search("불", PostSearchIndex.Filter.NONE, 0, 10).postIds()).containsExactly(3L);
+        assertThat(index.search("ＡＢ", PostSearchIndex.Filter.NONE, 0, 10).totalCount()).isZero();
+
+        PostSearchIndex.Result page = index.search("위험", PostSearchIndex.Filter.NONE, 1, 1);
+        assertThat(page.totalCount()).isEqualTo(2);
+        assertThat(page.postIds()).containsExactly(2L);
+    }
+
+    @Test
+    void areaSubAreaAndDateFiltersNarrowTheMatches() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.put(post(1, 10, 1, "누수", "배관 누수", DAY));
+        index.put(post(2, 11, 1, "누수", "천장 누수", DAY.plusDays(5)));
+        index.put(post(3, 20, 2, "누수", "지하 누수", DAY));
+
+        assertThat(search(index, new PostSearchIndex.Filter(1L, null, null, null))).containsExactly(2L, 1L);
+        assertThat(search(index, new PostSearchIndex.Filter(null, 11L, null, null))).containsExactly(2L);
+        assertThat(search(index, new PostSearchIndex.Filter(null, null, DAY, DAY))).containsExactly(3L, 1L);
+        assertThat(search(index, new PostSearchIndex.Filter(1L, null, DAY.plusDays(1), null))).containsExactly(2L);
+        assertThat(search(index, new PostSearchIndex.Filter(99L, null, null, null))).isEmpty();
+    }
+
+    @Test
+    void updatesAndDeletesReplaceIndexedPostings() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.put(post(1, 10, 1, "누수", "배관", DAY));
+        index.put(post(2, 20, 2, "누수", "천장", DAY));
+
+        index.put(post(1, 10, 1, "균열", "외벽", DAY));
+        assertThat(search(index, PostSearchIndex.Filter.NONE)).containsExactly(2L);
+
+        index.removeByArea(2L);
+        assertThat(search(index, PostSearchIndex.Filter.NONE)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+
+        index.remove(1L);
+        assertThat(index.size()).isZero();
+        assertThat(index.termCount()).isZero();
+    }
+
+    @Test
+    void bulkLoadDoesNotOverwriteNewerOrRemovedPosts() {
+        PostSearchIndex index = new PostSearchIndex();
+        index.beginBulkLoad();
+        // 적재 중 생성/수정 이벤트로 먼저 들어온 최신 상태, 적재 중 삭제된 게시글
+        index.put(post(2, 10, 1, "누수 조치", "", DAY));
+        index.remove(3L);
+
+        int added = index.putAllIfAbsent(List.of(
+                post(3, 10, 1, "누수", "삭제된 게시글", DAY),
+                post(1, 10, 1, "누수", "배관", DAY),
+                post(2, 10, 1, "누수", "예전 내용", DAY)));
+        index.endBulkLoad();
+
+        assertThat(added).isEqualTo(1);
+        assertThat(search(index, PostSearchIndex.Filter.NONE)).containsExactly(2L, 1L);
+        assertThat(index.search("조치", PostSearchIndex.Filter.NONE, 0, 10).postIds()).containsExactly(2L);
+    }
+
+    private static List<Long> search(PostSearchIndex index, PostSearchIndex.Filter filter) {
+        return index.search("누수", filter, 0, 10).postIds();
+    }
+
+    private static PostEntity post(long postId, long subAreaId, long areaId, String title, String content, LocalDate day) {
+        return PostEntity.builder()
+                .postId(postId)
+                .subAreaId(subAreaId)
+                .areaId(areaId)
+                .reporterId(7L)
+                .title(title)
+                .content(content)
+                .createdAt(LocalDateTime.of(day, LocalTime.NOON))
+                .build();
+    }
+}
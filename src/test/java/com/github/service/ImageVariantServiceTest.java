@@ -0,0 +1,113 @@
+package com.github.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 원본 blob에서 너비별 축소본(JPEG)이 생성되는지, URL이 원본 URL에서 계산되는지 확인
+ * 실행기는 호출 스레드에서 바로 실행하도록 대체
+ */
+class ImageVariantServiceTest {
+
+    private static final String SHA256 = "ab".repeat(32);
+    private static final String BLOB_URL = "/uploads/blobs/ab/ab/" + SHA256 + ".png";
+
+    @TempDir
+    Path uploadDir;
+
+    private ImageVariantService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ImageVariantService(Runnable::run);
+        ReflectionTestUtils.setField(service, "uploadDir", uploadDir.toString());
+    }
+
+    @Test
+    void variantUrlsAreDerivedFromBlobUrl() {
+        Map<Integer, String> urls = ImageVariantService.variantUrls("https://example.com/api" + BLOB_URL);
+
+        assertThat(urls).containsExactly(
+                Map.entry(160, "https://example.com/api/uploads/blobs/ab/ab/" + SHA256 + "_w160.jpg"),
+                Map.entry(480, "https://example.com/api/uploads/blobs/ab/ab/" + SHA256 + "_w480.jpg"),
+                Map.entry(1080, "https://example.com/api/uploads/blobs/ab/ab/" + SHA256 + "_w1080.jpg"));
+        // 예전 방식(해시 경로가 아닌) 파일은 축소본이 없음
+        assertThat(ImageVariantService.variantUrls("/uploads/post_1_legacy.jpg")).isEmpty();
+        assertThat(ImageVariantService.variantUrls(null)).isEmpty();
+    }
+
+    @Test
+    void generatesEachWidthWithoutUpscaling() throws Exception {
+        writeSource(800, 400);
+
+        service.generateAfterCommit(BLOB_URL);
+
+        assertThat(variantSize(160)).isEqualTo(new int[]{160, 80});
+        assertThat(variantSize(480)).isEqualTo(new int[]{480, 240});
+        // 원본(800px)보다 큰 너비는 원본 크기 그대로
+        assertThat(variantSize(1080)).isEqualTo(new int[]{800, 400});
+        try (var temp = Files.list(uploadDir.resolve(".tmp"))) {
+            assertThat(temp).isEmpty();
+        }
+    }
+
+    @Test
+    void existingVariantsAreNotRegenerated() throws Exception {
+        writeSource(600, 600);
+        service.generateAfterCommit(BLOB_URL);
+        Path variant = variantPath(160);
+        long modifiedAt = Files.getLastModifiedTime(variant).toMillis();
+
+        Files.delete(variantPath(480));
+        service.generateAfterCommit(BLOB_URL);
+
+        assertThat(Files.getLastModifiedTime(variant).toMillis()).isEqualTo(modifiedAt);
+        assertThat(variantPath(480)).exists();
+    }
+
+    @Test
+    void missingVariantIsRegeneratedOnRequest() throws Exception {
+        writeSource(600, 300);
+        String variant = variantPath(480).toString().substring(uploadDir.toString().length() + 1);
+
+        // 비동기 생성이 빠진 경우에도 요청 시 원본에서 생성, 정해진 너비가 아니거나 원본이 없으면 생성하지 않음
+        assertThat(service.regenerate(variant)).isTrue();
+        assertThat(variantSize(480)).isEqualTo(new int[]{480, 240});
+        assertThat(service.regenerate(variant.replace("_w480", "_w333"))).isFalse();
+        assertThat(service.regenerate(variant.replace(SHA256, "cd".repeat(32)))).isFalse();
+        assertThat(service.regenerate("post_1_legacy_w480.jpg")).isFalse();
+    }
+
+    private void writeSource(int width, int height) throws Exception {
+        // 알파 채널이 있는 PNG (JPEG 변환 시 흰 배경에 합성)
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, ((x + y) % 2 == 0 ? 0x80 : 0xFF) << 24 | (x * 7 & 0xFF) << 16 | (y * 3 & 0xFF));
+            }
+        }
+        Path source = uploadDir.resolve(BLOB_URL.substring("/uploads/".length()));
+        Files.createDirectories(source.getParent());
+        ImageIO.write(image, "png", source.toFile());
+    }
+
+    private Path variantPath(int width) {
+        String url = ImageVariantService.variantUrls(BLOB_URL).get(width);
+        return uploadDir.resolve(url.substring("/uploads/".length()));
+    }
+
+    private int[] variantSize(int width) throws Exception {
+        BufferedImage variant = ImageIO.read(variantPath(width).toFile());
+        return new int[]{variant.getWidth(), variant.getHeight()};
+    }
+}
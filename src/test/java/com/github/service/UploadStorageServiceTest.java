@@ -0,0 +1,246 @@
+package com.github.service;
+
+import com.github.constants.FileConstants;
+import com.github.exception.InvalidUploadException;
+import com.github.repository.UploadBlobJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 업로드 저장 시 형식/크기 검증, 내용 해시 경로 저장과 중복 제거/참조 해제 확인
+ * upload_blob 테이블은 H2(MySQL 호환 모드)로 대신함
+ */
+class UploadStorageServiceTest {
+
+    private static final byte[] PNG_MAGIC = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+    @TempDir
+    Path uploadDir;
+
+    private JdbcTemplate jdbc;
+    private TransactionTemplate transaction;
+    private UploadBlobJdbcRepository blobRepository;
+    private UploadStorageService service;
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:upload_blob;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP ALL OBJECTS");
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        transaction = new TransactionTemplate(transactionManager);
+
+        blobRepository = new UploadBlobJdbcRepository(jdbc, transactionManager);
+        ReflectionTestUtils.setField(blobRepository, "uploadDir", uploadDir.toString());
+        blobRepository.createTableIfNotExists();
+
+        service = new UploadStorageService(blobRepository, executor);
+        ReflectionTestUtils.setField(service, "uploadDir", uploadDir.toString());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void storesImageUnderDetectedExtensionWithContentHash() throws Exception {
+        byte[] content = image(PNG_MAGIC, 100_000);
+
+        UploadStorageService.StoredFile stored =
+                service.store(new MockMultipartFile("image", "photo.jpg", "image/jpeg", content));
+
+        // 원본 파일명(.jpg)이 아니라 매직 바이트(PNG)로 확장자 결정, 경로는 해시 앞 4자리로 분산
+        String sha256 = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        assertThat(stored.sha256()).isEqualTo(sha256);
+        assertThat(stored.filename())
+                .isEqualTo("blobs/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256 + ".png");
+        assertThat(stored.contentType()).isEqualTo("image/png");
+        assertThat(stored.url()).isEqualTo("/uploads/" + stored.filename());
+        assertThat(stored.size()).isEqualTo(content.length);
+        assertThat(Files.readAllBytes(uploadDir.resolve(stored.filename()))).isEqualTo(content);
+        assertThat(blobRepository.refCount(stored.url())).isEqualTo(1);
+        assertThat(tempFiles()).isZero();
+    }
+
+    @Test
+    void duplicateUploadSharesBlobUntilLastReferenceIsReleased() throws Exception {
+        byte[] content = image(PNG_MAGIC, 50_000);
+        Path blob = uploadDir.resolve(service.store(new MockMultipartFile("image", "a.png", "image/png", content)).filename());
+        long modifiedAt = Files.getLastModifiedTime(blob).toMillis();
+
+        UploadStorageService.StoredFile again = service.store(new MockMultipartFile("image", "b.png", "image/png", content));
+
+        assertThat(uploadDir.resolve(again.filename())).isEqualTo(blob);
+        assertThat(Files.getLastModifiedTime(blob).toMillis()).isEqualTo(modifiedAt);
+        assertThat(blobRepository.refCount(again.url())).isEqualTo(2);
+
+        // 트랜잭션 밖에서는 참조가 0이 되는 즉시 파일 삭제, blob 경로가 아닌 URL은 무시하고 도메인이 붙은 URL(프로필)은 상대 경로로 처리
+        blobRepository.release(List.of("https://api.example.com" + again.url(), "/uploads/post_1_legacy.jpg"));
+        assertThat(blob).exists();
+        blobRepository.release(List.of(again.url()));
+        assertThat(blob).doesNotExist();
+        assertThat(blobRepository.refCount(again.url())).isZero();
+    }
+
+    @Test
+    void cleanupKeepsBlobReacquiredBeforeCommit() throws Exception {
+        byte[] content = image(PNG_MAGIC, 20_000);
+        MockMultipartFile upload = new MockMultipartFile("image", "a.png", "image/png", content);
+        UploadStorageService.StoredFile stored = service.store(upload);
+
+        // 같은 트랜잭션에서 참조가 0이 된 뒤 같은 내용이 다시 업로드되면, 커밋 후 정리는 참조 수를 다시 보고 파일을 유지
+        transaction.executeWithoutResult(status -> {
+            blobRepository.release(List.of(stored.url()));
+            try {
+                service.store(upload);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(uploadDir.resolve(stored.filename())).exists();
+        assertThat(blobRepository.refCount(stored.url())).isEqualTo(1);
+    }
+
+    @Test
+    void uploadAfterRowWasCleanedRewritesBlob() throws Exception {
+        byte[] content = image(PNG_MAGIC, 20_000);
+        UploadStorageService.StoredFile stored = service.store(new MockMultipartFile("image", "a.png", "image/png", content));
+        Path blob = uploadDir.resolve(stored.filename());
+        // 정리 작업이 행을 지우고 파일을 지우는 중인 상태 (행은 없고 파일은 아직 남아 있음)
+        jdbc.update("DELETE FROM upload_blob");
+        Files.write(blob, new byte[]{1, 2, 3});
+
+        service.store(new MockMultipartFile("image", "b.png", "image/png", content));
+
+        assertThat(Files.readAllBytes(blob)).isEqualTo(content);
+        assertThat(blobRepository.refCount(stored.url())).isEqualTo(1);
+    }
+
+    @Test
+    void storeAllKeepsOrderAndAcquiresEveryReference() throws Exception {
+        byte[] first = image(PNG_MAGIC, 30_000);
+        byte[] second = image(PNG_MAGIC, 40_000);
+
+        List<UploadStorageService.StoredFile> stored = service.storeAll(List.of(
+                new MockMultipartFile("images", "1.png", "image/png", first),
+                new MockMultipartFile("images", "2.png", "image/png", second),
+                new MockMultipartFile("images", "3.png", "image/png", first)));
+
+        assertThat(stored).extracting(UploadStorageService.StoredFile::size).containsExactly(30_000L, 40_000L, 30_000L);
+        assertThat(stored.get(0).url()).isEqualTo(stored.get(2).url());
+        assertThat(Files.readAllBytes(uploadDir.resolve(stored.get(1).filename()))).isEqualTo(second);
+        assertThat(blobRepository.refCount(stored.get(0).url())).isEqualTo(2);
+        assertThat(blobRepository.refCount(stored.get(1).url())).isEqualTo(1);
+        assertThat(tempFiles()).isZero();
+    }
+
+    @Test
+    void storeAllRejectsBatchWhenAnyFileIsInvalid() throws Exception {
+        List<MockMultipartFile> files = List.of(
+                new MockMultipartFile("images", "1.png", "image/png", image(PNG_MAGIC, 30_000)),
+                new MockMultipartFile("images", "2.png", "image/png", "not an image".getBytes()));
+
+        assertThatThrownBy(() -> service.storeAll(List.copyOf(files)))
+                .isInstanceOf(InvalidUploadException.class);
+        // 참조 수 증가와 기록은 모든 파일의 검증이 끝난 뒤에 수행되므로 아무것도 남지 않음
+        assertThat(uploadDir).isEmptyDirectory();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM upload_blob", Integer.class)).isZero();
+    }
+
+    @Test
+    void storeAllReleasesReferencesWhenWriteFails() throws Exception {
+        byte[] content = image(PNG_MAGIC, 30_000);
+        // 검증 때와 기록 때 내용이 달라지면 기록이 실패함
+        MockMultipartFile changing = new MockMultipartFile("images", "2.png", "image/png", image(PNG_MAGIC, 40_000)) {
+            private int opened;
+
+            @Override
+            public InputStream getInputStream() throws IOException {
+                return ++opened == 1 ? super.getInputStream() : new ByteArrayInputStream(new byte[10]);
+            }
+        };
+
+        assertThatThrownBy(() -> service.storeAll(List.of(
+                new MockMultipartFile("images", "1.png", "image/png", content), changing)))
+                .isInstanceOf(IOException.class);
+        assertThat(jdbc.queryForObject("SELECT SUM(ref_count) FROM upload_blob", Integer.class)).isNull();
+        assertThat(tempFiles()).isZero();
+    }
+
+    @Test
+    void rejectsUnknownTypeBeforeWritingAnything() {
+        MockMultipartFile script = new MockMultipartFile("image", "photo.png", "image/png", "<?php echo 1; ?>".getBytes());
+
+        assertThatThrownBy(() -> service.store(script))
+                .isInstanceOf(InvalidUploadException.class)
+                .satisfies(e -> assertThat(((InvalidUploadException) e).getStatusCode()).isEqualTo(HttpStatus.UNSUPPORTED_MEDIA_TYPE));
+        assertThat(uploadDir).isEmptyDirectory();
+    }
+
+    @Test
+    void enforcesSizeLimitWhileStreaming() throws Exception {
+        byte[] content = image(PNG_MAGIC, (int) FileConstants.MAX_FILE_SIZE + 1);
+        // 선언된 크기가 실제보다 작아도 읽는 도중에 거부되고 임시 파일은 남지 않음
+        MockMultipartFile understated = new MockMultipartFile("image", "photo.png", "image/png", content) {
+            @Override
+            public long getSize() {
+                return 1024;
+            }
+        };
+
+        assertThatThrownBy(() -> service.store(understated))
+                .isInstanceOf(InvalidUploadException.class)
+                .satisfies(e -> assertThat(((InvalidUploadException) e).getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE));
+        assertThat(tempFiles()).isZero();
+        try (Stream<Path> files = Files.list(uploadDir)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    private static byte[] image(byte[] magic, int size) {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i * 31);
+        }
+        System.arraycopy(magic, 0, content, 0, magic.length);
+        return content;
+    }
+
+    private long tempFiles() throws Exception {
+        Path tempDir = uploadDir.resolve(".tmp");
+        if (!Files.exists(tempDir)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.token;
+
+import com.github.jwt.JwtProperties;
+import com.github.redis.LocalRedisServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis refresh token 저장소를 인프로세스 Redis(LocalRedisServer)로 확인
+ * 두 저장소 인스턴스는 서로 다른 백엔드 인스턴스를 대신하며 같은 Redis를 공유
+ */
+class RedisRefreshTokenStoreTest {
+
+    private static final Duration REFRESH_TTL = Duration.ofDays(13);
+
+    private LocalRedisServer server;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisRefreshTokenStore store;
+    private RedisRefreshTokenStore otherInstanceStore;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = LocalRedisServer.start();
+        connectionFactory = server.connectionFactory();
+        store = newStore(REFRESH_TTL);
+        otherInstanceStore = newStore(REFRESH_TTL);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connectionFactory.destroy();
+        server.close();
+    }
+
+    @Test
+    void savedTokenIsVisibleFromAnotherInstanceWithNativeTtl() {
+        store.save(1L, "jti-1");
+
+        assertThat(otherInstanceStore.exists(1L, "jti-1")).isTrue();
+        assertThat(otherInstanceStore.exists(2L, "jti-1")).isFalse();
+        assertThat(server.pttl("refresh:1:jti-1")).isPositive().isLessThanOrEqualTo(REFRESH_TTL.toMillis());
+        assertThat(server.pttl("refresh:user:1")).isPositive().isLessThanOrEqualTo(REFRESH_TTL.toMillis());
+    }
+
+    @Test
+    void deleteRemovesTokenAndIndexEntry() {
+        store.save(1L, "jti-1");
+        store.save(1L, "jti-2");
+
+        otherInstanceStore.delete(1L, "jti-1");
+
+        assertThat(store.exists(1L, "jti-1")).isFalse();
+        assertThat(store.exists(1L, "jti-2")).isTrue();
+        assertThat(store.deleteAllForUser(1L)).isEqualTo(1);
+    }
+
+    @Test
+    void deleteAllForUserRemovesOnlyThatUsersSessions() {
+        store.save(1L, "jti-1");
+        store.save(1L, "jti-2");
+        store.save(2L, "jti-3");
+
+        assertThat(otherInstanceStore.deleteAllForUser(1L)).isEqualTo(2);
+
+        assertThat(store.exists(1L, "jti-1")).isFalse();
+        assertThat(store.exists(1L, "jti-2")).isFalse();
+        assertThat(store.exists(2L, "jti-3")).isTrue();
+        assertThat(server.pttl("refresh:user:1")).isEqualTo(-2);
+        assertThat(store.deleteAllForUser(1L)).isZero();
+    }
+
+    @Test
+    void expiredTokenIsRemovedByRedisWithoutPurge() throws InterruptedException {
+        RedisRefreshTokenStore shortLived = newStore(Duration.ofMillis(100));
+        shortLived.save(1L, "jti-1");
+        assertThat(shortLived.exists(1L, "jti-1")).isTrue();
+
+        Thread.sleep(200);
+
+        assertThat(shortLived.exists(1L, "jti-1")).isFalse();
+        assertThat(shortLived.purgeExpired()).isZero();
+        assertThat(shortLived.deleteAllForUser(1L)).isZero();
+    }
+
+    private RedisRefreshTokenStore newStore(Duration refreshTtl) {
+        JwtProperties props = new JwtProperties();
+        props.setRefreshTtl(refreshTtl);
+        StringRedisTemplate redis = new StringRedisTemplate(connectionFactory);
+        redis.afterPropertiesSet();
+        return new RedisRefreshTokenStore(redis, props);
+    }
+}